@@ -11,6 +11,10 @@ import org.uma.jmetalsp.observeddata.AlgorithmObservedData;
 import org.uma.jmetalsp.observeddata.ObservedValue;
 import org.uma.jmetalsp.observer.Observable;
 import org.uma.jmetalsp.observer.Observer;
+import org.uma.jmetalsp.util.PreferenceLane;
+import org.uma.jmetalsp.util.metrics.ChangeLatencyTracer;
+import org.uma.jmetalsp.util.metrics.Metrics;
+import org.uma.jmetalsp.util.restartstrategy.RestartRateLimiter;
 import org.uma.jmetalsp.util.restartstrategy.RestartStrategy;
 import org.uma.jmetalsp.util.restartstrategy.impl.CreateNRandomSolutions;
 import org.uma.jmetalsp.util.restartstrategy.impl.RemoveFirstNSolutions;
@@ -30,8 +34,14 @@ public class InDM2<S extends Solution<?>>
         implements Algorithm<List<S>>, DynamicAlgorithm<List<S>,
         AlgorithmObservedData>, Observer<ObservedValue<List<Double>>> {
   private int completedIterations;
-  private boolean stopAtTheEndOfTheCurrentIteration = false;
-  private Optional<List<Double>> newReferencePoint ;
+  private long lastSeenChangeEpoch;
+  private RestartRateLimiter restartRateLimiter;
+  private final ChangeLatencyTracer latencyTracer;
+  private final String metricsName ;
+  private final String generationsCounterName ;
+  private final String evaluationsCounterName ;
+  private volatile boolean stopAtTheEndOfTheCurrentIteration = false;
+  private final PreferenceLane<List<Double>> preferenceLane ;
  // private Map<String,List> algorithmData;
   private RestartStrategy<S> restartStrategyForProblemChange ;
   private RestartStrategy<S> restartStrategyForReferencePointChange ;
@@ -49,9 +59,15 @@ public class InDM2<S extends Solution<?>>
     this.observable = observable;
     this.evaluations = 0;
     this.maxEvaluations = maxEvaluations ;
-    this.newReferencePoint = Optional.ofNullable(null);
+    this.metricsName = Metrics.instanceName(getName()) ;
+    this.preferenceLane = new PreferenceLane<>(metricsName);
     //this.algorithmData = new HashMap<>();
     this.problem = problem;
+    this.lastSeenChangeEpoch = getDynamicProblem().getChangeEpoch();
+    this.restartRateLimiter = RestartRateLimiter.unlimited();
+    this.latencyTracer = new ChangeLatencyTracer(metricsName);
+    this.generationsCounterName = "algorithm." + metricsName + ".generations" ;
+    this.evaluationsCounterName = "algorithm." + metricsName + ".evaluations" ;
     this.restartStrategyForProblemChange = new RestartStrategy<>(
             new RemoveFirstNSolutions<S>(populationSize),
             new CreateNRandomSolutions<S>()) ;
@@ -83,11 +99,21 @@ public class InDM2<S extends Solution<?>>
     return this.observable;
   }
 
+  @Override
+  public void stop() {
+    stopAtTheEndOfTheCurrentIteration = true ;
+  }
+
   @Override
   public String getName() {
     return "InDM2";
   }
 
+  @Override
+  public String getMetricsName() {
+    return metricsName ;
+  }
+
   @Override
   public String getDescription() {
     return "Interactive Dynamic Multi-Objective Decision Making algorithm";
@@ -95,37 +121,69 @@ public class InDM2<S extends Solution<?>>
 
 
   protected boolean isStoppingConditionReached() {
-    if (evaluations >= maxEvaluations) {
-      observable.setChanged();
-      Map<String, Object> algorithmData = new HashMap<>() ;
-      algorithmData.put("numberOfIterations",completedIterations);
-      algorithmData.put("algorithmName", getName()) ;
-      algorithmData.put("problemName", problem.getName()) ;
-      algorithmData.put("numberOfObjectives", problem.getNumberOfObjectives()) ;
+    if (stopAtTheEndOfTheCurrentIteration) {
+      publishResult() ;
+      return true ;
+    }
 
-      observable.notifyObservers(new AlgorithmObservedData((List<Solution<?>>) interactiveAlgorithm.getResult(), algorithmData));
+    if (evaluations >= maxEvaluations) {
+      publishResult() ;
 
       //this.restartStrategyForProblemChange.restart(interactiveAlgorithm.getPopulation(), (DynamicProblem<S, ?>)this.problem);
       restart() ;
       initProgress();
       completedIterations++;
     }
-    return stopAtTheEndOfTheCurrentIteration;
+    return false ;
+  }
+
+  /**
+   * Notifies the current result to the observers of the algorithm
+   */
+  protected void publishResult() {
+    observable.setChanged();
+    Map<String, Object> algorithmData = new HashMap<>() ;
+    algorithmData.put("numberOfIterations",completedIterations);
+    algorithmData.put("algorithmName", getName()) ;
+    algorithmData.put("problemName", problem.getName()) ;
+    algorithmData.put("numberOfObjectives", problem.getNumberOfObjectives()) ;
+    algorithmData.put("changeEpoch", lastSeenChangeEpoch) ;
+    long eventTime = latencyTracer.resultPublished() ;
+    if (eventTime > 0) {
+      algorithmData.put("eventTime", eventTime) ;
+    }
+
+    observable.notifyObservers(new AlgorithmObservedData((List<Solution<?>>) interactiveAlgorithm.getResult(), algorithmData));
   }
 
 
   protected void updateProgress() {
-    if (newReferencePoint.isPresent()) {
-      this.updateNewReferencePoint(newReferencePoint.get());
+    Metrics.counter(generationsCounterName).increment();
+    Metrics.counter(evaluationsCounterName).increment(interactiveAlgorithm.getPopulation().size());
+
+    restartRateLimiter.newGeneration();
+
+    long changeEpoch = getDynamicProblem().getChangeEpoch() ;
+    List<Double> referencePoint = preferenceLane.poll() ;
+
+    if (referencePoint != null) {
+      if (changeEpoch != lastSeenChangeEpoch) {
+        latencyTracer.changeDetected(getDynamicProblem(), lastSeenChangeEpoch) ;
+        lastSeenChangeEpoch = changeEpoch ;
+      }
+      this.updateNewReferencePoint(referencePoint);
       this.restartStrategyForReferencePointChange.restart(interactiveAlgorithm.getPopulation(), (DynamicProblem<S, ?>) this.problem);
       restart() ;
-      newReferencePoint = Optional.ofNullable(null);
       evaluations = 0 ;
-    } else if (getDynamicProblem().hasTheProblemBeenModified()) {
+      latencyTracer.changeProcessed() ;
+      preferenceLane.preferenceApplied();
+    } else if ((changeEpoch != lastSeenChangeEpoch) && restartRateLimiter.tryRestart()) {
+      latencyTracer.changeDetected(getDynamicProblem(), lastSeenChangeEpoch) ;
+      lastSeenChangeEpoch = changeEpoch ;
       this.restartStrategyForProblemChange.restart(interactiveAlgorithm.getPopulation(), (DynamicProblem<S, ?>) this.problem);
       restart() ;
-      getDynamicProblem().reset();
       evaluations = 0 ;
+      latencyTracer.changeProcessed() ;
     } else {
       evaluations+=interactiveAlgorithm.getPopulation().size();
     }
@@ -166,6 +224,18 @@ public class InDM2<S extends Solution<?>>
     this.restartStrategyForProblemChange = (RestartStrategy<S>) restartStrategyForProblemChange;
   }
 
+  @Override
+  public void setRestartRateLimiter(RestartRateLimiter restartRateLimiter) {
+    this.restartRateLimiter = restartRateLimiter ;
+  }
+
+  /**
+   * Returns the lane delivering the reference points, which are applied before the pending changes of the problem
+   */
+  public PreferenceLane<List<Double>> getPreferenceLane() {
+    return preferenceLane ;
+  }
+
   public void setRestartStrategyForReferencePointChange(RestartStrategy<S> restartStrategyForReferencePointChange) {
     this.restartStrategyForReferencePointChange = restartStrategyForReferencePointChange ;
   }
@@ -193,6 +263,6 @@ public class InDM2<S extends Solution<?>>
       throw new JMetalException("The reference point size is not correct: " + data.getValue().size()) ;
     }
 
-    newReferencePoint = Optional.of(data.getValue()) ;
+    preferenceLane.offer(data.getValue());
   }
 }
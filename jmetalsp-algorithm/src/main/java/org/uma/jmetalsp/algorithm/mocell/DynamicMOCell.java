@@ -18,19 +18,32 @@ import org.uma.jmetal.operator.CrossoverOperator;
 import org.uma.jmetal.operator.MutationOperator;
 import org.uma.jmetal.operator.SelectionOperator;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.archive.BoundedArchive;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 import org.uma.jmetal.util.neighborhood.Neighborhood;
 import org.uma.jmetal.util.solutionattribute.impl.LocationAttribute;
-import org.uma.jmetalsp.DynamicAlgorithm;
 import org.uma.jmetalsp.DynamicProblem;
+import org.uma.jmetalsp.host.StepwiseAlgorithm;
 import org.uma.jmetalsp.observeddata.AlgorithmObservedData;
 import org.uma.jmetalsp.observer.Observable;
+import org.uma.jmetalsp.util.autotuning.CadenceController;
+import org.uma.jmetalsp.util.autotuning.TunableAlgorithm;
+import org.uma.jmetalsp.util.checkpoint.CheckpointManager;
+import org.uma.jmetalsp.util.checkpoint.Checkpointable;
+import org.uma.jmetalsp.util.checkpoint.SafePoint;
+import org.uma.jmetalsp.util.checkpoint.SolutionListCodec;
+import org.uma.jmetalsp.util.metrics.ChangeLatencyTracer;
+import org.uma.jmetalsp.util.metrics.Metrics;
+import org.uma.jmetalsp.util.restartstrategy.RestartRateLimiter;
 import org.uma.jmetalsp.util.restartstrategy.RestartStrategy;
 import org.uma.jmetalsp.util.restartstrategy.impl.CreateNRandomSolutions;
 import org.uma.jmetalsp.util.restartstrategy.impl.RemoveFirstNSolutions;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -46,12 +59,24 @@ import java.util.Map;
  */
 public class DynamicMOCell<S extends Solution<?>>
     extends MOCell<S>
-    implements DynamicAlgorithm<List<S>,AlgorithmObservedData> {
+    implements StepwiseAlgorithm<List<S>, AlgorithmObservedData>,
+        TunableAlgorithm<List<S>, AlgorithmObservedData>, Checkpointable {
 
   private int completedIterations ;
-  private boolean stopAtTheEndOfTheCurrentIteration = false ;
+  private long lastSeenChangeEpoch ;
+  private RestartRateLimiter restartRateLimiter ;
+  private volatile int evaluationBudget ;
+  private long numberOfComputedEvaluations ;
+  private CadenceController cadenceController ;
+  private final ChangeLatencyTracer latencyTracer ;
+  private final String metricsName ;
+  private final String generationsCounterName ;
+  private final String evaluationsCounterName ;
+  private volatile boolean stopAtTheEndOfTheCurrentIteration = false ;
   Observable<AlgorithmObservedData> observable ;
   private RestartStrategy<S> restartStrategyForProblemChange ;
+  private final SafePoint safePoint = new SafePoint() ;
+  private List<S> restoredPopulation ;
 
 
   public DynamicMOCell(DynamicProblem<S, ?> problem,
@@ -68,6 +93,13 @@ public class DynamicMOCell<S extends Solution<?>>
             selectionOperator, evaluator);
 
     completedIterations = 0 ;
+    lastSeenChangeEpoch = problem.getChangeEpoch() ;
+    evaluationBudget = maxEvaluations ;
+    this.restartRateLimiter = RestartRateLimiter.unlimited() ;
+    this.metricsName = Metrics.instanceName(getName()) ;
+    this.latencyTracer = new ChangeLatencyTracer(metricsName) ;
+    this.generationsCounterName = "algorithm." + metricsName + ".generations" ;
+    this.evaluationsCounterName = "algorithm." + metricsName + ".evaluations" ;
     this.observable = observable ;
     this.restartStrategyForProblemChange = new RestartStrategy<>(
             new RemoveFirstNSolutions<S>(populationSize),
@@ -80,40 +112,115 @@ public class DynamicMOCell<S extends Solution<?>>
   }
 
   @Override protected boolean isStoppingConditionReached() {
-    if (evaluations >= maxEvaluations) {
-      observable.setChanged() ;
-      Map<String, Object> algorithmData = new HashMap<>() ;
-
-      algorithmData.put("numberOfIterations",completedIterations);
-      algorithmData.put("algorithmName", getName()) ;
-      algorithmData.put("problemName", problem.getName()) ;
-      algorithmData.put("numberOfObjectives", problem.getNumberOfObjectives()) ;
+    if (stopAtTheEndOfTheCurrentIteration) {
+      publishResult() ;
+      return true ;
+    }
 
-      observable.notifyObservers(new AlgorithmObservedData((List<Solution<?>>) getResult(), algorithmData));
+    if (evaluations >= evaluationBudget) {
+      publishResult() ;
+      if (cadenceController != null) {
+        cadenceController.frontPublished(this);
+      }
 
       //observable.notifyObservers(new AlgorithmObservedData<S>(getResult(), algorithmData));
-      restart();
+      restartAfterPublishing();
       completedIterations++;
     }
-    return stopAtTheEndOfTheCurrentIteration;
+    return false ;
+  }
+
+  /**
+   * Notifies the current result to the observers of the algorithm
+   */
+  protected void publishResult() {
+    observable.setChanged() ;
+    Map<String, Object> algorithmData = new HashMap<>() ;
+
+    algorithmData.put("numberOfIterations",completedIterations);
+    algorithmData.put("algorithmName", getName()) ;
+    algorithmData.put("problemName", problem.getName()) ;
+    algorithmData.put("numberOfObjectives", problem.getNumberOfObjectives()) ;
+    algorithmData.put("changeEpoch", lastSeenChangeEpoch) ;
+    long eventTime = latencyTracer.resultPublished() ;
+    if (eventTime > 0) {
+      algorithmData.put("eventTime", eventTime) ;
+    }
+
+    observable.notifyObservers(new AlgorithmObservedData((List<Solution<?>>) getResult(), algorithmData));
   }
 
   @Override
   public void restart() {
-    this.restartStrategyForProblemChange.restart(getPopulation(), (DynamicProblem<S, ?>)getProblem());
+    restart(true);
+  }
+
+  /**
+   * Restarts the population after publishing a front. If the problem has changed since the last restart, the change
+   * is taken into account here, so it does not cause another restart in the next generation
+   */
+  private void restartAfterPublishing() {
+    long changeEpoch = getDynamicProblem().getChangeEpoch() ;
+    if (changeEpoch == lastSeenChangeEpoch) {
+      restart(false) ;
+    } else {
+      latencyTracer.changeDetected(getDynamicProblem(), lastSeenChangeEpoch) ;
+      lastSeenChangeEpoch = changeEpoch ;
+      restart(true) ;
+      latencyTracer.changeProcessed() ;
+    }
+  }
+
+  /**
+   * Restarts the population and evaluates the solutions that need it: the new ones and, if the problem has
+   * changed, the ones that have been kept
+   */
+  private void restart(boolean problemHasChanged) {
+    List<S> population = getPopulation() ;
+    int numberOfNewSolutions = restartStrategyForProblemChange.restart(population, getDynamicProblem()) ;
     SolutionListUtils.removeSolutionsFromList(getResult(),getResult().size());//clean archive
-    location = new LocationAttribute<>(getPopulation());
-    evaluator.evaluate(getPopulation(), getDynamicProblem()) ;
+    location = new LocationAttribute<>(population);
+    List<S> solutionsToEvaluate = restartStrategyForProblemChange.getSolutionsToEvaluate(population,
+            numberOfNewSolutions, problemHasChanged, getDynamicProblem()) ;
+    evaluator.evaluate(solutionsToEvaluate, getDynamicProblem()) ;
+    numberOfComputedEvaluations += solutionsToEvaluate.size() +
+            (restartStrategyForProblemChange.evaluatesTheNewSolutions() ? numberOfNewSolutions : 0) ;
     initProgress();
   }
 
   @Override protected void updateProgress() {
-    if (getDynamicProblem().hasTheProblemBeenModified()) {
+    long changeEpoch = getDynamicProblem().getChangeEpoch() ;
+    if ((changeEpoch != lastSeenChangeEpoch) && restartRateLimiter.tryRestart()) {
+      latencyTracer.changeDetected(getDynamicProblem(), lastSeenChangeEpoch) ;
+      lastSeenChangeEpoch = changeEpoch ;
       restart();
-      getDynamicProblem().reset();
+      evaluations = Math.max(evaluations,
+              (int) ((1.0 - restartStrategyForProblemChange.getEvaluationBudgetFactor()) * evaluationBudget)) ;
+      latencyTracer.changeProcessed() ;
     }
     evaluations ++ ;
+    numberOfComputedEvaluations ++ ;
     currentIndividual=(currentIndividual+1)%getMaxPopulationSize();
+
+    if (currentIndividual == 0) {
+      restartRateLimiter.newGeneration();
+      Metrics.counter(generationsCounterName).increment();
+      Metrics.counter(evaluationsCounterName).increment(getMaxPopulationSize());
+
+      safePoint.reached(this::writeState);
+    }
+  }
+
+  @Override protected List<S> createInitialPopulation() {
+    if (restoredPopulation == null) {
+      return super.createInitialPopulation() ;
+    }
+
+    List<S> population = restoredPopulation ;
+    restoredPopulation = null ;
+    location = new LocationAttribute<>(population);
+    lastSeenChangeEpoch = getDynamicProblem().getChangeEpoch() ;
+    return population ;
   }
 
   @Override
@@ -121,6 +228,11 @@ public class DynamicMOCell<S extends Solution<?>>
     return "DynamicMOCell";
   }
 
+  @Override
+  public String getMetricsName() {
+    return metricsName ;
+  }
+
   @Override
   public String getDescription() {
     return "Dynamic version of algorithm MOCell";
@@ -131,8 +243,97 @@ public class DynamicMOCell<S extends Solution<?>>
     return this.observable ;
   }
 
+  @Override
+  public void stop() {
+    stopAtTheEndOfTheCurrentIteration = true ;
+  }
+
   @Override
   public void setRestartStrategy(RestartStrategy<?> restartStrategy) {
     this.restartStrategyForProblemChange = (RestartStrategy<S>) restartStrategy;
   }
+
+  @Override
+  public void setRestartRateLimiter(RestartRateLimiter restartRateLimiter) {
+    this.restartRateLimiter = restartRateLimiter ;
+  }
+
+  @Override
+  public int getEvaluationBudget() {
+    return evaluationBudget ;
+  }
+
+  @Override
+  public void setEvaluationBudget(int evaluationBudget) {
+    this.evaluationBudget = evaluationBudget ;
+  }
+
+  @Override
+  public long getNumberOfComputedEvaluations() {
+    return numberOfComputedEvaluations ;
+  }
+
+  @Override
+  public int getPopulationSize() {
+    return getMaxPopulationSize() ;
+  }
+
+  @Override
+  public void setCadenceController(CadenceController cadenceController) {
+    this.cadenceController = cadenceController ;
+  }
+
+  /**
+   * Creates and evaluates the initial population, as done at the beginning of the run() method
+   */
+  @Override
+  public void initialize() {
+    setPopulation(createInitialPopulation());
+    setPopulation(evaluatePopulation(getPopulation()));
+    initProgress();
+  }
+
+  /**
+   * Executes an iteration of the loop of the run() method, so the algorithm can be executed by an
+   * {@link org.uma.jmetalsp.host.OptimizationHost}
+   */
+  @Override
+  public boolean step() {
+    if (isStoppingConditionReached()) {
+      return false ;
+    }
+
+    List<S> matingPopulation = selection(getPopulation()) ;
+    List<S> offspringPopulation = reproduction(matingPopulation) ;
+    offspringPopulation = evaluatePopulation(offspringPopulation) ;
+    setPopulation(replacement(getPopulation(), offspringPopulation));
+    updateProgress();
+
+    return true ;
+  }
+
+  /**
+   * Writes the number of completed iterations and the population, captured by the thread of the algorithm at
+   * the end of a generation. The archive is rebuilt from the population when the state is restored
+   */
+  @Override
+  public void writeCheckpoint(DataOutput output) throws IOException {
+    output.write(safePoint.capture(this::writeState, CheckpointManager.DEFAULT_SAFE_POINT_TIMEOUT));
+  }
+
+  @Override
+  public void readCheckpoint(DataInput input) throws IOException {
+    completedIterations = input.readInt() ;
+    List<S> population = SolutionListCodec.readSolutionList(input, getDynamicProblem()) ;
+    if (population.size() != getMaxPopulationSize()) {
+      throw new JMetalException("The checkpoint has a population of " + population.size() + " solutions, but " +
+              "the population size is " + getMaxPopulationSize()) ;
+    }
+    restoredPopulation = population ;
+  }
+
+  private void writeState(DataOutput output) throws IOException {
+    output.writeInt(completedIterations);
+    SolutionListCodec.writeSolutionList(getPopulation(), output);
+  }
 }
@@ -7,6 +7,9 @@ import org.uma.jmetalsp.DynamicAlgorithm;
 import org.uma.jmetalsp.DynamicProblem;
 import org.uma.jmetalsp.observeddata.AlgorithmObservedData;
 import org.uma.jmetalsp.observer.Observable;
+import org.uma.jmetalsp.util.metrics.ChangeLatencyTracer;
+import org.uma.jmetalsp.util.metrics.Metrics;
+import org.uma.jmetalsp.util.restartstrategy.RestartRateLimiter;
 import org.uma.jmetalsp.util.restartstrategy.RestartStrategy;
 
 import java.util.HashMap;
@@ -26,13 +29,25 @@ import java.util.Map;
 public class DynamicNSGAIII  <S extends Solution<?>> extends NSGAIII<S>
         implements DynamicAlgorithm<List<S>, AlgorithmObservedData> {
     private int completedIterations ;
-    private boolean stopAtTheEndOfTheCurrentIteration = false ;
+    private long lastSeenChangeEpoch ;
+    private RestartRateLimiter restartRateLimiter ;
+    private final ChangeLatencyTracer latencyTracer ;
+    private final String metricsName ;
+    private final String generationsCounterName ;
+    private final String evaluationsCounterName ;
+    private volatile boolean stopAtTheEndOfTheCurrentIteration = false ;
     private RestartStrategy<S> restartStrategyForProblemChange ;
 
     Observable<AlgorithmObservedData> observable ;
     public DynamicNSGAIII(DynamicNSGAIIIBuilder builder,Observable<AlgorithmObservedData> observable) {
         super(builder);
         this.observable=observable;
+        this.lastSeenChangeEpoch=getDynamicProblem().getChangeEpoch();
+        this.restartRateLimiter = RestartRateLimiter.unlimited();
+        this.metricsName = Metrics.instanceName(getName()) ;
+        this.latencyTracer = new ChangeLatencyTracer(metricsName);
+        this.generationsCounterName = "algorithm." + metricsName + ".generations" ;
+        this.evaluationsCounterName = "algorithm." + metricsName + ".evaluations" ;
 
     }
 
@@ -42,33 +57,57 @@ public class DynamicNSGAIII  <S extends Solution<?>> extends NSGAIII<S>
     }
     @Override
     protected boolean isStoppingConditionReached() {
-        if (iterations >= maxIterations) {
-            observable.setChanged() ;
-
-            Map<String, Object> algorithmData = new HashMap<>() ;
-
-            algorithmData.put("numberOfIterations",completedIterations);
-            algorithmData.put("algorithmName", getName()) ;
-            algorithmData.put("problemName", problem.getName()) ;
-            algorithmData.put("numberOfObjectives", problem.getNumberOfObjectives()) ;
+        if (stopAtTheEndOfTheCurrentIteration) {
+            publishResult() ;
+            return true ;
+        }
 
-            observable.notifyObservers(new AlgorithmObservedData((List<Solution<?>>) getPopulation(), algorithmData));
+        if (iterations >= maxIterations) {
+            publishResult() ;
 
 
-            restart();
-            evaluator.evaluate(getPopulation(), (Problem<S>) getDynamicProblem()) ;
+            restartAfterPublishing() ;
 
             initProgress();
             completedIterations++;
         }
-        return stopAtTheEndOfTheCurrentIteration ;
+        return false ;
     }
-    @Override protected void updateProgress() {
-        if (getDynamicProblem().hasTheProblemBeenModified()) {
-            restart();
 
-            evaluator.evaluate(getPopulation(), (Problem<S>) getDynamicProblem()) ;
-            getDynamicProblem().reset();
+    /**
+     * Notifies the current result to the observers of the algorithm
+     */
+    protected void publishResult() {
+        observable.setChanged() ;
+
+        Map<String, Object> algorithmData = new HashMap<>() ;
+
+        algorithmData.put("numberOfIterations",completedIterations);
+        algorithmData.put("algorithmName", getName()) ;
+        algorithmData.put("problemName", problem.getName()) ;
+        algorithmData.put("numberOfObjectives", problem.getNumberOfObjectives()) ;
+        algorithmData.put("changeEpoch", lastSeenChangeEpoch) ;
+        long eventTime = latencyTracer.resultPublished() ;
+        if (eventTime > 0) {
+            algorithmData.put("eventTime", eventTime) ;
+        }
+
+        observable.notifyObservers(new AlgorithmObservedData((List<Solution<?>>) getPopulation(), algorithmData));
+    }
+    @Override protected void updateProgress() {
+        Metrics.counter(generationsCounterName).increment();
+        Metrics.counter(evaluationsCounterName).increment(getMaxPopulationSize());
+
+        restartRateLimiter.newGeneration();
+
+        long changeEpoch = getDynamicProblem().getChangeEpoch() ;
+        if ((changeEpoch != lastSeenChangeEpoch) && restartRateLimiter.tryRestart()) {
+            latencyTracer.changeDetected(getDynamicProblem(), lastSeenChangeEpoch) ;
+            lastSeenChangeEpoch = changeEpoch ;
+            restartAndEvaluate(true) ;
+            iterations = Math.max(iterations,
+                    (int) ((1.0 - restartStrategyForProblemChange.getEvaluationBudgetFactor()) * maxIterations)) ;
+            latencyTracer.changeProcessed() ;
         }
         iterations += getMaxPopulationSize() ;
     }
@@ -78,6 +117,11 @@ public class DynamicNSGAIII  <S extends Solution<?>> extends NSGAIII<S>
         return "DynamicNSGAIII";
     }
 
+    @Override
+    public String getMetricsName() {
+        return metricsName ;
+    }
+
     @Override
     public String getDescription() {
         return "Dynamic version of algorithm NSGA-III";
@@ -88,13 +132,50 @@ public class DynamicNSGAIII  <S extends Solution<?>> extends NSGAIII<S>
         return this.observable ;
     }
 
+    @Override
+    public void stop() {
+        stopAtTheEndOfTheCurrentIteration = true ;
+    }
+
     @Override
     public void restart() {
         this.restartStrategyForProblemChange.restart(getPopulation(), (DynamicProblem<S, ?>)getProblem());
     }
 
+    /**
+     * Restarts the population after publishing a front. If the problem has changed since the last restart, the
+     * change is taken into account here, so it does not cause another restart in the next generation
+     */
+    private void restartAfterPublishing() {
+        long changeEpoch = getDynamicProblem().getChangeEpoch() ;
+        if (changeEpoch == lastSeenChangeEpoch) {
+            restartAndEvaluate(false) ;
+        } else {
+            latencyTracer.changeDetected(getDynamicProblem(), lastSeenChangeEpoch) ;
+            lastSeenChangeEpoch = changeEpoch ;
+            restartAndEvaluate(true) ;
+            latencyTracer.changeProcessed() ;
+        }
+    }
+
+    /**
+     * Restarts the population and evaluates the solutions that need it: the new ones and, if the problem has
+     * changed, the ones that have been kept
+     */
+    private void restartAndEvaluate(boolean problemHasChanged) {
+        List<S> population = getPopulation() ;
+        int numberOfNewSolutions = restartStrategyForProblemChange.restart(population, (DynamicProblem<S, ?>)getProblem()) ;
+        evaluator.evaluate(restartStrategyForProblemChange.getSolutionsToEvaluate(population, numberOfNewSolutions,
+                problemHasChanged, (DynamicProblem<S, ?>) getProblem()), (Problem<S>) getDynamicProblem()) ;
+    }
+
     @Override
     public void setRestartStrategy(RestartStrategy<?> restartStrategy) {
         this.restartStrategyForProblemChange = (RestartStrategy<S>) restartStrategy;
     }
+
+    @Override
+    public void setRestartRateLimiter(RestartRateLimiter restartRateLimiter) {
+        this.restartRateLimiter = restartRateLimiter ;
+    }
 }
@@ -25,6 +25,10 @@ import org.uma.jmetalsp.observeddata.AlgorithmObservedData;
 import org.uma.jmetalsp.observeddata.ObservedValue;
 import org.uma.jmetalsp.observer.Observable;
 import org.uma.jmetalsp.observer.Observer;
+import org.uma.jmetalsp.util.PreferenceLane;
+import org.uma.jmetalsp.util.metrics.ChangeLatencyTracer;
+import org.uma.jmetalsp.util.metrics.Metrics;
+import org.uma.jmetalsp.util.restartstrategy.RestartRateLimiter;
 import org.uma.jmetalsp.util.restartstrategy.RestartStrategy;
 import org.uma.jmetalsp.util.restartstrategy.impl.CreateNRandomSolutions;
 import org.uma.jmetalsp.util.restartstrategy.impl.RemoveFirstNSolutions;
@@ -46,12 +50,18 @@ public class DynamicRNSGAII<S extends Solution<?>>
         Observer<ObservedValue<List<Double>>> {
 
   private int completedIterations ;
-  private boolean stopAtTheEndOfTheCurrentIteration = false ;
+  private long lastSeenChangeEpoch ;
+  private RestartRateLimiter restartRateLimiter ;
+  private final ChangeLatencyTracer latencyTracer ;
+  private final String metricsName ;
+  private final String generationsCounterName ;
+  private final String evaluationsCounterName ;
+  private volatile boolean stopAtTheEndOfTheCurrentIteration = false ;
   private RestartStrategy<S> restartStrategyForProblemChange ;
   private RestartStrategy<S> restartStrategyForReferencePointChange ;
   Observable<AlgorithmObservedData> observable ;
   //private Map<String,List> algorithmData;
-  private Optional<List<S>> newReferencePoint ;
+  private final PreferenceLane<List<S>> preferenceLane ;
 
   public DynamicRNSGAII(DynamicProblem<S, ?> problem, int maxEvaluations, int populationSize,
                         CrossoverOperator<S> crossoverOperator,
@@ -60,8 +70,14 @@ public class DynamicRNSGAII<S extends Solution<?>>
                         SolutionListEvaluator<S> evaluator,
                         Observable<AlgorithmObservedData> observable,List<Double> referencePoint, double epsilon) {
     super(problem, maxEvaluations, populationSize, crossoverOperator, mutationOperator, selectionOperator, evaluator,referencePoint,epsilon);
-    this.newReferencePoint = Optional.ofNullable(null);
+    this.metricsName = Metrics.instanceName(getName()) ;
+    this.preferenceLane = new PreferenceLane<>(metricsName);
     this.completedIterations = 0 ;
+    this.lastSeenChangeEpoch = problem.getChangeEpoch() ;
+    this.restartRateLimiter = RestartRateLimiter.unlimited() ;
+    this.latencyTracer = new ChangeLatencyTracer(metricsName) ;
+    this.generationsCounterName = "algorithm." + metricsName + ".generations" ;
+    this.evaluationsCounterName = "algorithm." + metricsName + ".evaluations" ;
     this.observable = observable ;
     this.restartStrategyForProblemChange = new RestartStrategy<>(
             new RemoveFirstNSolutions<S>(populationSize),
@@ -79,30 +95,49 @@ public class DynamicRNSGAII<S extends Solution<?>>
   }
 
   @Override protected boolean isStoppingConditionReached() {
+    if (stopAtTheEndOfTheCurrentIteration) {
+      publishResult() ;
+      return true ;
+    }
+
     if (evaluations >= maxEvaluations) {
-      observable.setChanged() ;
+      publishResult() ;
 
-      Map<String, Object> algorithmData = new HashMap<>() ;
 
-      algorithmData.put("numberOfIterations",completedIterations);
-      algorithmData.put("algorithmName", getName()) ;
-      algorithmData.put("problemName", problem.getName()) ;
-      algorithmData.put("numberOfObjectives", problem.getNumberOfObjectives()) ;
+      restartAfterPublishing() ;
 
-      observable.notifyObservers(new AlgorithmObservedData((List<Solution<?>>) getResult(), algorithmData));
+      initProgress();
+      completedIterations++;
+    }
+    return false ;
+  }
 
+  /**
+   * Notifies the current result to the observers of the algorithm
+   */
+  protected void publishResult() {
+    observable.setChanged() ;
 
-      restart();
-      evaluator.evaluate(getPopulation(), getDynamicProblem()) ;
+    Map<String, Object> algorithmData = new HashMap<>() ;
 
-      initProgress();
-      completedIterations++;
+    algorithmData.put("numberOfIterations",completedIterations);
+    algorithmData.put("algorithmName", getName()) ;
+    algorithmData.put("problemName", problem.getName()) ;
+    algorithmData.put("numberOfObjectives", problem.getNumberOfObjectives()) ;
+    algorithmData.put("changeEpoch", lastSeenChangeEpoch) ;
+    long eventTime = latencyTracer.resultPublished() ;
+    if (eventTime > 0) {
+      algorithmData.put("eventTime", eventTime) ;
     }
-    return stopAtTheEndOfTheCurrentIteration ;
+
+    observable.notifyObservers(new AlgorithmObservedData((List<Solution<?>>) getResult(), algorithmData));
   }
 
 
   @Override protected void updateProgress() {
+    Metrics.counter(generationsCounterName).increment();
+    Metrics.counter(evaluationsCounterName).increment(getMaxPopulationSize());
+
     /*if (getDynamicProblem().hasTheProblemBeenModified()) {
       restart();
 
@@ -110,19 +145,30 @@ public class DynamicRNSGAII<S extends Solution<?>>
       getDynamicProblem().reset();
     }
     evaluations += getMaxPopulationSize() ;*/
-    if (newReferencePoint.isPresent()) {
-      this.updateNewReferencePoint(newReferencePoint.get());
+    restartRateLimiter.newGeneration();
+    long changeEpoch = getDynamicProblem().getChangeEpoch() ;
+    List<S> referencePoint = preferenceLane.poll() ;
+
+    if (referencePoint != null) {
+      if (changeEpoch != lastSeenChangeEpoch) {
+        latencyTracer.changeDetected(getDynamicProblem(), lastSeenChangeEpoch) ;
+        lastSeenChangeEpoch = changeEpoch ;
+      }
+      this.updateNewReferencePoint(referencePoint);
       this.restartStrategyForReferencePointChange.restart(getPopulation(), (DynamicProblem<S, ?>) getProblem());
       restart() ;
       evaluator.evaluate(getPopulation(), getDynamicProblem()) ;
-      newReferencePoint = Optional.ofNullable(null);
       evaluations = 0 ;
-    } else if (getDynamicProblem().hasTheProblemBeenModified()) {
+      latencyTracer.changeProcessed() ;
+      preferenceLane.preferenceApplied();
+    } else if ((changeEpoch != lastSeenChangeEpoch) && restartRateLimiter.tryRestart()) {
+      latencyTracer.changeDetected(getDynamicProblem(), lastSeenChangeEpoch) ;
+      lastSeenChangeEpoch = changeEpoch ;
       this.restartStrategyForProblemChange.restart(getPopulation(), (DynamicProblem<S, ?>) getProblem());
       restart() ;
       evaluator.evaluate(getPopulation(), getDynamicProblem()) ;
-      getDynamicProblem().reset();
       evaluations = 0 ;
+      latencyTracer.changeProcessed() ;
     } else {
       evaluations += getMaxPopulationSize() ;
     }
@@ -134,6 +180,11 @@ public class DynamicRNSGAII<S extends Solution<?>>
     return "Dynamic R-NSGA-II";
   }
 
+  @Override
+  public String getMetricsName() {
+    return metricsName ;
+  }
+
   @Override
   public String getDescription() {
     return "Dynamic version of algorithm R-NSGA-II";
@@ -144,15 +195,43 @@ public class DynamicRNSGAII<S extends Solution<?>>
     return this.observable ;
   }
 
+  @Override
+  public void stop() {
+    stopAtTheEndOfTheCurrentIteration = true ;
+  }
+
   @Override
   public void restart() {
     this.restartStrategyForProblemChange.restart(getPopulation(), (DynamicProblem<S, ?>)getProblem());
   }
 
+  /**
+   * Restarts and evaluates the population after publishing a front. If the problem has changed since the last
+   * restart, the change is taken into account here, so it does not cause another restart in the next generation
+   */
+  private void restartAfterPublishing() {
+    long changeEpoch = getDynamicProblem().getChangeEpoch() ;
+    boolean problemHasChanged = (changeEpoch != lastSeenChangeEpoch) ;
+    if (problemHasChanged) {
+      latencyTracer.changeDetected(getDynamicProblem(), lastSeenChangeEpoch) ;
+      lastSeenChangeEpoch = changeEpoch ;
+    }
+    restart();
+    evaluator.evaluate(getPopulation(), getDynamicProblem()) ;
+    if (problemHasChanged) {
+      latencyTracer.changeProcessed() ;
+    }
+  }
+
   @Override
   public void setRestartStrategy(RestartStrategy<?> restartStrategy) {
     this.restartStrategyForProblemChange = (RestartStrategy<S>) restartStrategy;
   }
+
+  @Override
+  public void setRestartRateLimiter(RestartRateLimiter restartRateLimiter) {
+    this.restartRateLimiter = restartRateLimiter ;
+  }
   public void updateNewReferencePoint(List<S> newReferencePoints) {
     List<Double> referencePoint = new ArrayList<>();
             //Arrays.asList(
@@ -170,11 +249,18 @@ public class DynamicRNSGAII<S extends Solution<?>>
     algorithmData.put("algorithmName", getName()) ;
     algorithmData.put("problemName", problem.getName()) ;
     algorithmData.put("numberOfObjectives", problem.getNumberOfObjectives()) ;
-    algorithmData.put("referencePoint",newReferencePoint);
+    algorithmData.put("referencePoint",referencePoint);
     List<S> emptyList = new ArrayList<>();
     observable.setChanged();
     observable.notifyObservers(new AlgorithmObservedData((List<Solution<?>>)emptyList, algorithmData));
   }
+  /**
+   * Returns the lane delivering the reference points, which are applied before the pending changes of the problem
+   */
+  public PreferenceLane<List<S>> getPreferenceLane() {
+    return preferenceLane ;
+  }
+
   public void setRestartStrategyForReferencePointChange(RestartStrategy<S> restartStrategyForReferencePointChange) {
     this.restartStrategyForReferencePointChange = restartStrategyForReferencePointChange ;
   }
@@ -199,7 +285,7 @@ public class DynamicRNSGAII<S extends Solution<?>>
       newReferences.add(solution);
 
     }
-    newReferencePoint = Optional.of(newReferences) ;
+    preferenceLane.offer(newReferences);
 
   }
 
@@ -21,14 +21,26 @@ import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.archive.BoundedArchive;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
-import org.uma.jmetalsp.DynamicAlgorithm;
 import org.uma.jmetalsp.DynamicProblem;
+import org.uma.jmetalsp.host.StepwiseAlgorithm;
 import org.uma.jmetalsp.observeddata.AlgorithmObservedData;
 import org.uma.jmetalsp.observer.Observable;
+import org.uma.jmetalsp.util.autotuning.CadenceController;
+import org.uma.jmetalsp.util.autotuning.TunableAlgorithm;
+import org.uma.jmetalsp.util.checkpoint.CheckpointManager;
+import org.uma.jmetalsp.util.checkpoint.Checkpointable;
+import org.uma.jmetalsp.util.checkpoint.SafePoint;
+import org.uma.jmetalsp.util.checkpoint.SolutionListCodec;
+import org.uma.jmetalsp.util.metrics.ChangeLatencyTracer;
+import org.uma.jmetalsp.util.metrics.Metrics;
+import org.uma.jmetalsp.util.restartstrategy.RestartRateLimiter;
 import org.uma.jmetalsp.util.restartstrategy.RestartStrategy;
 import org.uma.jmetalsp.util.restartstrategy.impl.CreateNRandomSolutions;
 import org.uma.jmetalsp.util.restartstrategy.impl.RemoveFirstNSolutions;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -38,13 +50,27 @@ import java.util.Map;
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 public class DynamicSMPSO extends SMPSO
-        implements DynamicAlgorithm<List<DoubleSolution>, AlgorithmObservedData> {
+        implements StepwiseAlgorithm<List<DoubleSolution>, AlgorithmObservedData>,
+        TunableAlgorithm<List<DoubleSolution>, AlgorithmObservedData>, Checkpointable {
 
   private int completedIterations;
+  private long lastSeenChangeEpoch;
+  private RestartRateLimiter restartRateLimiter;
+  private volatile int evaluationBudget;
+  private long numberOfComputedEvaluations;
+  private CadenceController cadenceController;
+  private final ChangeLatencyTracer latencyTracer;
+  private final String metricsName ;
+  private final String generationsCounterName ;
+  private final String evaluationsCounterName ;
   private SolutionListEvaluator<DoubleSolution> evaluator;
   private DynamicProblem<DoubleSolution, ?> problem;
-  private boolean stopAtTheEndOfTheCurrentIteration = false;
+  private volatile boolean stopAtTheEndOfTheCurrentIteration = false;
   private RestartStrategy<DoubleSolution> restartStrategyForProblemChange ;
+  private final BoundedArchive<DoubleSolution> leaderArchive ;
+  private final SafePoint safePoint = new SafePoint() ;
+  private List<DoubleSolution> restoredSwarm ;
+  private List<DoubleSolution> restoredLeaders ;
 
   private Observable<AlgorithmObservedData> observable;
 
@@ -61,7 +87,15 @@ public class DynamicSMPSO extends SMPSO
             c1Min, c1Max, c2Min, c2Max, weightMin, weightMax, changeVelocity1, changeVelocity2, evaluator);
     this.problem = problem;
     completedIterations = 0;
+    lastSeenChangeEpoch = problem.getChangeEpoch();
+    evaluationBudget = maxIterations * swarmSize;
+    this.restartRateLimiter = RestartRateLimiter.unlimited();
+    this.metricsName = Metrics.instanceName(getName()) ;
+    this.latencyTracer = new ChangeLatencyTracer(metricsName);
+    this.generationsCounterName = "algorithm." + metricsName + ".generations" ;
+    this.evaluationsCounterName = "algorithm." + metricsName + ".evaluations" ;
     this.evaluator = evaluator;
+    this.leaderArchive = leaders;
     this.observable = observable;
     this.restartStrategyForProblemChange = new RestartStrategy<>(
             new RemoveFirstNSolutions<>(swarmSize),
@@ -73,6 +107,11 @@ public class DynamicSMPSO extends SMPSO
     return "DynamicSMPSO";
   }
 
+  @Override
+  public String getMetricsName() {
+    return metricsName ;
+  }
+
   @Override
   public String getDescription() {
     return "Dynamic version of algorithm SMPSO";
@@ -86,37 +125,93 @@ public class DynamicSMPSO extends SMPSO
 
   @Override
   protected void updateProgress() {
-    if (getDynamicProblem().hasTheProblemBeenModified()) {
+    Metrics.counter(generationsCounterName).increment();
+    Metrics.counter(evaluationsCounterName).increment(getSwarm().size());
+    numberOfComputedEvaluations += getSwarm().size() ;
+
+    restartRateLimiter.newGeneration();
+
+    long changeEpoch = getDynamicProblem().getChangeEpoch() ;
+    if ((changeEpoch != lastSeenChangeEpoch) && restartRateLimiter.tryRestart()) {
+      latencyTracer.changeDetected(getDynamicProblem(), lastSeenChangeEpoch) ;
+      lastSeenChangeEpoch = changeEpoch ;
       restart();
-      getDynamicProblem().reset();
+      setIterations(Math.max(getIterations(), (int) ((1.0 - restartStrategyForProblemChange.getEvaluationBudgetFactor())
+              * evaluationBudget / getSwarm().size()))) ;
+      latencyTracer.changeProcessed() ;
     }
     int cont = getIterations();
     this.setIterations(cont + 1);
     updateLeadersDensityEstimator();
+
+    safePoint.reached(this::writeState);
+  }
+
+  @Override
+  protected List<DoubleSolution> createInitialSwarm() {
+    if (restoredSwarm == null) {
+      return super.createInitialSwarm();
+    }
+
+    List<DoubleSolution> swarm = restoredSwarm;
+    restoredSwarm = null;
+    lastSeenChangeEpoch = getDynamicProblem().getChangeEpoch();
+    return swarm;
+  }
+
+  @Override
+  protected void initializeLeader(List<DoubleSolution> swarm) {
+    super.initializeLeader(swarm);
+    if (restoredLeaders != null) {
+      for (DoubleSolution leader : restoredLeaders) {
+        leaderArchive.add(leader);
+      }
+      restoredLeaders = null;
+    }
   }
 
   @Override
   protected boolean isStoppingConditionReached() {
-    if (getIterations() >= getMaxIterations()) {
-      observable.setChanged();
-      Map<String, Object> algorithmData = new HashMap<>() ;
-
-      algorithmData.put("numberOfIterations",completedIterations);
-      algorithmData.put("algorithmName", getName()) ;
-      algorithmData.put("problemName", problem.getName()) ;
-      algorithmData.put("numberOfObjectives", problem.getNumberOfObjectives()) ;
-      List<Solution<?>> aux = new ArrayList<>();
-      List<DoubleSolution> solutions = getResult();
-      for (DoubleSolution solution:solutions) {
-        aux.add(solution);
+    if (stopAtTheEndOfTheCurrentIteration) {
+      publishResult() ;
+      return true ;
+    }
+
+    if (getIterations() * getSwarm().size() >= evaluationBudget) {
+      publishResult() ;
+      if (cadenceController != null) {
+        cadenceController.frontPublished(this);
       }
-      observable.notifyObservers(new AlgorithmObservedData(aux, algorithmData));
-      //observable.notifyObservers(new AlgorithmObservedData(getResult(), algorithmData));
 
-      restart();
+      restartAfterPublishing();
       completedIterations++;
     }
-    return stopAtTheEndOfTheCurrentIteration;
+    return false ;
+  }
+
+  /**
+   * Notifies the current result to the observers of the algorithm
+   */
+  protected void publishResult() {
+    observable.setChanged();
+    Map<String, Object> algorithmData = new HashMap<>() ;
+
+    algorithmData.put("numberOfIterations",completedIterations);
+    algorithmData.put("algorithmName", getName()) ;
+    algorithmData.put("problemName", problem.getName()) ;
+    algorithmData.put("numberOfObjectives", problem.getNumberOfObjectives()) ;
+    algorithmData.put("changeEpoch", lastSeenChangeEpoch) ;
+    long eventTime = latencyTracer.resultPublished() ;
+    if (eventTime > 0) {
+      algorithmData.put("eventTime", eventTime) ;
+    }
+    List<Solution<?>> aux = new ArrayList<>();
+    List<DoubleSolution> solutions = getResult();
+    for (DoubleSolution solution:solutions) {
+      aux.add(solution);
+    }
+    observable.notifyObservers(new AlgorithmObservedData(aux, algorithmData));
+    //observable.notifyObservers(new AlgorithmObservedData(getResult(), algorithmData));
   }
 
   @Override
@@ -124,12 +219,46 @@ public class DynamicSMPSO extends SMPSO
     return this.observable;
   }
 
+  @Override
+  public void stop() {
+    stopAtTheEndOfTheCurrentIteration = true ;
+  }
+
   @Override
   public void restart() {
-    this.restartStrategyForProblemChange.restart(getSwarm(), getDynamicProblem());
+    restart(true);
+  }
+
+  /**
+   * Restarts the swarm after publishing a front. If the problem has changed since the last restart, the change is
+   * taken into account here, so it does not cause another restart in the next generation
+   */
+  private void restartAfterPublishing() {
+    long changeEpoch = getDynamicProblem().getChangeEpoch() ;
+    if (changeEpoch == lastSeenChangeEpoch) {
+      restart(false) ;
+    } else {
+      latencyTracer.changeDetected(getDynamicProblem(), lastSeenChangeEpoch) ;
+      lastSeenChangeEpoch = changeEpoch ;
+      restart(true) ;
+      latencyTracer.changeProcessed() ;
+    }
+  }
+
+  /**
+   * Restarts the swarm and evaluates the particles that need it: the new ones and, if the problem has
+   * changed, the ones that have been kept. The velocity, memory and leaders of the whole swarm are reinitialized
+   */
+  private void restart(boolean problemHasChanged) {
+    List<DoubleSolution> swarm = getSwarm() ;
+    int numberOfNewSolutions = restartStrategyForProblemChange.restart(swarm, getDynamicProblem());
     //SolutionListUtils.restart(getSwarm(), (DoubleProblem) getDynamicProblem(), 100);
     SolutionListUtils.removeSolutionsFromList(getResult(), getResult().size());
-    evaluator.evaluate(getSwarm(), (DoubleProblem) getDynamicProblem());
+    List<DoubleSolution> solutionsToEvaluate = restartStrategyForProblemChange.getSolutionsToEvaluate(swarm,
+            numberOfNewSolutions, problemHasChanged, getDynamicProblem()) ;
+    evaluator.evaluate(solutionsToEvaluate, (DoubleProblem) getDynamicProblem());
+    numberOfComputedEvaluations += solutionsToEvaluate.size() +
+            (restartStrategyForProblemChange.evaluatesTheNewSolutions() ? numberOfNewSolutions : 0) ;
     initializeVelocity(getSwarm());
     initializeParticlesMemory(getSwarm());
     initializeLeader(getSwarm());
@@ -140,4 +269,91 @@ public class DynamicSMPSO extends SMPSO
   public void setRestartStrategy(RestartStrategy<?> restartStrategy) {
     this.restartStrategyForProblemChange = (RestartStrategy<DoubleSolution>) restartStrategy;
   }
+
+  @Override
+  public void setRestartRateLimiter(RestartRateLimiter restartRateLimiter) {
+    this.restartRateLimiter = restartRateLimiter ;
+  }
+
+  @Override
+  public int getEvaluationBudget() {
+    return evaluationBudget ;
+  }
+
+  @Override
+  public void setEvaluationBudget(int evaluationBudget) {
+    this.evaluationBudget = evaluationBudget ;
+  }
+
+  @Override
+  public long getNumberOfComputedEvaluations() {
+    return numberOfComputedEvaluations ;
+  }
+
+  @Override
+  public int getPopulationSize() {
+    return getSwarm().size() ;
+  }
+
+  @Override
+  public void setCadenceController(CadenceController cadenceController) {
+    this.cadenceController = cadenceController ;
+  }
+
+  /**
+   * Creates and evaluates the initial swarm, as done at the beginning of the run() method
+   */
+  @Override
+  public void initialize() {
+    setSwarm(createInitialSwarm());
+    setSwarm(evaluateSwarm(getSwarm()));
+    initializeVelocity(getSwarm());
+    initializeParticlesMemory(getSwarm());
+    initializeLeader(getSwarm());
+    initProgress();
+  }
+
+  /**
+   * Executes an iteration of the loop of the run() method, so the algorithm can be executed by an
+   * {@link org.uma.jmetalsp.host.OptimizationHost}
+   */
+  @Override
+  public boolean step() {
+    if (isStoppingConditionReached()) {
+      return false ;
+    }
+
+    updateVelocity(getSwarm());
+    updatePosition(getSwarm());
+    perturbation(getSwarm());
+    setSwarm(evaluateSwarm(getSwarm()));
+    updateLeaders(getSwarm());
+    updateParticlesMemory(getSwarm());
+    updateProgress();
+
+    return true ;
+  }
+
+  /**
+   * Writes the number of completed iterations, the swarm and the leaders, captured by the thread of the algorithm
+   * at the end of an iteration. The speeds and the memory of the particles are initialized again when the state
+   * is restored
+   */
+  @Override
+  public void writeCheckpoint(DataOutput output) throws IOException {
+    output.write(safePoint.capture(this::writeState, CheckpointManager.DEFAULT_SAFE_POINT_TIMEOUT));
+  }
+
+  @Override
+  public void readCheckpoint(DataInput input) throws IOException {
+    completedIterations = input.readInt() ;
+    restoredSwarm = SolutionListCodec.readSolutionList(input, getDynamicProblem()) ;
+    restoredLeaders = SolutionListCodec.readSolutionList(input, getDynamicProblem()) ;
+  }
+
+  private void writeState(DataOutput output) throws IOException {
+    output.writeInt(completedIterations);
+    SolutionListCodec.writeSolutionList(getSwarm(), output);
+    SolutionListCodec.writeSolutionList(getResult(), output);
+  }
 }
@@ -15,6 +15,10 @@ import org.uma.jmetalsp.observeddata.AlgorithmObservedData;
 import org.uma.jmetalsp.observeddata.ObservedValue;
 import org.uma.jmetalsp.observer.Observable;
 import org.uma.jmetalsp.observer.Observer;
+import org.uma.jmetalsp.util.PreferenceLane;
+import org.uma.jmetalsp.util.metrics.ChangeLatencyTracer;
+import org.uma.jmetalsp.util.metrics.Metrics;
+import org.uma.jmetalsp.util.restartstrategy.RestartRateLimiter;
 import org.uma.jmetalsp.util.restartstrategy.RestartStrategy;
 import org.uma.jmetalsp.util.restartstrategy.impl.CreateNRandomSolutions;
 import org.uma.jmetalsp.util.restartstrategy.impl.RemoveFirstNSolutions;
@@ -29,11 +33,17 @@ public class DynamicWASFGA<S extends Solution<?>>
         implements Algorithm<List<S>>, DynamicAlgorithm<List<S>,
         AlgorithmObservedData>, Observer<ObservedValue<List<Double>>> {
   private int completedIterations;
-  private boolean stopAtTheEndOfTheCurrentIteration = false;
+  private long lastSeenChangeEpoch;
+  private RestartRateLimiter restartRateLimiter;
+  private final ChangeLatencyTracer latencyTracer;
+  private final String metricsName ;
+  private final String generationsCounterName ;
+  private final String evaluationsCounterName ;
+  private volatile boolean stopAtTheEndOfTheCurrentIteration = false;
   private RestartStrategy<S> restartStrategyForProblemChange ;
   private String weightVectorsFileName;
   Observable<AlgorithmObservedData> observable ;
-  private Optional<List<S>> newReferencePoint ;
+  private final PreferenceLane<List<S>> preferenceLane ;
   //private Map<String, List> algorithmData;
   private double epsilon;
   private RestartStrategy<S> restartStrategyForReferencePointChange ;
@@ -49,12 +59,18 @@ public class DynamicWASFGA<S extends Solution<?>>
                        Observable<AlgorithmObservedData> observable) {
     super(problem, populationSize, maxIterations, crossoverOperator, mutationOperator, selectionOperator, evaluator,epsilon, referencePoint);
     this.completedIterations = 0;
+    this.lastSeenChangeEpoch = getDynamicProblem().getChangeEpoch();
+    this.restartRateLimiter = RestartRateLimiter.unlimited();
+    this.metricsName = Metrics.instanceName(getName()) ;
+    this.latencyTracer = new ChangeLatencyTracer(metricsName);
+    this.generationsCounterName = "algorithm." + metricsName + ".generations" ;
+    this.evaluationsCounterName = "algorithm." + metricsName + ".evaluations" ;
     this.observable = observable;
     this.evaluations = 0;
     this.maxEvaluations = maxIterations;
     this.weightVectorsFileName= null;
     this.epsilon = epsilon;
-    this.newReferencePoint = Optional.ofNullable(null);
+    this.preferenceLane = new PreferenceLane<>(metricsName);
     this.restartStrategyForProblemChange = new RestartStrategy<>(
         new RemoveFirstNSolutions<S>(populationSize),
         new CreateNRandomSolutions<S>()) ;
@@ -74,12 +90,18 @@ public class DynamicWASFGA<S extends Solution<?>>
       Observable<AlgorithmObservedData> observable,String weightVectorsFileName) {
     super(problem, populationSize, maxIterations, crossoverOperator, mutationOperator, selectionOperator, evaluator,epsilon, referencePoint,weightVectorsFileName);
     this.completedIterations = 0;
+    this.lastSeenChangeEpoch = getDynamicProblem().getChangeEpoch();
+    this.restartRateLimiter = RestartRateLimiter.unlimited();
+    this.metricsName = Metrics.instanceName(getName()) ;
+    this.latencyTracer = new ChangeLatencyTracer(metricsName);
+    this.generationsCounterName = "algorithm." + metricsName + ".generations" ;
+    this.evaluationsCounterName = "algorithm." + metricsName + ".evaluations" ;
     this.observable = observable;
     this.evaluations = 0;
     this.maxEvaluations = maxIterations;
     this.weightVectorsFileName= weightVectorsFileName;
     this.epsilon = epsilon;
-    this.newReferencePoint = Optional.ofNullable(null);
+    this.preferenceLane = new PreferenceLane<>(metricsName);
     this.restartStrategyForProblemChange = new RestartStrategy<>(
         new RemoveFirstNSolutions<S>(populationSize),
         new CreateNRandomSolutions<S>()) ;
@@ -122,11 +144,21 @@ public class DynamicWASFGA<S extends Solution<?>>
     return this.observable;
   }
 
+  @Override
+  public void stop() {
+    stopAtTheEndOfTheCurrentIteration = true ;
+  }
+
   @Override
   public String getName() {
     return "Dynamic WASF-GA";
   }
 
+  @Override
+  public String getMetricsName() {
+    return metricsName ;
+  }
+
   @Override
   public String getDescription() {
     return "Dynamic version of algorithm WASFGA";
@@ -134,43 +166,75 @@ public class DynamicWASFGA<S extends Solution<?>>
 
   @Override
   protected boolean isStoppingConditionReached() {
+    if (stopAtTheEndOfTheCurrentIteration) {
+      publishResult() ;
+      return true ;
+    }
+
     if (evaluations >= maxEvaluations) {
-      observable.setChanged();
-      Map<String, Object> algorithmData = new HashMap<>() ;
-      algorithmData.put("numberOfIterations",completedIterations);
-      algorithmData.put("algorithmName", getName()) ;
-      algorithmData.put("problemName", problem.getName()) ;
-      algorithmData.put("numberOfObjectives", problem.getNumberOfObjectives()) ;
-
-      observable.notifyObservers(new AlgorithmObservedData((List<Solution<?>>) getPopulation(), algorithmData));
-     // observable.notifyObservers(new AlgorithmObservedData<S>(getPopulation(), algorithmData));
+      publishResult() ;
 
       restart();
       completedIterations++;
     }
-    return stopAtTheEndOfTheCurrentIteration;
+    return false ;
+  }
+
+  /**
+   * Notifies the current result to the observers of the algorithm
+   */
+  protected void publishResult() {
+    observable.setChanged();
+    Map<String, Object> algorithmData = new HashMap<>() ;
+    algorithmData.put("numberOfIterations",completedIterations);
+    algorithmData.put("algorithmName", getName()) ;
+    algorithmData.put("problemName", problem.getName()) ;
+    algorithmData.put("numberOfObjectives", problem.getNumberOfObjectives()) ;
+    algorithmData.put("changeEpoch", lastSeenChangeEpoch) ;
+    long eventTime = latencyTracer.resultPublished() ;
+    if (eventTime > 0) {
+      algorithmData.put("eventTime", eventTime) ;
+    }
+
+    observable.notifyObservers(new AlgorithmObservedData((List<Solution<?>>) getPopulation(), algorithmData));
+     // observable.notifyObservers(new AlgorithmObservedData<S>(getPopulation(), algorithmData));
   }
 
   @Override
   protected void updateProgress() {
+    Metrics.counter(generationsCounterName).increment();
+    Metrics.counter(evaluationsCounterName).increment(getMaxPopulationSize());
+
     /*if (getDynamicProblem().hasTheProblemBeenModified()) {
       restart();
       getDynamicProblem().reset();
     }
     evaluations++;*/
 
-    if (newReferencePoint.isPresent()) {
-      this.updateNewReferencePoint(newReferencePoint.get());
+    restartRateLimiter.newGeneration();
+
+    long changeEpoch = getDynamicProblem().getChangeEpoch() ;
+    List<S> referencePoint = preferenceLane.poll() ;
+
+    if (referencePoint != null) {
+      if (changeEpoch != lastSeenChangeEpoch) {
+        latencyTracer.changeDetected(getDynamicProblem(), lastSeenChangeEpoch) ;
+        lastSeenChangeEpoch = changeEpoch ;
+      }
+      this.updateNewReferencePoint(referencePoint);
       this.restartStrategyForReferencePointChange.restart(getPopulation(), (DynamicProblem<S, ?>) getProblem());
       restart() ;
       evaluator.evaluate(getPopulation(), getDynamicProblem()) ;
-      newReferencePoint = Optional.ofNullable(null);
       evaluations = 0 ;
-    } else if (getDynamicProblem().hasTheProblemBeenModified()) {
+      latencyTracer.changeProcessed() ;
+      preferenceLane.preferenceApplied();
+    } else if ((changeEpoch != lastSeenChangeEpoch) && restartRateLimiter.tryRestart()) {
+      latencyTracer.changeDetected(getDynamicProblem(), lastSeenChangeEpoch) ;
+      lastSeenChangeEpoch = changeEpoch ;
       this.restartStrategyForProblemChange.restart(getPopulation(), (DynamicProblem<S, ?>) getProblem());
       restart() ;
-      getDynamicProblem().reset();
       evaluations = 0 ;
+      latencyTracer.changeProcessed() ;
     } else {
       evaluations ++ ;
     }
@@ -193,7 +257,7 @@ public class DynamicWASFGA<S extends Solution<?>>
     algorithmData.put("algorithmName", getName()) ;
     algorithmData.put("problemName", problem.getName()) ;
     algorithmData.put("numberOfObjectives", problem.getNumberOfObjectives()) ;
-    algorithmData.put("referencePoint",newReferencePoint);
+    algorithmData.put("referencePoint",referencePoint);
     List<S> emptyList = new ArrayList<>();
     observable.setChanged();
     observable.notifyObservers(new AlgorithmObservedData((List<Solution<?>>)emptyList, algorithmData));
@@ -204,6 +268,11 @@ public class DynamicWASFGA<S extends Solution<?>>
     this.restartStrategyForProblemChange = (RestartStrategy<S>) restartStrategy;
   }
 
+  @Override
+  public void setRestartRateLimiter(RestartRateLimiter restartRateLimiter) {
+    this.restartRateLimiter = restartRateLimiter ;
+  }
+
   //@Override
  // public void update(Observable<ObservedDoubleSolutionList>> observable,
  //     SingleObservedData<List<Double>> data) {
@@ -219,6 +288,13 @@ public class DynamicWASFGA<S extends Solution<?>>
     this.restartStrategyForProblemChange = restartStrategyForProblemChange;
   }
 
+  /**
+   * Returns the lane delivering the reference points, which are applied before the pending changes of the problem
+   */
+  public PreferenceLane<List<S>> getPreferenceLane() {
+    return preferenceLane ;
+  }
+
   public String getWeightVectorsFileName() {
     return weightVectorsFileName;
   }
@@ -235,6 +311,18 @@ public class DynamicWASFGA<S extends Solution<?>>
       throw new JMetalException("The reference point size is not correct: " + data.getValue().size()) ;
     }
 
-    newReferencePoint = Optional.of((List)data.getValue()) ;
+    List<S> newReferences = new ArrayList<>();
+    int numberOfPoints = data.getValue().size()/getDynamicProblem().getNumberOfObjectives();
+    int index = 0;
+    for (int i = 0; i < numberOfPoints ; i++) {
+      S solution = getDynamicProblem().createSolution();
+      for (int j = 0; j < getDynamicProblem().getNumberOfObjectives(); j++) {
+        solution.setObjective(j, data.getValue().get(index));
+        index++;
+      }
+      newReferences.add(solution);
+    }
+
+    preferenceLane.offer(newReferences);
   }
 }
@@ -30,6 +30,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 
 /**
  * Plots a chart with the produce fronts
@@ -38,6 +39,7 @@ import java.util.List;
  */
 public class ChartConsumer<S extends Solution<?>> implements
         DataConsumer<AlgorithmObservedData> {
+  private final CountDownLatch stopSignal = new CountDownLatch(1);
 
   //private DynamicAlgorithm<?, AlgorithmObservedData> dynamicAlgorithm;
   private String algorithmName;
@@ -65,15 +67,18 @@ public class ChartConsumer<S extends Solution<?>> implements
     //}
 
 
-    while (true) {
-      try {
-        Thread.sleep(1000000);
-      } catch (InterruptedException e) {
-        e.printStackTrace();
-      }
+    try {
+      stopSignal.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
     }
   }
 
+  @Override
+  public void stop() {
+    stopSignal.countDown();
+  }
+
   @Override
   public void update(Observable<AlgorithmObservedData> observable, AlgorithmObservedData data) {
     int numberOfIterations = 0 ;
@@ -29,6 +29,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 
 /**
  * Plots a chart with the produce fronts
@@ -37,6 +38,7 @@ import java.util.List;
  */
 public class ChartInDM2Consumer<S extends Solution<?>> implements
         DataConsumer<AlgorithmObservedData> {
+  private final CountDownLatch stopSignal = new CountDownLatch(1);
 
  // private DynamicAlgorithm<?, AlgorithmObservedData<S>> dynamicAlgorithm;
   private String nameAlgorithm;
@@ -60,15 +62,18 @@ public class ChartInDM2Consumer<S extends Solution<?>> implements
 
    // dynamicAlgorithm.getObservable().register(this);
 
-    while (true) {
-      try {
-        Thread.sleep(1000000);
-      } catch (InterruptedException e) {
-        e.printStackTrace();
-      }
+    try {
+      stopSignal.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
     }
   }
 
+  @Override
+  public void stop() {
+    stopSignal.countDown();
+  }
+
   @Override
   public void update(Observable<AlgorithmObservedData> observable, AlgorithmObservedData data) {
     int numberOfIterations = 0;
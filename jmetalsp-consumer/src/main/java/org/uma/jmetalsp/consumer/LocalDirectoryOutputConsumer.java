@@ -13,9 +13,11 @@ import org.uma.jmetalsp.observer.impl.KafkaBasedConsumer;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 
 public class LocalDirectoryOutputConsumer<S extends Solution<?>> implements
         DataConsumer<AlgorithmObservedData> {
+  private final CountDownLatch stopSignal = new CountDownLatch(1);
   private String outputDirectoryName;
   private int fileCounter = 0;
 
@@ -33,15 +35,18 @@ public class LocalDirectoryOutputConsumer<S extends Solution<?>> implements
 
   @Override
   public void run() {
-    while (true) {
-      try {
-        Thread.sleep(1000000);
-      } catch (InterruptedException e) {
-        e.printStackTrace();
-      }
+    try {
+      stopSignal.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
     }
   }
 
+  @Override
+  public void stop() {
+    stopSignal.countDown();
+  }
+
   private void createDataDirectory(String outputDirectoryName) {
     File outputDirectory = new File(outputDirectoryName);
 
@@ -22,6 +22,7 @@ import org.uma.jmetalsp.observeddata.ObservedValue;
 import org.uma.jmetalsp.observer.Observable;
 
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 
 /**
  * This consumer receives a list of solutions and prints information about it
@@ -30,6 +31,7 @@ import java.util.List;
  */
 public class SimpleSolutionListConsumer<S extends Solution<?>> implements
         DataConsumer<ObservedValue<List<ObservedSolution>>> {
+  private final CountDownLatch stopSignal = new CountDownLatch(1);
 
   private DynamicAlgorithm<?, ObservedValue<List<ObservedSolution>>> dynamicAlgorithm;
 
@@ -45,13 +47,18 @@ public class SimpleSolutionListConsumer<S extends Solution<?>> implements
 
     dynamicAlgorithm.getObservable().register(this);
 
-    while (true) {
-      try {
-        Thread.sleep(1000000);
-      } catch (InterruptedException e) {
-        e.printStackTrace();
-      }
+    try {
+      stopSignal.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
     }
+
+    dynamicAlgorithm.getObservable().unregister(this);
+  }
+
+  @Override
+  public void stop() {
+    stopSignal.countDown();
   }
 
   @Override
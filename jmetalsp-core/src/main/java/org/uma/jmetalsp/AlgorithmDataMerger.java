@@ -0,0 +1,14 @@
+package org.uma.jmetalsp;
+
+import org.uma.jmetalsp.observer.Observable;
+import org.uma.jmetalsp.observer.Observer;
+
+/**
+ * Interface representing a component that observes the data published by several dynamic algorithms and combines
+ * them into a single stream of data, which is notified through its own observable
+ *
+ * @param <O> Observed data
+ */
+public interface AlgorithmDataMerger<O extends ObservedData<?>> extends Observer<O> {
+  Observable<O> getObservable() ;
+}
@@ -6,6 +6,14 @@ import org.uma.jmetalsp.observer.Observer;
  * Created by ajnebro on 21/4/16.
  */
 public interface DataConsumer<O extends ObservedData<?>> extends Runnable, Observer<O> {
+  /**
+   * Starts the consumer. The method does not return until {@link #stop()} is invoked
+   */
   @Override
   void run() ;
+
+  /**
+   * Stops the consumer, making its run() method return
+   */
+  void stop() ;
 }
@@ -2,6 +2,7 @@ package org.uma.jmetalsp;
 
 import org.uma.jmetal.algorithm.Algorithm;
 import org.uma.jmetalsp.observer.Observable;
+import org.uma.jmetalsp.util.restartstrategy.RestartRateLimiter;
 import org.uma.jmetalsp.util.restartstrategy.RestartStrategy;
 
 /**
@@ -12,5 +13,26 @@ public interface DynamicAlgorithm<Result, O extends ObservedData<?>> extends Alg
 
   void restart();
   void setRestartStrategy(RestartStrategy<?> restartStrategy);
+
+  /**
+   * Sets the policy bounding how often the algorithm restarts when the problem changes. By default, the algorithm
+   * restarts on every change
+   */
+  void setRestartRateLimiter(RestartRateLimiter restartRateLimiter);
   Observable<O> getObservable() ;
+
+  /**
+   * Returns the name identifying this instance of the algorithm in the metric names. By default it is the name of
+   * the algorithm; algorithms publishing metrics return a name obtained with
+   * {@link org.uma.jmetalsp.util.metrics.Metrics#instanceName(String)}, so two instances do not share them
+   */
+  default String getMetricsName() {
+    return getName() ;
+  }
+
+  /**
+   * Requests the algorithm to finish at the end of the current iteration. Before finishing, the algorithm
+   * notifies its current result to its observers, and then its run() method returns
+   */
+  void stop() ;
 }
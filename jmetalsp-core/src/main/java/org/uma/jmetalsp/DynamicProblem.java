@@ -10,6 +10,40 @@ import org.uma.jmetalsp.observer.Observer;
 public interface DynamicProblem<S extends Solution<?>, O extends ObservedData<?>>
         extends Problem<S>, Observer<O> {
 
+  /**
+   * @deprecated A change notified between this method and {@link #reset()} is lost; algorithms should compare
+   * {@link #getChangeEpoch()} with the last epoch they have seen
+   */
+  @Deprecated
   boolean hasTheProblemBeenModified() ;
+
+  /**
+   * @deprecated See {@link #hasTheProblemBeenModified()}
+   */
+  @Deprecated
 	void reset() ;
+
+  /**
+   * @return A counter that is incremented every time the problem is modified. It starts at 0 and never decreases
+   */
+  long getChangeEpoch() ;
+
+  /**
+   * @return The event time of the data that caused the change with the given epoch (see
+   * {@link ObservedData#getEventTime()}), or 0 if it is unknown
+   */
+  default long getChangeEventTime(long changeEpoch) {
+    return 0 ;
+  }
+
+  /**
+   * @return A cheap hash of the current state of the problem, equal for states that are the same or similar enough
+   * to share their Pareto fronts (see {@link org.uma.jmetalsp.util.StateFingerprint}), or 0 if it is unknown
+   */
+  default long getStateFingerprint() {
+    return 0 ;
+  }
+
+  void addChangeListener(ProblemChangeListener listener) ;
+  void removeChangeListener(ProblemChangeListener listener) ;
 }
@@ -0,0 +1,18 @@
+package org.uma.jmetalsp;
+
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+
+/**
+ * Interface representing a dynamic problem that can update the objectives of a solution after a change faster than
+ * evaluating it again, taking into account only the parts of the problem that have changed since the solution was
+ * evaluated.
+ */
+public interface IncrementallyEvaluableProblem<S extends Solution<?>> extends Problem<S> {
+  /**
+   * Updates the objectives (and constraints) of a solution to the current state of the problem. The variables of the
+   * solution must not have changed since it was last evaluated; a solution that has never been evaluated by the
+   * problem is fully evaluated
+   */
+  void reevaluate(S solution) ;
+}
@@ -2,12 +2,32 @@ package org.uma.jmetalsp;
 
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
 import org.uma.jmetalsp.observer.Observer;
+import org.uma.jmetalsp.pipeline.PipelineStage;
+import org.uma.jmetalsp.util.autotuning.CadenceController;
+import org.uma.jmetalsp.util.autotuning.TunableAlgorithm;
+import org.uma.jmetalsp.util.checkpoint.CheckpointManager;
+import org.uma.jmetalsp.util.metrics.MeteredObserver;
+import org.uma.jmetalsp.util.metrics.Metrics;
+import org.uma.jmetalsp.util.metrics.MetricsRegistry;
+import org.uma.jmetalsp.util.metrics.impl.NoOpMetricsRegistry;
+import org.uma.jmetalsp.util.restartstrategy.RestartRateLimiter;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
 
 /**
+ * Application running one or more dynamic algorithms that solve the same dynamic problem. The streaming data
+ * sources update the problem, which is shared by all the algorithms. If several algorithms are added, their
+ * data can be combined by an {@link AlgorithmDataMerger} before being sent to the data consumers; otherwise,
+ * the consumers receive the data of every algorithm.
  *
  * @author Antonio J. Nebro
  *
@@ -21,22 +41,37 @@ public class JMetalSPApplication<
         A extends DynamicAlgorithm<?, ? extends ObservedData<?>>> {
 
   private List<StreamingDataSource<?>> streamingDataSourceList;
+  private List<Observer> streamingDataSourceObserverList;
   private List<DataConsumer<?>> algorithmDataConsumerList;
   private StreamingRuntime streamingRuntime;
 
   private P problem;
-  private A algorithm;
+  private List<A> algorithmList;
+  private AlgorithmDataMerger<?> algorithmDataMerger;
+  private RestartRateLimiter restartRateLimiter;
+  private CadenceController cadenceController;
+  private CheckpointManager checkpointManager;
+  private long checkpointPeriod;
+
+  private List<Thread> algorithmThreadList;
+  private List<Future<?>> consumerFutureList;
+  private ScheduledExecutorService pipelineScheduler;
 
   public JMetalSPApplication() {
     this.streamingDataSourceList = null;
     this.algorithmDataConsumerList = null;
     this.streamingRuntime = null;
+    this.algorithmList = new ArrayList<>();
+    this.algorithmDataMerger = null;
+    this.restartRateLimiter = null;
+    this.cadenceController = null;
+    this.checkpointManager = null;
   }
 
   public JMetalSPApplication(P problem,A algorithm) {
     this();
     this.problem = problem;
-    this.algorithm = algorithm;
+    this.algorithmList.add(algorithm);
   }
 
   public JMetalSPApplication<S,P,A> setProblem(P problem) {
@@ -46,18 +81,79 @@ public class JMetalSPApplication<
   }
 
   public JMetalSPApplication<S,P,A> setAlgorithm(A algorithm) {
-    this.algorithm = algorithm;
+    this.algorithmList.clear();
+    this.algorithmList.add(algorithm);
+
+    return this;
+  }
+
+  /**
+   * Adds an algorithm to the application. All the algorithms solve the problem of the application, so they must
+   * have been built with the same problem instance
+   */
+  public JMetalSPApplication<S,P,A> addAlgorithm(A algorithm) {
+    this.algorithmList.add(algorithm);
+
+    return this;
+  }
+
+  /**
+   * Sets the component combining the data of the algorithms before sending them to the data consumers
+   */
+  public JMetalSPApplication<S,P,A> setAlgorithmDataMerger(AlgorithmDataMerger<?> algorithmDataMerger) {
+    this.algorithmDataMerger = algorithmDataMerger;
+
+    return this;
+  }
+
+  /**
+   * Sets the policy bounding how often the algorithms restart when the problem changes. Each algorithm gets its
+   * own copy of the limiter when the application is run
+   */
+  public JMetalSPApplication<S,P,A> setRestartRateLimiter(RestartRateLimiter restartRateLimiter) {
+    this.restartRateLimiter = restartRateLimiter;
+
+    return this;
+  }
+
+  /**
+   * Sets the controller adjusting the evaluation budget of the algorithms so that they publish their fronts with
+   * a target period. Each algorithm implementing {@link TunableAlgorithm} gets its own copy of the controller when
+   * the application is run; the budget of the other algorithms is fixed
+   */
+  public JMetalSPApplication<S,P,A> setCadenceController(CadenceController cadenceController) {
+    this.cadenceController = cadenceController;
+
+    return this;
+  }
+
+  /**
+   * Sets the manager writing periodic checkpoints of the components registered in it (algorithms, problem,
+   * streaming data sources). When the application is run, the state of the components is restored from the
+   * last checkpoint, if any; when it is stopped, a last checkpoint is written
+   * @param periodInMilliseconds Time between checkpoints
+   */
+  public JMetalSPApplication<S,P,A> setCheckpointManager(CheckpointManager checkpointManager, long periodInMilliseconds) {
+    this.checkpointManager = checkpointManager;
+    this.checkpointPeriod = periodInMilliseconds;
 
     return this;
   }
 
+  /**
+   * Adds a streaming data source whose data are sent to an observer, which is typically the problem or the first
+   * {@link PipelineStage} of a chain of stages ending in the problem
+   */
   public JMetalSPApplication<S,P,A> addStreamingDataSource(StreamingDataSource<?> streamingDataSource,Observer observer) {
     if (streamingDataSourceList == null) {
       streamingDataSourceList = new ArrayList<>();
+      streamingDataSourceObserverList = new ArrayList<>();
     }
-    streamingDataSource.getObservable().register(observer);
+    streamingDataSource.getObservable().register(
+            new MeteredObserver<>(observer, "source." + streamingDataSource.getClass().getSimpleName()));
 
     streamingDataSourceList.add(streamingDataSource);
+    streamingDataSourceObserverList.add(observer);
 
     return this;
   }
@@ -67,7 +163,6 @@ public class JMetalSPApplication<
       algorithmDataConsumerList = new ArrayList<>();
     }
 
-    this.algorithm.getObservable().register((Observer)consumer);
     algorithmDataConsumerList.add(consumer);
 
     return this;
@@ -79,34 +174,227 @@ public class JMetalSPApplication<
     return this;
   }
 
+  /**
+   * Sets the registry where the metrics of the application (data produced by the streaming data sources, time
+   * spent by the observers, generations and evaluations of the algorithm, restarts, etc.) are published. The
+   * registry is shared by all the applications of the JVM, whose algorithms and problems are distinguished by
+   * their instance names (see {@link Metrics#instanceName(String)}), so an application cannot replace the
+   * registry set by another one
+   * @throws JMetalException if a different registry has already been set
+   */
+  public JMetalSPApplication<S,P,A> setMetricsRegistry(MetricsRegistry metricsRegistry) {
+    MetricsRegistry currentRegistry = Metrics.getRegistry();
+    if ((currentRegistry != metricsRegistry) && !(currentRegistry instanceof NoOpMetricsRegistry)) {
+      throw new JMetalException("Another metrics registry is already in use: " + currentRegistry);
+    }
+    Metrics.setRegistry(metricsRegistry);
+
+    return this;
+  }
+
   public void run() throws InterruptedException {
     fieldChecking();
+    registerTheDataConsumers();
+    if (checkpointManager != null) {
+      restoreTheLastCheckpoint();
+      checkpointManager.start(checkpointPeriod);
+    }
 
-    Thread algorithmThread = new Thread(algorithm);
-    List<Thread> consumerThreadList = new ArrayList<Thread>(algorithmDataConsumerList.size());
-    for (DataConsumer<?> consumer : algorithmDataConsumerList) {
-      Thread thread = new Thread(consumer);
-      consumerThreadList.add(thread);
-      thread.start();
+    algorithmThreadList = new ArrayList<>();
+    for (A algorithm : algorithmList) {
+      if (restartRateLimiter != null) {
+        algorithm.setRestartRateLimiter(restartRateLimiter.copy());
+      }
+      if ((cadenceController != null) && (algorithm instanceof TunableAlgorithm)) {
+        ((TunableAlgorithm<?, ?>) algorithm).setCadenceController(cadenceController.copy());
+      }
+      algorithmThreadList.add(new Thread(algorithm, "Algorithm-" + algorithm.getName()));
+    }
+    consumerFutureList = streamingRuntime.startDataConsumers(algorithmDataConsumerList);
+    for (Thread algorithmThread : algorithmThreadList) {
+      algorithmThread.start();
     }
-    algorithmThread.start();
 
+    startThePipelineStages();
     streamingRuntime.startStreamingDataSources(streamingDataSourceList);
 
-    for (Thread consumerThread : consumerThreadList) {
-      consumerThread.join();
+    waitForTheDataConsumers();
+    for (Thread algorithmThread : algorithmThreadList) {
+      algorithmThread.join();
+    }
+  }
+
+  /**
+   * Stops the application. The streaming data sources are stopped first, and the pipeline stages observing them
+   * notify their pending data; then the algorithms finish their current iteration and notify their last result,
+   * which is delivered to the data consumers before they are stopped. If there is a checkpoint manager, a last
+   * checkpoint is written once the algorithms have finished.
+   * Finally, the observables of the sources, the algorithms and the merger are shut down, releasing their
+   * dispatcher threads, and the streaming runtime is stopped. When this method returns, the {@link #run()} method has returned
+   * or is about to return.
+   */
+  public void stop() throws InterruptedException {
+    if (algorithmThreadList == null) {
+      throw new JMetalException("The application is not running");
     }
 
-    algorithmThread.join();
+    if (streamingDataSourceList != null) {
+      for (StreamingDataSource<?> streamingDataSource : streamingDataSourceList) {
+        streamingDataSource.stop();
+      }
+      for (Observer observer : streamingDataSourceObserverList) {
+        if (observer instanceof PipelineStage) {
+          ((PipelineStage) observer).stop();
+        }
+      }
+    }
+    if (pipelineScheduler != null) {
+      pipelineScheduler.shutdownNow();
+      pipelineScheduler = null;
+    }
+
+    for (A algorithm : algorithmList) {
+      algorithm.stop();
+    }
+    for (Thread algorithmThread : algorithmThreadList) {
+      algorithmThread.join();
+    }
+    for (A algorithm : algorithmList) {
+      algorithm.getObservable().drain();
+    }
+    if (algorithmDataMerger != null) {
+      algorithmDataMerger.getObservable().drain();
+    }
+
+    if (checkpointManager != null) {
+      try {
+        checkpointManager.stop();
+      } catch (IOException e) {
+        throw new JMetalException("Error writing the last checkpoint", e);
+      }
+    }
+
+    for (DataConsumer<?> consumer : algorithmDataConsumerList) {
+      consumer.stop();
+    }
+    waitForTheDataConsumers();
+
+    shutdownTheObservables();
+    streamingRuntime.stop();
+  }
+
+  /**
+   * Starts the pipeline stages observing the streaming data sources and the stages registered after them. Their
+   * tasks are scheduled in the scheduler of the streaming runtime or, if it does not provide one, in a single
+   * daemon thread owned by the application
+   */
+  private void startThePipelineStages() {
+    if (streamingDataSourceList == null) {
+      return;
+    }
+
+    ScheduledExecutorService scheduler = streamingRuntime.getScheduler();
+    for (Observer observer : streamingDataSourceObserverList) {
+      if (observer instanceof PipelineStage) {
+        if (scheduler == null) {
+          pipelineScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "JMetalSPApplication-scheduler");
+            thread.setDaemon(true);
+            return thread;
+          });
+          scheduler = pipelineScheduler;
+        }
+        ((PipelineStage) observer).start(scheduler);
+      }
+    }
+  }
+
+  /**
+   * Releases the threads of the observables in which the application has registered observers: those of the
+   * streaming data sources, of the algorithms and of the algorithm data merger
+   */
+  private void shutdownTheObservables() {
+    if (streamingDataSourceList != null) {
+      for (StreamingDataSource<?> streamingDataSource : streamingDataSourceList) {
+        streamingDataSource.getObservable().shutdown();
+      }
+    }
+    for (A algorithm : algorithmList) {
+      algorithm.getObservable().shutdown();
+    }
+    if (algorithmDataMerger != null) {
+      algorithmDataMerger.getObservable().shutdown();
+    }
+  }
+
+  /**
+   * Returns the number of threads each algorithm can use (e.g. to configure a multithreaded solution list
+   * evaluator) so that the algorithms of the application do not oversubscribe the available processors
+   */
+  public static int getNumberOfThreadsPerAlgorithm(int numberOfAlgorithms) {
+    if (numberOfAlgorithms <= 0) {
+      throw new JMetalException("The number of algorithms must be positive: " + numberOfAlgorithms);
+    }
+    return Math.max(1, Runtime.getRuntime().availableProcessors() / numberOfAlgorithms);
+  }
+
+  private void restoreTheLastCheckpoint() {
+    try {
+      if (checkpointManager.restore()) {
+        JMetalLogger.logger.info("State restored from " + checkpointManager.getCheckpointFile());
+      }
+    } catch (IOException e) {
+      throw new JMetalException("Error restoring the checkpoint " + checkpointManager.getCheckpointFile(), e);
+    }
+  }
+
+  /**
+   * Registers the data consumers in the observable of the algorithm data merger or, if there is no merger, in the
+   * observables of all the algorithms
+   */
+  private void registerTheDataConsumers() {
+    if (algorithmDataMerger != null) {
+      for (A algorithm : algorithmList) {
+        algorithm.getObservable().register((Observer) algorithmDataMerger);
+      }
+    }
+
+    for (DataConsumer<?> consumer : algorithmDataConsumerList) {
+      Observer meteredObserver =
+              new MeteredObserver<>((Observer)consumer, "consumer." + consumer.getClass().getSimpleName());
+      if (algorithmDataMerger != null) {
+        algorithmDataMerger.getObservable().register(meteredObserver);
+      } else {
+        for (A algorithm : algorithmList) {
+          algorithm.getObservable().register(meteredObserver);
+        }
+      }
+    }
+  }
+
+  private void waitForTheDataConsumers() throws InterruptedException {
+    for (Future<?> consumerFuture : consumerFutureList) {
+      try {
+        consumerFuture.get();
+      } catch (CancellationException e) {
+        // The consumer has been cancelled by the streaming runtime
+      } catch (ExecutionException e) {
+        throw new JMetalException("Error running a data consumer", e);
+      }
+    }
   }
 
   private void fieldChecking() {
     if (problem == null) {
       throw new JMetalException("The problem is null");
-    } else if (algorithm == null) {
-      throw new JMetalException("The algorithm algorithm is null");
+    } else if (algorithmList.isEmpty()) {
+      throw new JMetalException("The algorithm list is empty");
+    } else if (algorithmList.contains(null)) {
+      throw new JMetalException("The algorithm list contains a null algorithm");
     } else if (algorithmDataConsumerList == null) {
       throw new JMetalException("The algorithm data consumer list is null");
+    } else if (streamingRuntime == null) {
+      throw new JMetalException("The streaming runtime is null");
     }
   }
 }
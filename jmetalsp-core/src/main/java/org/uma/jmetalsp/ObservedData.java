@@ -14,4 +14,19 @@ public interface ObservedData<T> extends Serializable {
   String toJson() ;
   ObservedData fromJson(String jsonString) ;
   T getData();
+
+  /**
+   * @return The time (in milliseconds since the epoch) at which the data were created by their source, or 0 if it
+   * is unknown. It is used to measure the latency from the source to the fronts published by the algorithms
+   */
+  default long getEventTime() {
+    return 0 ;
+  }
+
+  /**
+   * Sets the event time of the data, e.g., when they are re-emitted by a replay of a recorded run. Data without
+   * an event time ignore it
+   */
+  default void setEventTime(long eventTime) {
+  }
 }
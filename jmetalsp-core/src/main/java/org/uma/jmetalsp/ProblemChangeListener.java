@@ -0,0 +1,10 @@
+package org.uma.jmetalsp;
+
+/**
+ * Interface representing a component that is notified every time a {@link DynamicProblem} changes. The
+ * notification is carried out by the thread that modifies the problem, so implementations should return quickly.
+ */
+@FunctionalInterface
+public interface ProblemChangeListener {
+  void problemChanged(long changeEpoch) ;
+}
@@ -8,5 +8,11 @@ import org.uma.jmetalsp.observer.Observable;
 public interface StreamingDataSource<D extends ObservedData<?>> extends Runnable {
 	void run() ;
   Observable<D> getObservable() ;
-}
 
+  /**
+   * Stops producing data. Sources whose run() method only registers a computation in a streaming runtime (e.g.
+   * Spark or Kafka based ones) are stopped by the runtime, so by default this method does nothing
+   */
+  default void stop() {
+  }
+}
@@ -1,6 +1,10 @@
 package org.uma.jmetalsp;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledExecutorService;
 
 /**
  * Interface representing the streaming runtime system.
@@ -8,4 +12,35 @@ import java.util.List;
  */
 public interface StreamingRuntime {
     void startStreamingDataSources(List<StreamingDataSource<?>> streamingDataSourceList);
+
+    /**
+     * Starts the data consumers. By default, each consumer is run in its own thread.
+     * @param dataConsumerList
+     * @return A list of {@link Future} objects that can be used to wait for the termination of the consumers
+     */
+    default List<Future<?>> startDataConsumers(List<DataConsumer<?>> dataConsumerList) {
+        List<Future<?>> futureList = new ArrayList<>(dataConsumerList.size());
+        for (DataConsumer<?> consumer : dataConsumerList) {
+            FutureTask<?> task = new FutureTask<>(consumer, null);
+            new Thread(task).start();
+            futureList.add(task);
+        }
+
+        return futureList;
+    }
+
+    /**
+     * Returns the scheduler in which the time-driven components (e.g. the time windows of the pipeline stages) run
+     * their tasks. By default the runtime does not provide one, and the application creates its own
+     * @return The scheduler, or null
+     */
+    default ScheduledExecutorService getScheduler() {
+        return null;
+    }
+
+    /**
+     * Stops the runtime and the computations started by it. By default it does nothing
+     */
+    default void stop() throws InterruptedException {
+    }
 }
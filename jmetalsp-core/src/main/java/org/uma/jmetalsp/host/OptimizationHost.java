@@ -0,0 +1,196 @@
+package org.uma.jmetalsp.host;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetalsp.observer.Observable;
+import org.uma.jmetalsp.observer.Observer;
+import org.uma.jmetalsp.util.metrics.Metrics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Container executing many independent optimization jobs (e.g. one dynamic TSP per delivery zone) on a fixed pool
+ * of worker threads, so the number of threads does not grow with the number of jobs. The jobs are executed
+ * cooperatively: a worker takes the next ready job, executes steps of its algorithm during a time slice
+ * (proportional to the weight of the job), and puts it back at the end of the queue. A job that has exhausted its
+ * quota of steps per second is put aside until the quota is available again.
+ *
+ * The streaming data sources updating the problems of the jobs are not managed by the host. The time taken by
+ * each slice is published in the metric "host.job.X.slice", where X is the name of the job (followed by "#2",
+ * "#3", etc. if other jobs with the same name have been created).
+ */
+public class OptimizationHost {
+  public static final long DEFAULT_TIME_SLICE = 50 ;
+
+  private final int numberOfWorkers ;
+  private final long timeSliceInNanos ;
+  private final BlockingQueue<OptimizationJob> readyJobs ;
+  private final Map<String, OptimizationJob> jobs ;
+  private final List<Thread> workers ;
+  private final ScheduledExecutorService quotaTimer ;
+  private volatile boolean stopping ;
+
+  /**
+   * Constructor
+   * @param numberOfWorkers Number of worker threads
+   * @param timeSliceInMilliseconds Time a job of weight 1 is executed before giving its worker to the next job
+   */
+  public OptimizationHost(int numberOfWorkers, long timeSliceInMilliseconds) {
+    if (numberOfWorkers <= 0) {
+      throw new JMetalException("The number of workers must be positive: " + numberOfWorkers) ;
+    } else if (timeSliceInMilliseconds <= 0) {
+      throw new JMetalException("The time slice must be positive: " + timeSliceInMilliseconds) ;
+    }
+
+    this.numberOfWorkers = numberOfWorkers ;
+    this.timeSliceInNanos = TimeUnit.MILLISECONDS.toNanos(timeSliceInMilliseconds) ;
+    this.readyJobs = new LinkedBlockingQueue<>() ;
+    this.jobs = new ConcurrentHashMap<>() ;
+    this.workers = new ArrayList<>() ;
+    this.stopping = false ;
+    this.quotaTimer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "OptimizationHost-quota") ;
+      thread.setDaemon(true);
+      return thread ;
+    }) ;
+  }
+
+  public OptimizationHost(int numberOfWorkers) {
+    this(numberOfWorkers, DEFAULT_TIME_SLICE) ;
+  }
+
+  public OptimizationHost() {
+    this(Runtime.getRuntime().availableProcessors()) ;
+  }
+
+  /**
+   * Starts the worker threads
+   */
+  public synchronized OptimizationHost start() {
+    if (!workers.isEmpty()) {
+      throw new JMetalException("The host is already started") ;
+    }
+
+    for (int i = 0; i < numberOfWorkers; i++) {
+      Thread worker = new Thread(this::work, "OptimizationHost-worker-" + i) ;
+      worker.setDaemon(true);
+      workers.add(worker) ;
+      worker.start();
+    }
+
+    return this ;
+  }
+
+  /**
+   * Adds a job to the host. The observers of the job are registered in the observable of its algorithm
+   */
+  public void submit(OptimizationJob job) {
+    if (stopping) {
+      throw new JMetalException("The host is stopping") ;
+    } else if (jobs.putIfAbsent(job.getName(), job) != null) {
+      throw new JMetalException("There is already a job with name " + job.getName()) ;
+    }
+
+    Observable observable = job.getAlgorithm().getObservable() ;
+    for (Observer<?> observer : job.getObservers()) {
+      observable.register(observer);
+    }
+    readyJobs.add(job) ;
+  }
+
+  /**
+   * Requests a job to finish. The algorithm notifies its last result in its next step and the job is removed
+   */
+  public void cancel(String jobName) {
+    OptimizationJob job = jobs.get(jobName) ;
+    if (job != null) {
+      job.getAlgorithm().stop();
+    }
+  }
+
+  public int getNumberOfJobs() {
+    return jobs.size() ;
+  }
+
+  public Collection<OptimizationJob> getJobs() {
+    return Collections.unmodifiableCollection(jobs.values()) ;
+  }
+
+  /**
+   * Requests all the jobs to finish, waits until they have notified their last result, and stops the workers
+   */
+  public void stop() throws InterruptedException {
+    stopping = true ;
+    for (OptimizationJob job : jobs.values()) {
+      job.getAlgorithm().stop();
+    }
+
+    synchronized (this) {
+      while (!jobs.isEmpty() && !workers.isEmpty()) {
+        wait(100);
+      }
+      for (Thread worker : workers) {
+        worker.interrupt();
+      }
+      for (Thread worker : workers) {
+        worker.join();
+      }
+      workers.clear();
+    }
+    quotaTimer.shutdownNow() ;
+  }
+
+  private void work() {
+    while (!Thread.currentThread().isInterrupted()) {
+      OptimizationJob job ;
+      try {
+        job = readyJobs.take() ;
+      } catch (InterruptedException e) {
+        break ;
+      }
+
+      boolean running ;
+      long startTime = System.nanoTime() ;
+      try {
+        running = job.runSlice(timeSliceInNanos, stopping) ;
+      } catch (RuntimeException e) {
+        JMetalLogger.logger.severe("The job " + job.getName() + " has failed: " + e) ;
+        job.markAsFinished();
+        running = false ;
+      }
+      Metrics.timer(job.getSliceTimerName()).record(System.nanoTime() - startTime);
+
+      if (running) {
+        reschedule(job) ;
+      } else {
+        remove(job) ;
+      }
+    }
+  }
+
+  private void reschedule(OptimizationJob job) {
+    long delay = stopping ? 0 : job.nanosUntilTheQuotaIsAvailable() ;
+    if (delay > 0) {
+      quotaTimer.schedule(() -> readyJobs.add(job), delay, TimeUnit.NANOSECONDS) ;
+    } else {
+      readyJobs.add(job) ;
+    }
+  }
+
+  private void remove(OptimizationJob job) {
+    jobs.remove(job.getName(), job) ;
+    synchronized (this) {
+      notifyAll();
+    }
+  }
+}
@@ -0,0 +1,169 @@
+package org.uma.jmetalsp.host;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetalsp.observer.Observer;
+import org.uma.jmetalsp.util.metrics.Metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Job executed by an {@link OptimizationHost}: a stepwise algorithm (which knows its problem) and the observers
+ * of its results. The observers are notified synchronously by the worker thread executing the algorithm, so they
+ * must not block (e.g. {@link org.uma.jmetalsp.DataConsumer}s doing their work in their update() method).
+ *
+ * The share of the workers given to a job is proportional to its weight, and the number of steps per second of a
+ * job can be bounded with a quota.
+ */
+public class OptimizationJob {
+  public static final int DEFAULT_WEIGHT = 1 ;
+  public static final int UNLIMITED = 0 ;
+
+  private final String name ;
+  private final String sliceTimerName ;
+  private final StepwiseAlgorithm<?, ?> algorithm ;
+  private final List<Observer<?>> observers ;
+  private int weight ;
+  private int maximumStepsPerSecond ;
+
+  private boolean initialized ;
+  private long numberOfSteps ;
+  private long quotaWindowStart ;
+  private int stepsInTheQuotaWindow ;
+  private volatile boolean finished ;
+
+  public OptimizationJob(String name, StepwiseAlgorithm<?, ?> algorithm) {
+    if (name == null) {
+      throw new JMetalException("The job name is null") ;
+    } else if (algorithm == null) {
+      throw new JMetalException("The algorithm of job " + name + " is null") ;
+    }
+
+    this.name = name ;
+    this.sliceTimerName = "host.job." + Metrics.instanceName(name) + ".slice" ;
+    this.algorithm = algorithm ;
+    this.observers = new ArrayList<>() ;
+    this.weight = DEFAULT_WEIGHT ;
+    this.maximumStepsPerSecond = UNLIMITED ;
+    this.initialized = false ;
+    this.numberOfSteps = 0 ;
+    this.finished = false ;
+  }
+
+  /**
+   * Sets the weight of the job: the time slices of a job with weight 2 are twice as long as those of a job with
+   * weight 1
+   */
+  public OptimizationJob setWeight(int weight) {
+    if (weight <= 0) {
+      throw new JMetalException("The weight of job " + name + " must be positive: " + weight) ;
+    }
+    this.weight = weight ;
+
+    return this ;
+  }
+
+  /**
+   * Sets the maximum number of steps per second of the job, or {@link #UNLIMITED}
+   */
+  public OptimizationJob setMaximumStepsPerSecond(int maximumStepsPerSecond) {
+    if (maximumStepsPerSecond < 0) {
+      throw new JMetalException("The quota of job " + name + " is negative: " + maximumStepsPerSecond) ;
+    }
+    this.maximumStepsPerSecond = maximumStepsPerSecond ;
+
+    return this ;
+  }
+
+  /**
+   * Adds an observer of the results of the algorithm
+   */
+  public OptimizationJob addObserver(Observer<?> observer) {
+    observers.add(observer) ;
+
+    return this ;
+  }
+
+  public String getName() {
+    return name ;
+  }
+
+  String getSliceTimerName() {
+    return sliceTimerName ;
+  }
+
+  public StepwiseAlgorithm<?, ?> getAlgorithm() {
+    return algorithm ;
+  }
+
+  public List<Observer<?>> getObservers() {
+    return observers ;
+  }
+
+  public int getWeight() {
+    return weight ;
+  }
+
+  public int getMaximumStepsPerSecond() {
+    return maximumStepsPerSecond ;
+  }
+
+  public synchronized long getNumberOfSteps() {
+    return numberOfSteps ;
+  }
+
+  public boolean isFinished() {
+    return finished ;
+  }
+
+  /**
+   * Executes steps of the algorithm until the time slice is over or the quota is exhausted. This method is
+   * invoked by one worker at a time
+   * @return false if the algorithm has finished
+   */
+  synchronized boolean runSlice(long sliceInNanos, boolean ignoreQuota) {
+    if (!initialized) {
+      algorithm.initialize();
+      initialized = true ;
+    }
+
+    long sliceEnd = System.nanoTime() + sliceInNanos * weight ;
+    do {
+      if (!ignoreQuota && (nanosUntilTheQuotaIsAvailable() > 0)) {
+        return true ;
+      }
+
+      if (!algorithm.step()) {
+        finished = true ;
+        return false ;
+      }
+      numberOfSteps++ ;
+      stepsInTheQuotaWindow++ ;
+    } while (System.nanoTime() - sliceEnd < 0) ;
+
+    return true ;
+  }
+
+  /**
+   * @return The time until the job can execute a new step according to its quota, or 0 if it can execute it now
+   */
+  synchronized long nanosUntilTheQuotaIsAvailable() {
+    if (maximumStepsPerSecond == UNLIMITED) {
+      return 0 ;
+    }
+
+    long now = System.nanoTime() ;
+    long windowLength = TimeUnit.SECONDS.toNanos(1) ;
+    if (now - quotaWindowStart >= windowLength) {
+      quotaWindowStart = now ;
+      stepsInTheQuotaWindow = 0 ;
+    }
+
+    return stepsInTheQuotaWindow < maximumStepsPerSecond ? 0 : quotaWindowStart + windowLength - now ;
+  }
+
+  void markAsFinished() {
+    finished = true ;
+  }
+}
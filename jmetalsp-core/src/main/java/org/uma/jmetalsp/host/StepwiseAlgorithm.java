@@ -0,0 +1,25 @@
+package org.uma.jmetalsp.host;
+
+import org.uma.jmetalsp.DynamicAlgorithm;
+import org.uma.jmetalsp.ObservedData;
+
+/**
+ * Dynamic algorithm whose main loop can be executed one step at a time, so that many algorithms can share the
+ * threads of an {@link OptimizationHost} instead of having a thread each. Executing {@link #initialize()} and then
+ * {@link #step()} until it returns false is equivalent to executing the run() method of the algorithm.
+ *
+ * @param <Result> Result of the algorithm
+ * @param <O> Observed data
+ */
+public interface StepwiseAlgorithm<Result, O extends ObservedData<?>> extends DynamicAlgorithm<Result, O> {
+  /**
+   * Creates and evaluates the initial population
+   */
+  void initialize() ;
+
+  /**
+   * Executes an iteration of the main loop of the algorithm
+   * @return false if the algorithm has finished (i.e., it has been requested to stop), true otherwise
+   */
+  boolean step() ;
+}
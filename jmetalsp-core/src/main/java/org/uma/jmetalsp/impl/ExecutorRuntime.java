@@ -0,0 +1,196 @@
+package org.uma.jmetalsp.impl;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetalsp.DataConsumer;
+import org.uma.jmetalsp.StreamingDataSource;
+import org.uma.jmetalsp.StreamingRuntime;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Implementation of the {@link StreamingRuntime} interface that runs the streaming data sources and the data
+ * consumers as tasks of an {@link ExecutorService}, instead of creating a thread per component. The runtime owns
+ * the submitted tasks, so all of them can be cancelled by invoking {@link #shutdown()}, which waits for them at
+ * most {@link #DEFAULT_SHUTDOWN_TIMEOUT_IN_MILLISECONDS} milliseconds.
+ *
+ * Two factory methods are provided: {@link #withVirtualThreads()}, which requires a Java 21 or later JVM and is
+ * the preferred option when running a large number of lightweight sources, and
+ * {@link #withFixedThreadPool(int)}. Note that sources and consumers whose run() method never returns occupy a
+ * thread of a bounded pool while they are active, so the pool must be at least as large as the number of such
+ * components.
+ *
+ * The runtime also provides the scheduler of the time-driven components (see {@link #getScheduler()}): the
+ * executor itself if it is a {@link ScheduledExecutorService}, or a single daemon thread created on first use.
+ */
+public class ExecutorRuntime implements StreamingRuntime {
+  public static final long DEFAULT_SHUTDOWN_TIMEOUT_IN_MILLISECONDS = 10000 ;
+
+  private final ExecutorService executorService ;
+  private final List<Future<?>> taskList ;
+  private final Set<Runnable> runningTasks ;
+  private ScheduledExecutorService scheduler ;
+
+  public ExecutorRuntime(ExecutorService executorService) {
+    if (executorService == null) {
+      throw new JMetalException("The executor service is null") ;
+    }
+    this.executorService = executorService ;
+    this.taskList = new ArrayList<>() ;
+    this.runningTasks = Collections.newSetFromMap(new ConcurrentHashMap<>()) ;
+  }
+
+  /**
+   * Creates a runtime that runs each component in a virtual thread
+   * @throws JMetalException if virtual threads are not supported by the JVM
+   */
+  public static ExecutorRuntime withVirtualThreads() {
+    try {
+      Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor") ;
+      return new ExecutorRuntime((ExecutorService) method.invoke(null)) ;
+    } catch (ReflectiveOperationException e) {
+      throw new JMetalException("Virtual threads are not available in this JVM (Java 21 or later is required)", e) ;
+    }
+  }
+
+  /**
+   * Creates a runtime backed by a pool of daemon platform threads
+   * @param numberOfThreads Size of the pool
+   */
+  public static ExecutorRuntime withFixedThreadPool(int numberOfThreads) {
+    if (numberOfThreads <= 0) {
+      throw new JMetalException("The number of threads must be positive: " + numberOfThreads) ;
+    }
+
+    AtomicInteger threadCounter = new AtomicInteger(0) ;
+    ThreadFactory threadFactory = runnable -> {
+      Thread thread = new Thread(runnable, "ExecutorRuntime-" + threadCounter.getAndIncrement()) ;
+      thread.setDaemon(true);
+      return thread ;
+    } ;
+
+    return new ExecutorRuntime(Executors.newFixedThreadPool(numberOfThreads, threadFactory)) ;
+  }
+
+  @Override
+  public void startStreamingDataSources(List<StreamingDataSource<?>> streamingDataSourceList) {
+    for (StreamingDataSource<?> streamingDataSource : streamingDataSourceList) {
+      submit(streamingDataSource) ;
+    }
+  }
+
+  @Override
+  public List<Future<?>> startDataConsumers(List<DataConsumer<?>> dataConsumerList) {
+    List<Future<?>> futureList = new ArrayList<>(dataConsumerList.size()) ;
+    for (DataConsumer<?> consumer : dataConsumerList) {
+      futureList.add(submit(consumer)) ;
+    }
+
+    return futureList ;
+  }
+
+  /**
+   * Runs a task in the executor of the runtime
+   */
+  public synchronized Future<?> submit(Runnable task) {
+    Future<?> future = executorService.submit(() -> {
+      runningTasks.add(task) ;
+      try {
+        task.run();
+      } finally {
+        runningTasks.remove(task) ;
+      }
+    }) ;
+    taskList.removeIf(Future::isDone) ;
+    taskList.add(future) ;
+
+    return future ;
+  }
+
+  /**
+   * @return The number of submitted tasks that have not finished
+   */
+  public synchronized int getNumberOfActiveTasks() {
+    taskList.removeIf(Future::isDone) ;
+    return taskList.size() ;
+  }
+
+  public ExecutorService getExecutorService() {
+    return executorService ;
+  }
+
+  @Override
+  public synchronized ScheduledExecutorService getScheduler() {
+    if (scheduler == null) {
+      if (executorService instanceof ScheduledExecutorService) {
+        scheduler = (ScheduledExecutorService) executorService ;
+      } else {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+          Thread thread = new Thread(runnable, "ExecutorRuntime-scheduler") ;
+          thread.setDaemon(true);
+          return thread ;
+        }) ;
+      }
+    }
+
+    return scheduler ;
+  }
+
+  /**
+   * Cancels the running tasks and shuts down the executor. If the tasks have not finished when the timeout
+   * expires, the executor is forced to stop and the tasks still running are logged
+   * @param timeoutInMilliseconds Maximum time to wait for the termination of the tasks
+   * @return true if all the tasks have finished
+   */
+  public boolean shutdown(long timeoutInMilliseconds) throws InterruptedException {
+    synchronized (this) {
+      for (Future<?> future : taskList) {
+        future.cancel(true) ;
+      }
+      taskList.clear();
+      if (scheduler != null) {
+        scheduler.shutdownNow() ;
+      }
+    }
+    executorService.shutdown() ;
+
+    if (executorService.awaitTermination(timeoutInMilliseconds, TimeUnit.MILLISECONDS)) {
+      return true ;
+    }
+
+    executorService.shutdownNow() ;
+    List<String> taskNames = new ArrayList<>() ;
+    for (Runnable task : runningTasks) {
+      taskNames.add(task.getClass().getName()) ;
+    }
+    JMetalLogger.logger.warning("The runtime has not finished in " + timeoutInMilliseconds + " ms. Tasks still " +
+            "running: " + taskNames) ;
+
+    return false ;
+  }
+
+  /**
+   * Cancels the running tasks and shuts down the executor, waiting for the tasks at most
+   * {@link #DEFAULT_SHUTDOWN_TIMEOUT_IN_MILLISECONDS} milliseconds
+   */
+  public void shutdown() throws InterruptedException {
+    shutdown(DEFAULT_SHUTDOWN_TIMEOUT_IN_MILLISECONDS) ;
+  }
+
+  @Override
+  public void stop() throws InterruptedException {
+    shutdown() ;
+  }
+}
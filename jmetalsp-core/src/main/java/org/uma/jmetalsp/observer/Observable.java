@@ -18,4 +18,17 @@ public interface Observable<O extends ObservedData<?>> {
 	void setChanged() ;
 	boolean hasChanged() ;
 	void clearChanged() ;
+
+	/**
+	 * Waits until all the notified data have been delivered to the observers. Observables that notify the
+	 * observers synchronously have nothing to drain
+	 */
+	default void drain() throws InterruptedException {
+	}
+
+	/**
+	 * Releases the resources (e.g. threads) used by the observable
+	 */
+	default void shutdown() {
+	}
 }
@@ -0,0 +1,290 @@
+package org.uma.jmetalsp.observer.impl;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetalsp.ObservedData;
+import org.uma.jmetalsp.observer.Observable;
+import org.uma.jmetalsp.observer.Observer;
+import org.uma.jmetalsp.util.metrics.MeteredObserver;
+import org.uma.jmetalsp.util.metrics.Metrics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementation of the {@link Observable} interface that decouples the producer from the observers. Each
+ * registered observer has its own bounded queue and a dispatcher thread that invokes its
+ * {@link Observer#update(Observable, ObservedData)} method, so a slow observer (e.g. a chart consumer) does not
+ * stall the thread calling {@link #notifyObservers(ObservedData)}.
+ *
+ * When the queue of an observer is full, the behavior is determined by the {@link OverflowPolicy}:
+ * - BLOCK: the producer waits until there is room in the queue, or until the observer is unregistered, in which
+ *   case the data is discarded
+ * - DROP_OLDEST: the oldest pending data is discarded
+ * - LATEST_ONLY: only the most recent data is kept, so the observer always receives the newest value
+ *
+ * @param <O> Observed data
+ */
+public class AsyncObservable<O extends ObservedData<?>> implements Observable<O> {
+  public enum OverflowPolicy {BLOCK, DROP_OLDEST, LATEST_ONLY}
+
+  public static final int DEFAULT_QUEUE_CAPACITY = 16 ;
+  private static final long BLOCKING_OFFER_TIMEOUT_IN_MILLISECONDS = 100 ;
+
+  private final Map<Observer<O>, ObserverDispatcher> dispatchers ;
+  private final int queueCapacity ;
+  private final OverflowPolicy overflowPolicy ;
+  private volatile boolean dataHasChanged ;
+  private final String notifyTimerName ;
+
+  public AsyncObservable() {
+    this(DEFAULT_QUEUE_CAPACITY, OverflowPolicy.BLOCK) ;
+  }
+
+  public AsyncObservable(OverflowPolicy overflowPolicy) {
+    this(DEFAULT_QUEUE_CAPACITY, overflowPolicy) ;
+  }
+
+  /**
+   * Constructor
+   * @param queueCapacity Maximum number of pending data per observer. It is ignored if the policy is LATEST_ONLY
+   * @param overflowPolicy Behavior when the queue of an observer is full
+   */
+  public AsyncObservable(int queueCapacity, OverflowPolicy overflowPolicy) {
+    if (queueCapacity <= 0) {
+      throw new JMetalException("The queue capacity must be positive: " + queueCapacity) ;
+    } else if (overflowPolicy == null) {
+      throw new JMetalException("The overflow policy is null") ;
+    }
+
+    this.dispatchers = new ConcurrentHashMap<>() ;
+    this.queueCapacity = overflowPolicy == OverflowPolicy.LATEST_ONLY ? 1 : queueCapacity ;
+    this.overflowPolicy = overflowPolicy ;
+    this.dataHasChanged = false ;
+    this.notifyTimerName = "observable." + getClass().getSimpleName() + ".notify" ;
+  }
+
+  @Override
+  public void register(Observer<O> observer) {
+    dispatchers.computeIfAbsent(MeteredObserver.unwrap(observer), key -> {
+      ObserverDispatcher dispatcher = new ObserverDispatcher(observer) ;
+      dispatcher.start();
+      return dispatcher ;
+    }) ;
+  }
+
+  @Override
+  public void unregister(Observer<O> observer) {
+    ObserverDispatcher dispatcher = dispatchers.remove(MeteredObserver.unwrap(observer)) ;
+    if (dispatcher != null) {
+      dispatcher.stop();
+    }
+  }
+
+  @Override
+  public void notifyObservers(O data) {
+    if (dataHasChanged) {
+      long startTime = System.nanoTime() ;
+      for (ObserverDispatcher dispatcher : dispatchers.values()) {
+        dispatcher.enqueue(data);
+      }
+      Metrics.timer(notifyTimerName).record(System.nanoTime() - startTime);
+    }
+    clearChanged();
+  }
+
+  @Override
+  public int numberOfRegisteredObservers() {
+    return dispatchers.size();
+  }
+
+  /**
+   * @return An unmodifiable view of the observers as they were registered (e.g. wrapped in a
+   * {@link MeteredObserver})
+   */
+  @Override
+  public Collection<Observer<O>> getObservers() {
+    List<Observer<O>> observers = new ArrayList<>(dispatchers.size()) ;
+    for (ObserverDispatcher dispatcher : dispatchers.values()) {
+      observers.add(dispatcher.observer) ;
+    }
+    return Collections.unmodifiableList(observers) ;
+  }
+
+  @Override
+  public void setChanged() {
+    dataHasChanged = true ;
+  }
+
+  @Override
+  public boolean hasChanged() {
+    return dataHasChanged ;
+  }
+
+  @Override
+  public void clearChanged() {
+    dataHasChanged = false ;
+  }
+
+  public OverflowPolicy getOverflowPolicy() {
+    return overflowPolicy ;
+  }
+
+  /**
+   * @return The number of data waiting to be delivered to an observer, or 0 if it is not registered
+   */
+  public int getQueueDepth(Observer<O> observer) {
+    ObserverDispatcher dispatcher = dispatchers.get(MeteredObserver.unwrap(observer)) ;
+    return dispatcher == null ? 0 : dispatcher.queue.size() ;
+  }
+
+  /**
+   * @return The number of data discarded for an observer because its queue was full
+   */
+  public long getNumberOfDroppedData(Observer<O> observer) {
+    ObserverDispatcher dispatcher = dispatchers.get(MeteredObserver.unwrap(observer)) ;
+    return dispatcher == null ? 0 : dispatcher.droppedData.get() ;
+  }
+
+  /**
+   * @return The number of data delivered to an observer
+   */
+  public long getNumberOfDeliveredData(Observer<O> observer) {
+    ObserverDispatcher dispatcher = dispatchers.get(MeteredObserver.unwrap(observer)) ;
+    return dispatcher == null ? 0 : dispatcher.deliveredData.get() ;
+  }
+
+  /**
+   * Waits until the queues of all the observers are empty and their last data have been processed
+   */
+  @Override
+  public void drain() throws InterruptedException {
+    for (ObserverDispatcher dispatcher : dispatchers.values()) {
+      dispatcher.awaitIdle();
+    }
+  }
+
+  /**
+   * Stops all the dispatcher threads. Pending data are discarded
+   */
+  @Override
+  public void shutdown() {
+    for (Observer<O> observer : dispatchers.keySet()) {
+      unregister(observer);
+    }
+  }
+
+  private class ObserverDispatcher implements Runnable {
+    private final Observer<O> observer ;
+    private final BlockingQueue<O> queue ;
+    private final AtomicLong droppedData ;
+    private final AtomicLong deliveredData ;
+    private final AtomicLong unprocessedData ;
+    private final Thread thread ;
+    private final String lagHistogramName ;
+    private volatile boolean running ;
+
+    ObserverDispatcher(Observer<O> observer) {
+      this.observer = observer ;
+      this.queue = new ArrayBlockingQueue<>(queueCapacity) ;
+      this.droppedData = new AtomicLong(0) ;
+      this.deliveredData = new AtomicLong(0) ;
+      this.unprocessedData = new AtomicLong(0) ;
+      this.thread = new Thread(this, "AsyncObservable-" + MeteredObserver.nameOf(observer)) ;
+      this.lagHistogramName = "consumer." + MeteredObserver.nameOf(observer) + ".lag" ;
+      this.thread.setDaemon(true);
+    }
+
+    void start() {
+      running = true ;
+      thread.start();
+    }
+
+    void stop() {
+      running = false ;
+      thread.interrupt();
+      synchronized (this) {
+        notifyAll();
+      }
+    }
+
+    synchronized void awaitIdle() throws InterruptedException {
+      while (running && unprocessedData.get() > 0) {
+        wait();
+      }
+    }
+
+    void enqueue(O data) {
+      Metrics.histogram(lagHistogramName).update(unprocessedData.incrementAndGet() - 1);
+      if (overflowPolicy == OverflowPolicy.BLOCK) {
+        try {
+          while (!queue.offer(data, BLOCKING_OFFER_TIMEOUT_IN_MILLISECONDS, TimeUnit.MILLISECONDS)) {
+            if (!running) {
+              discard() ;
+              return ;
+            }
+          }
+        } catch (InterruptedException e) {
+          discard() ;
+          Thread.currentThread().interrupt();
+        }
+      } else {
+        while (!queue.offer(data)) {
+          if (queue.poll() != null) {
+            discard() ;
+          }
+        }
+      }
+    }
+
+    private void discard() {
+      droppedData.incrementAndGet() ;
+      processed() ;
+    }
+
+    /**
+     * Wakes up the threads draining the observable when the last pending data has been processed
+     */
+    private void processed() {
+      if (unprocessedData.decrementAndGet() == 0) {
+        synchronized (this) {
+          notifyAll();
+        }
+      }
+    }
+
+    @Override
+    public void run() {
+      try {
+        while (running) {
+          O data ;
+          try {
+            data = queue.take() ;
+          } catch (InterruptedException e) {
+            break ;
+          }
+
+          try {
+            observer.update(AsyncObservable.this, data);
+          } catch (RuntimeException e) {
+            e.printStackTrace();
+          }
+          deliveredData.incrementAndGet() ;
+          processed() ;
+        }
+      } finally {
+        running = false ;
+        synchronized (this) {
+          notifyAll();
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,240 @@
+package org.uma.jmetalsp.observer.impl;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetalsp.ObservedData;
+import org.uma.jmetalsp.observer.Observable;
+import org.uma.jmetalsp.observer.Observer;
+import org.uma.jmetalsp.util.metrics.MeteredObserver;
+import org.uma.jmetalsp.util.metrics.Metrics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Implementation of the {@link Observable} interface that coalesces the data sent to each observer. Every
+ * observer has a single pending slot per key; if new data with the same key arrives before the observer has
+ * consumed the previous one, the old data is replaced. A dispatcher thread per observer delivers the pending
+ * data as soon as the observer is ready, so under bursty feeds the observers only process the latest value of
+ * each key.
+ *
+ * The key of each data is computed by a key function. By default all the data share the same key, which is the
+ * suitable choice for problems whose state depends only on the last received value (e.g. the FDA problems). In
+ * the case of the dynamic TSP, a key composed of the matrix identifier and the coordinates of the changed value
+ * allows to keep the latest value of each edge.
+ *
+ * @param <O> Observed data
+ */
+public class CoalescingObservable<O extends ObservedData<?>> implements Observable<O> {
+  private static final Object SINGLE_KEY = new Object() ;
+
+  private final Map<Observer<O>, CoalescingDispatcher> dispatchers ;
+  private final Function<O, Object> keyFunction ;
+  private volatile boolean dataHasChanged ;
+  private final String notifyTimerName ;
+
+  public CoalescingObservable() {
+    this(data -> SINGLE_KEY) ;
+  }
+
+  public CoalescingObservable(Function<O, Object> keyFunction) {
+    if (keyFunction == null) {
+      throw new JMetalException("The key function is null") ;
+    }
+    this.dispatchers = new ConcurrentHashMap<>() ;
+    this.keyFunction = keyFunction ;
+    this.dataHasChanged = false ;
+    this.notifyTimerName = "observable." + getClass().getSimpleName() + ".notify" ;
+  }
+
+  @Override
+  public void register(Observer<O> observer) {
+    dispatchers.computeIfAbsent(MeteredObserver.unwrap(observer), key -> {
+      CoalescingDispatcher dispatcher = new CoalescingDispatcher(observer) ;
+      dispatcher.start();
+      return dispatcher ;
+    }) ;
+  }
+
+  @Override
+  public void unregister(Observer<O> observer) {
+    CoalescingDispatcher dispatcher = dispatchers.remove(MeteredObserver.unwrap(observer)) ;
+    if (dispatcher != null) {
+      dispatcher.stop();
+    }
+  }
+
+  @Override
+  public void notifyObservers(O data) {
+    if (dataHasChanged) {
+      long startTime = System.nanoTime() ;
+      Object key = keyFunction.apply(data) ;
+      for (CoalescingDispatcher dispatcher : dispatchers.values()) {
+        dispatcher.offer(key, data);
+      }
+      Metrics.timer(notifyTimerName).record(System.nanoTime() - startTime);
+    }
+    clearChanged();
+  }
+
+  @Override
+  public int numberOfRegisteredObservers() {
+    return dispatchers.size();
+  }
+
+  /**
+   * @return An unmodifiable view of the observers as they were registered (e.g. wrapped in a
+   * {@link MeteredObserver})
+   */
+  @Override
+  public Collection<Observer<O>> getObservers() {
+    List<Observer<O>> observers = new ArrayList<>(dispatchers.size()) ;
+    for (CoalescingDispatcher dispatcher : dispatchers.values()) {
+      observers.add(dispatcher.observer) ;
+    }
+    return Collections.unmodifiableList(observers) ;
+  }
+
+  @Override
+  public void setChanged() {
+    dataHasChanged = true ;
+  }
+
+  @Override
+  public boolean hasChanged() {
+    return dataHasChanged ;
+  }
+
+  @Override
+  public void clearChanged() {
+    dataHasChanged = false ;
+  }
+
+  /**
+   * @return The number of data pending to be delivered to an observer
+   */
+  public int getNumberOfPendingData(Observer<O> observer) {
+    CoalescingDispatcher dispatcher = dispatchers.get(MeteredObserver.unwrap(observer)) ;
+    return dispatcher == null ? 0 : dispatcher.numberOfPendingData() ;
+  }
+
+  /**
+   * @return The number of data that have been replaced by newer data before being delivered to an observer
+   */
+  public long getNumberOfCoalescedData(Observer<O> observer) {
+    CoalescingDispatcher dispatcher = dispatchers.get(MeteredObserver.unwrap(observer)) ;
+    return dispatcher == null ? 0 : dispatcher.numberOfCoalescedData() ;
+  }
+
+  /**
+   * Waits until the pending data of all the observers have been delivered
+   */
+  @Override
+  public void drain() throws InterruptedException {
+    for (CoalescingDispatcher dispatcher : dispatchers.values()) {
+      dispatcher.awaitIdle();
+    }
+  }
+
+  /**
+   * Stops all the dispatcher threads. Pending data are discarded
+   */
+  @Override
+  public void shutdown() {
+    for (Observer<O> observer : dispatchers.keySet()) {
+      unregister(observer);
+    }
+  }
+
+  private class CoalescingDispatcher implements Runnable {
+    private final Observer<O> observer ;
+    private final Map<Object, O> pendingData ;
+    private final Thread thread ;
+    private final String coalescedCounterName ;
+    private long coalescedData ;
+    private boolean delivering ;
+    private volatile boolean running ;
+
+    CoalescingDispatcher(Observer<O> observer) {
+      this.observer = observer ;
+      this.pendingData = new LinkedHashMap<>() ;
+      this.coalescedData = 0 ;
+      this.thread = new Thread(this, "CoalescingObservable-" + MeteredObserver.nameOf(observer)) ;
+      this.coalescedCounterName = "consumer." + MeteredObserver.nameOf(observer) + ".coalesced" ;
+      this.thread.setDaemon(true);
+    }
+
+    void start() {
+      running = true ;
+      thread.start();
+    }
+
+    void stop() {
+      running = false ;
+      thread.interrupt();
+      synchronized (this) {
+        notifyAll();
+      }
+    }
+
+    synchronized void offer(Object key, O data) {
+      if (pendingData.put(key, data) != null) {
+        coalescedData++ ;
+        Metrics.counter(coalescedCounterName).increment();
+      }
+      notifyAll();
+    }
+
+    synchronized void awaitIdle() throws InterruptedException {
+      while (running && (delivering || !pendingData.isEmpty())) {
+        wait();
+      }
+    }
+
+    synchronized int numberOfPendingData() {
+      return pendingData.size() ;
+    }
+
+    synchronized long numberOfCoalescedData() {
+      return coalescedData ;
+    }
+
+    @Override
+    public void run() {
+      List<O> batch = new ArrayList<>() ;
+      while (running) {
+        synchronized (this) {
+          try {
+            while (pendingData.isEmpty()) {
+              wait();
+            }
+          } catch (InterruptedException e) {
+            break ;
+          }
+          batch.addAll(pendingData.values()) ;
+          pendingData.clear();
+          delivering = true ;
+        }
+
+        for (O data : batch) {
+          try {
+            observer.update(CoalescingObservable.this, data);
+          } catch (RuntimeException e) {
+            e.printStackTrace();
+          }
+        }
+        batch.clear();
+
+        synchronized (this) {
+          delivering = false ;
+          notifyAll();
+        }
+      }
+    }
+  }
+}
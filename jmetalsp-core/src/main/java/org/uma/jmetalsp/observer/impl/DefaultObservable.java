@@ -3,37 +3,43 @@ package org.uma.jmetalsp.observer.impl;
 import org.uma.jmetalsp.ObservedData;
 import org.uma.jmetalsp.observer.Observable;
 import org.uma.jmetalsp.observer.Observer;
+import org.uma.jmetalsp.util.metrics.MeteredObserver;
+import org.uma.jmetalsp.util.metrics.Metrics;
 
 import java.util.Collection;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 public class DefaultObservable<O extends ObservedData<?>> implements Observable<O> {
-	private Set<Observer<O>> observers ;
+	private Map<Observer<O>, Observer<O>> observers ;
 	private boolean dataHasChanged ;
+	private final String notifyTimerName ;
 
 	public DefaultObservable() {
-		observers = new HashSet<>() ;
+		observers = new HashMap<>() ;
 		dataHasChanged = false ;
+		notifyTimerName = "observable." + getClass().getSimpleName() + ".notify" ;
 	}
 
 	@Override
 	public void register(Observer<O> observer) {
-		observers.add(observer) ;
+		observers.putIfAbsent(MeteredObserver.unwrap(observer), observer) ;
 	}
 
 	@Override
 	public void unregister(Observer<O> observer) {
-		observers.remove(observer) ;
+		observers.remove(MeteredObserver.unwrap(observer)) ;
 	}
 
 	@Override
 	public void notifyObservers(O data) {
 		if (dataHasChanged) {
-			observers.stream().forEach(observer -> observer.update(this, data));
+			long startTime = System.nanoTime() ;
+			observers.values().stream().forEach(observer -> observer.update(this, data));
+			Metrics.timer(notifyTimerName).record(System.nanoTime() - startTime);
 		}
 		clearChanged();
 	}
@@ -45,7 +51,7 @@ public class DefaultObservable<O extends ObservedData<?>> implements Observable<
 
 	@Override
 	public Collection<Observer<O>> getObservers() {
-		return observers ;
+		return observers.values() ;
 	}
 
 	@Override
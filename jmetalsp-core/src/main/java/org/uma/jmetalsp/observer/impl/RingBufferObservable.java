@@ -0,0 +1,339 @@
+package org.uma.jmetalsp.observer.impl;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetalsp.ObservedData;
+import org.uma.jmetalsp.observer.Observable;
+import org.uma.jmetalsp.observer.Observer;
+import org.uma.jmetalsp.util.metrics.MeteredObserver;
+import org.uma.jmetalsp.util.metrics.Metrics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Implementation of the {@link Observable} interface based on a preallocated ring buffer. It is intended to
+ * be used as an event bus between a high-rate producer (typically a streaming data source) and its observers,
+ * and it can be used anywhere a {@link DefaultObservable} is used.
+ *
+ * The ring buffer follows a single-writer/multi-reader scheme: {@link #notifyObservers(ObservedData)} must be
+ * invoked always from the same thread, and each registered observer is run by a consumer thread that keeps its
+ * own sequence number and drains the published data in batches. Publishing does not allocate any object; when
+ * the buffer is full, the writer waits for the slowest consumer with the same backoff as the idle consumers
+ * (spinning, then yielding, then parking).
+ *
+ * The writer releases the slots that all the consumers have passed each time it publishes new data, so the data
+ * already processed by every observer are retained only until the next publication.
+ *
+ * If an observer throws an {@link Error}, its consumer thread stops; the writer and {@link #drain()} do not wait
+ * for a stopped consumer, although it stays registered until it is unregistered.
+ *
+ * @param <O> Observed data
+ */
+public class RingBufferObservable<O extends ObservedData<?>> implements Observable<O> {
+  public static final int DEFAULT_BUFFER_SIZE = 1024 ;
+  public static final int DEFAULT_MAX_BATCH_SIZE = 256 ;
+
+  private static final int SPIN_TRIES = 100 ;
+  private static final int YIELD_TRIES = 100 ;
+  private static final long PARK_NANOS = 100000 ;
+
+  private final Object[] ringBuffer ;
+  private final int indexMask ;
+  private final int maxBatchSize ;
+  private final AtomicLong cursor ;
+  private long releasedSequence ;
+
+  private final Map<Observer<O>, SequenceConsumer> consumers ;
+  private volatile SequenceConsumer[] consumerArray ;
+  private final Object drainMonitor ;
+  private volatile int numberOfDrainingThreads ;
+  private boolean dataHasChanged ;
+  private final String notifyTimerName ;
+
+  public RingBufferObservable() {
+    this(DEFAULT_BUFFER_SIZE, DEFAULT_MAX_BATCH_SIZE) ;
+  }
+
+  public RingBufferObservable(int bufferSize) {
+    this(bufferSize, DEFAULT_MAX_BATCH_SIZE) ;
+  }
+
+  /**
+   * Constructor
+   * @param bufferSize Number of slots of the ring buffer. It is rounded up to the next power of two
+   * @param maxBatchSize Maximum number of data a consumer processes before updating its sequence
+   */
+  public RingBufferObservable(int bufferSize, int maxBatchSize) {
+    if (bufferSize <= 0) {
+      throw new JMetalException("The buffer size must be positive: " + bufferSize) ;
+    } else if (maxBatchSize <= 0) {
+      throw new JMetalException("The maximum batch size must be positive: " + maxBatchSize) ;
+    }
+
+    int size = Integer.highestOneBit(bufferSize) ;
+    if (size < bufferSize) {
+      size <<= 1 ;
+    }
+
+    this.ringBuffer = new Object[size] ;
+    this.indexMask = size - 1 ;
+    this.maxBatchSize = maxBatchSize ;
+    this.cursor = new AtomicLong(-1) ;
+    this.releasedSequence = -1 ;
+    this.consumers = new ConcurrentHashMap<>() ;
+    this.consumerArray = new RingBufferObservable.SequenceConsumer[0] ;
+    this.drainMonitor = new Object() ;
+    this.numberOfDrainingThreads = 0 ;
+    this.dataHasChanged = false ;
+    this.notifyTimerName = "observable." + getClass().getSimpleName() + ".notify" ;
+  }
+
+  @Override
+  public synchronized void register(Observer<O> observer) {
+    Observer<O> key = MeteredObserver.unwrap(observer) ;
+    if (!consumers.containsKey(key)) {
+      SequenceConsumer consumer = new SequenceConsumer(observer, cursor.get()) ;
+      consumers.put(key, consumer) ;
+      updateConsumerArray();
+      consumer.start();
+    }
+  }
+
+  @Override
+  public synchronized void unregister(Observer<O> observer) {
+    SequenceConsumer consumer = consumers.remove(MeteredObserver.unwrap(observer)) ;
+    if (consumer != null) {
+      updateConsumerArray();
+      consumer.stop();
+    }
+  }
+
+  /**
+   * Publishes the data in the next slot of the ring buffer. This method must be called always from the same thread
+   */
+  @Override
+  public void notifyObservers(O data) {
+    if (dataHasChanged) {
+      long startTime = System.nanoTime() ;
+      long nextSequence = cursor.get() + 1 ;
+      long wrapPoint = nextSequence - ringBuffer.length ;
+      long minimumSequence = minimumConsumerSequence() ;
+      int idleCounter = 0 ;
+      while (wrapPoint > minimumSequence) {
+        idleCounter = idle(idleCounter) ;
+        minimumSequence = minimumConsumerSequence() ;
+      }
+      releaseSlots(Math.min(minimumSequence, nextSequence - 1)) ;
+
+      ringBuffer[(int) (nextSequence & indexMask)] = data ;
+      cursor.lazySet(nextSequence);
+      Metrics.timer(notifyTimerName).record(System.nanoTime() - startTime);
+    }
+    clearChanged();
+  }
+
+  @Override
+  public int numberOfRegisteredObservers() {
+    return consumers.size();
+  }
+
+  /**
+   * @return An unmodifiable view of the observers as they were registered (e.g. wrapped in a
+   * {@link MeteredObserver})
+   */
+  @Override
+  public Collection<Observer<O>> getObservers() {
+    List<Observer<O>> observers = new ArrayList<>(consumers.size()) ;
+    for (SequenceConsumer consumer : consumers.values()) {
+      observers.add(consumer.observer) ;
+    }
+    return Collections.unmodifiableList(observers) ;
+  }
+
+  @Override
+  public void setChanged() {
+    dataHasChanged = true ;
+  }
+
+  @Override
+  public boolean hasChanged() {
+    return dataHasChanged ;
+  }
+
+  @Override
+  public void clearChanged() {
+    dataHasChanged = false ;
+  }
+
+  public int getBufferSize() {
+    return ringBuffer.length ;
+  }
+
+  /**
+   * @return The sequence number of the last published data
+   */
+  public long getCursor() {
+    return cursor.get() ;
+  }
+
+  /**
+   * @return The number of published data that an observer has not processed yet
+   */
+  public long getLag(Observer<O> observer) {
+    SequenceConsumer consumer = consumers.get(MeteredObserver.unwrap(observer)) ;
+    return consumer == null ? 0 : cursor.get() - consumer.sequence.get() ;
+  }
+
+  /**
+   * Waits until all the running consumers have processed the data published so far
+   */
+  @Override
+  public void drain() throws InterruptedException {
+    long lastPublishedSequence = cursor.get() ;
+    synchronized (drainMonitor) {
+      numberOfDrainingThreads++ ;
+      try {
+        for (SequenceConsumer consumer : consumerArray) {
+          while (consumer.running && consumer.sequence.get() < lastPublishedSequence) {
+            drainMonitor.wait();
+          }
+        }
+      } finally {
+        numberOfDrainingThreads-- ;
+      }
+    }
+  }
+
+  /**
+   * Stops all the consumer threads
+   */
+  @Override
+  public synchronized void shutdown() {
+    for (Observer<O> observer : consumers.keySet()) {
+      unregister(observer);
+    }
+  }
+
+  private void updateConsumerArray() {
+    consumerArray = consumers.values().toArray(new RingBufferObservable.SequenceConsumer[0]) ;
+  }
+
+  /**
+   * Clears the slots of the data processed by all the consumers, up to a given sequence. Only the writer calls it,
+   * so the slots cannot be overwritten concurrently
+   */
+  private void releaseSlots(long lastProcessedSequence) {
+    long firstSequence = Math.max(releasedSequence + 1, lastProcessedSequence - ringBuffer.length + 1) ;
+    for (long s = firstSequence; s <= lastProcessedSequence; s++) {
+      ringBuffer[(int) (s & indexMask)] = null ;
+    }
+    releasedSequence = Math.max(releasedSequence, lastProcessedSequence) ;
+  }
+
+  /**
+   * @return The lowest sequence of the running consumers, or Long.MAX_VALUE if there are none
+   */
+  private long minimumConsumerSequence() {
+    long minimum = Long.MAX_VALUE ;
+    for (SequenceConsumer consumer : consumerArray) {
+      if (consumer.running) {
+        minimum = Math.min(minimum, consumer.sequence.get()) ;
+      }
+    }
+    return minimum ;
+  }
+
+  private void wakeUpTheDrainingThreads() {
+    synchronized (drainMonitor) {
+      drainMonitor.notifyAll();
+    }
+  }
+
+  /**
+   * Waits for the other threads: spinning first, then yielding and finally parking
+   * @param counter Number of times the caller has waited in a row
+   * @return The new value of the counter
+   */
+  private static int idle(int counter) {
+    if (counter < SPIN_TRIES) {
+      return counter + 1 ;
+    } else if (counter < SPIN_TRIES + YIELD_TRIES) {
+      Thread.yield();
+      return counter + 1 ;
+    } else {
+      LockSupport.parkNanos(PARK_NANOS);
+      return counter ;
+    }
+  }
+
+  private class SequenceConsumer implements Runnable {
+    private final Observer<O> observer ;
+    private final AtomicLong sequence ;
+    private final Thread thread ;
+    private final String lagHistogramName ;
+    private volatile boolean running ;
+
+    SequenceConsumer(Observer<O> observer, long initialSequence) {
+      this.observer = observer ;
+      this.sequence = new AtomicLong(initialSequence) ;
+      this.thread = new Thread(this, "RingBufferObservable-" + MeteredObserver.nameOf(observer)) ;
+      this.lagHistogramName = "consumer." + MeteredObserver.nameOf(observer) + ".lag" ;
+      this.thread.setDaemon(true);
+    }
+
+    void start() {
+      running = true ;
+      thread.start();
+    }
+
+    void stop() {
+      running = false ;
+      LockSupport.unpark(thread);
+      wakeUpTheDrainingThreads();
+    }
+
+    /**
+     * Processes the published data until the consumer is stopped or its observer throws an {@link Error}. The
+     * sequence is a volatile write so that a thread starting to drain either sees it or is woken up afterwards
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void run() {
+      try {
+        int idleCounter = 0 ;
+        while (running) {
+          long nextSequence = sequence.get() + 1 ;
+          long availableSequence = cursor.get() ;
+          if (availableSequence >= nextSequence) {
+            Metrics.histogram(lagHistogramName).update(availableSequence - nextSequence + 1);
+            long lastSequence = Math.min(availableSequence, nextSequence + maxBatchSize - 1) ;
+            for (long s = nextSequence; s <= lastSequence; s++) {
+              O data = (O) ringBuffer[(int) (s & indexMask)] ;
+              try {
+                observer.update(RingBufferObservable.this, data);
+              } catch (RuntimeException e) {
+                e.printStackTrace();
+              }
+            }
+            sequence.set(lastSequence);
+            if (numberOfDrainingThreads > 0) {
+              wakeUpTheDrainingThreads();
+            }
+            idleCounter = 0 ;
+          } else {
+            idleCounter = idle(idleCounter) ;
+          }
+        }
+      } finally {
+        running = false ;
+        wakeUpTheDrainingThreads();
+      }
+    }
+  }
+}
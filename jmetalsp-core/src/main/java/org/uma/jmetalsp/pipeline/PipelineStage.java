@@ -0,0 +1,56 @@
+package org.uma.jmetalsp.pipeline;
+
+import org.uma.jmetalsp.ObservedData;
+import org.uma.jmetalsp.observer.Observable;
+import org.uma.jmetalsp.observer.Observer;
+
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Interface representing a stream processing stage placed between a
+ * {@link org.uma.jmetalsp.StreamingDataSource} and the entity observing it (typically a
+ * {@link org.uma.jmetalsp.DynamicProblem}). A stage observes input data and notifies the processed data
+ * through its own observable, so stages can be chained:
+ *
+ * source.getObservable().register(filter) ;
+ * filter.then(window).to(problem) ;
+ *
+ * @param <I> Input data
+ * @param <O> Output data
+ */
+public interface PipelineStage<I extends ObservedData<?>, O extends ObservedData<?>> extends Observer<I> {
+  Observable<O> getObservable() ;
+
+  /**
+   * Registers the next stage of the pipeline
+   * @return The next stage, to allow chaining
+   */
+  default <R extends ObservedData<?>> PipelineStage<O, R> then(PipelineStage<O, R> nextStage) {
+    getObservable().register(nextStage);
+
+    return nextStage ;
+  }
+
+  /**
+   * Registers the final observer of the pipeline
+   * @return This stage
+   */
+  default PipelineStage<I, O> to(Observer<O> observer) {
+    getObservable().register(observer);
+
+    return this ;
+  }
+
+  /**
+   * Starts the stage and the stages registered after it. Stages driven by time (e.g. time windows) schedule their
+   * tasks in the given scheduler, which is shared by all the stages of an application. By default it does nothing
+   */
+  default void start(ScheduledExecutorService scheduler) {
+  }
+
+  /**
+   * Stops the stage and the stages registered after it. Stages holding data (e.g. windows) notify them before
+   * stopping
+   */
+  void stop() ;
+}
@@ -0,0 +1,86 @@
+package org.uma.jmetalsp.pipeline.impl;
+
+import org.uma.jmetalsp.ObservedData;
+import org.uma.jmetalsp.observer.Observable;
+import org.uma.jmetalsp.observer.Observer;
+import org.uma.jmetalsp.observer.impl.DefaultObservable;
+import org.uma.jmetalsp.pipeline.PipelineStage;
+import org.uma.jmetalsp.util.metrics.MeteredObserver;
+import org.uma.jmetalsp.util.metrics.Metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Base class of the pipeline stages. The processed data are notified through an observable (a
+ * {@link DefaultObservable} by default) and counted in the metric "pipeline.X.emitted", where X is the name of
+ * the stage class
+ *
+ * @param <I> Input data
+ * @param <O> Output data
+ */
+public abstract class AbstractPipelineStage<I extends ObservedData<?>, O extends ObservedData<?>>
+        implements PipelineStage<I, O> {
+  private final Observable<O> observable ;
+  private final String emittedCounterName ;
+
+  protected AbstractPipelineStage(Observable<O> observable) {
+    this.observable = observable ;
+    this.emittedCounterName = "pipeline." + getClass().getSimpleName() + ".emitted" ;
+  }
+
+  protected AbstractPipelineStage() {
+    this(new DefaultObservable<>()) ;
+  }
+
+  @Override
+  public Observable<O> getObservable() {
+    return observable ;
+  }
+
+  /**
+   * Notifies the data to the observers of the stage. Stages producing data from several threads (e.g. a
+   * timer and the thread of the source) are serialized here
+   */
+  protected void emit(O data) {
+    synchronized (observable) {
+      observable.setChanged();
+      observable.notifyObservers(data);
+    }
+    Metrics.counter(emittedCounterName).increment();
+  }
+
+  /**
+   * Starts the stages registered after this one. Subclasses scheduling tasks must schedule them before invoking
+   * this method
+   */
+  @Override
+  public void start(ScheduledExecutorService scheduler) {
+    for (PipelineStage<O, ?> nextStage : getNextStages()) {
+      nextStage.start(scheduler);
+    }
+  }
+
+  /**
+   * Stops the stages registered after this one. Subclasses holding data or scheduled tasks must release them
+   * before invoking this method
+   */
+  @Override
+  public void stop() {
+    for (PipelineStage<O, ?> nextStage : getNextStages()) {
+      nextStage.stop();
+    }
+  }
+
+  private List<PipelineStage<O, ?>> getNextStages() {
+    List<PipelineStage<O, ?>> nextStages = new ArrayList<>() ;
+    for (Observer<O> observer : observable.getObservers()) {
+      Observer<O> target = MeteredObserver.unwrap(observer) ;
+      if (target instanceof PipelineStage) {
+        nextStages.add((PipelineStage<O, ?>) target) ;
+      }
+    }
+    return nextStages ;
+  }
+}
@@ -0,0 +1,94 @@
+package org.uma.jmetalsp.pipeline.impl;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetalsp.ObservedData;
+import org.uma.jmetalsp.observer.Observable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Stage aggregating the received data in windows of a fixed number of data. A window is notified every
+ * "slide" data; if the slide is equal to the window size, the windows are tumbling (each data belongs to one
+ * window), and if it is smaller, they are sliding (consecutive windows overlap).
+ *
+ * @param <I> Input data
+ * @param <O> Output data
+ */
+public class CountWindowStage<I extends ObservedData<?>, O extends ObservedData<?>> extends AbstractPipelineStage<I, O> {
+  private final int windowSize ;
+  private final int slide ;
+  private final Function<List<I>, O> aggregator ;
+  private final Deque<I> window ;
+  private long numberOfReceivedData ;
+
+  /**
+   * Constructor of a tumbling window
+   */
+  public CountWindowStage(int windowSize, Function<List<I>, O> aggregator) {
+    this(windowSize, windowSize, aggregator) ;
+  }
+
+  /**
+   * Constructor
+   * @param windowSize Number of data of each window
+   * @param slide Number of data received between two consecutive windows, in the range [1, windowSize]
+   * @param aggregator Function computing the data to notify from the data of a window
+   */
+  public CountWindowStage(int windowSize, int slide, Function<List<I>, O> aggregator) {
+    if (windowSize <= 0) {
+      throw new JMetalException("The window size must be positive: " + windowSize) ;
+    } else if ((slide <= 0) || (slide > windowSize)) {
+      throw new JMetalException("The slide must be in the range [1, " + windowSize + "]: " + slide) ;
+    } else if (aggregator == null) {
+      throw new JMetalException("The aggregator is null") ;
+    }
+
+    this.windowSize = windowSize ;
+    this.slide = slide ;
+    this.aggregator = aggregator ;
+    this.window = new ArrayDeque<>(windowSize) ;
+    this.numberOfReceivedData = 0 ;
+  }
+
+  @Override
+  public synchronized void update(Observable<I> observable, I data) {
+    if (window.size() == windowSize) {
+      window.removeFirst() ;
+    }
+    window.addLast(data);
+    numberOfReceivedData++ ;
+
+    if ((numberOfReceivedData >= windowSize) && ((numberOfReceivedData - windowSize) % slide == 0)) {
+      notifyWindow(new ArrayList<>(window));
+    }
+  }
+
+  /**
+   * Notifies the data received since the last window, if any, and stops the stage
+   */
+  @Override
+  public void stop() {
+    synchronized (this) {
+      long pendingData = numberOfReceivedData < windowSize
+              ? numberOfReceivedData
+              : (numberOfReceivedData - windowSize) % slide ;
+      if (pendingData > 0) {
+        notifyWindow(new ArrayList<>(window));
+      }
+      window.clear();
+      numberOfReceivedData = 0 ;
+    }
+    super.stop();
+  }
+
+  private void notifyWindow(List<I> data) {
+    O result = aggregator.apply(data) ;
+    if (result != null) {
+      emit(result);
+    }
+  }
+}
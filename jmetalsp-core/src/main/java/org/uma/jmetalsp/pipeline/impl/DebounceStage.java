@@ -0,0 +1,125 @@
+package org.uma.jmetalsp.pipeline.impl;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetalsp.ObservedData;
+import org.uma.jmetalsp.observer.Observable;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stage notifying the last received data once the input has been quiet for a given time. To avoid starving the
+ * observers when the data never stop arriving, the pending data are also notified when they have been waiting
+ * for a maximum delay.
+ *
+ * The notifications are scheduled in the scheduler given to {@link #start(ScheduledExecutorService)}; until the
+ * stage is started, the data are kept pending. A single notification task is scheduled at a time: new data only
+ * move its deadline, and the task schedules itself again if the deadline has moved when it runs.
+ *
+ * @param <D> Observed data
+ */
+public class DebounceStage<D extends ObservedData<?>> extends AbstractPipelineStage<D, D> {
+  private final long quietPeriodNanos ;
+  private final long maximumDelayNanos ;
+  private ScheduledExecutorService scheduler ;
+  private ScheduledFuture<?> scheduledNotification ;
+  private D pendingData ;
+  private long firstPendingDataTime ;
+  private long notificationTime ;
+
+  public DebounceStage(long quietPeriodInMilliseconds) {
+    this(quietPeriodInMilliseconds, Long.MAX_VALUE) ;
+  }
+
+  /**
+   * Constructor
+   * @param quietPeriodInMilliseconds Time without new data after which the last received data is notified
+   * @param maximumDelayInMilliseconds Maximum time the first non-notified data can wait
+   */
+  public DebounceStage(long quietPeriodInMilliseconds, long maximumDelayInMilliseconds) {
+    if (quietPeriodInMilliseconds <= 0) {
+      throw new JMetalException("The quiet period must be positive: " + quietPeriodInMilliseconds) ;
+    } else if (maximumDelayInMilliseconds < quietPeriodInMilliseconds) {
+      throw new JMetalException("The maximum delay (" + maximumDelayInMilliseconds + ") is lower than the " +
+              "quiet period (" + quietPeriodInMilliseconds + ")") ;
+    }
+
+    this.quietPeriodNanos = TimeUnit.MILLISECONDS.toNanos(quietPeriodInMilliseconds) ;
+    this.maximumDelayNanos = TimeUnit.MILLISECONDS.toNanos(maximumDelayInMilliseconds) ;
+    this.pendingData = null ;
+  }
+
+  @Override
+  public void start(ScheduledExecutorService scheduler) {
+    synchronized (this) {
+      this.scheduler = scheduler ;
+      if (pendingData != null) {
+        scheduleNotification() ;
+      }
+    }
+    super.start(scheduler);
+  }
+
+  @Override
+  public synchronized void update(Observable<D> observable, D data) {
+    long now = System.nanoTime() ;
+    if (pendingData == null) {
+      firstPendingDataTime = now ;
+    }
+    pendingData = data ;
+    long delay = Math.max(0, Math.min(quietPeriodNanos, maximumDelayNanos - (now - firstPendingDataTime))) ;
+    notificationTime = now + delay ;
+
+    if (scheduledNotification == null) {
+      scheduleNotification() ;
+    }
+  }
+
+  /**
+   * Notifies the pending data, if any, and stops the stage
+   */
+  @Override
+  public void stop() {
+    synchronized (this) {
+      if (scheduledNotification != null) {
+        scheduledNotification.cancel(false) ;
+      }
+      scheduler = null ;
+    }
+    notifyPendingData();
+    super.stop();
+  }
+
+  private void scheduleNotification() {
+    if (scheduler != null) {
+      scheduledNotification = scheduler.schedule(
+              this::notifyPendingData, notificationTime - System.nanoTime(), TimeUnit.NANOSECONDS) ;
+    }
+  }
+
+  /**
+   * Notifies the pending data if their deadline has passed, or reschedules the notification otherwise. The data
+   * are taken under the lock of the stage, but notified outside it, so the observers do not block the source
+   */
+  private void notifyPendingData() {
+    D data ;
+    synchronized (this) {
+      scheduledNotification = null ;
+      if ((scheduler != null) && (notificationTime - System.nanoTime() > 0)) {
+        scheduleNotification() ;
+        return ;
+      }
+      data = pendingData ;
+      pendingData = null ;
+    }
+
+    if (data != null) {
+      try {
+        emit(data);
+      } catch (RuntimeException e) {
+        e.printStackTrace();
+      }
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package org.uma.jmetalsp.pipeline.impl;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetalsp.ObservedData;
+import org.uma.jmetalsp.observer.Observable;
+
+import java.util.function.Predicate;
+
+/**
+ * Stage notifying only the data satisfying a predicate
+ *
+ * @param <D> Observed data
+ */
+public class FilterStage<D extends ObservedData<?>> extends AbstractPipelineStage<D, D> {
+  private final Predicate<D> predicate ;
+
+  public FilterStage(Predicate<D> predicate) {
+    if (predicate == null) {
+      throw new JMetalException("The predicate is null") ;
+    }
+    this.predicate = predicate ;
+  }
+
+  @Override
+  public void update(Observable<D> observable, D data) {
+    if (predicate.test(data)) {
+      emit(data);
+    }
+  }
+}
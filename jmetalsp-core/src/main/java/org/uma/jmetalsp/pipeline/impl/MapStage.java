@@ -0,0 +1,32 @@
+package org.uma.jmetalsp.pipeline.impl;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetalsp.ObservedData;
+import org.uma.jmetalsp.observer.Observable;
+
+import java.util.function.Function;
+
+/**
+ * Stage transforming each received data. If the mapping function returns null, nothing is notified
+ *
+ * @param <I> Input data
+ * @param <O> Output data
+ */
+public class MapStage<I extends ObservedData<?>, O extends ObservedData<?>> extends AbstractPipelineStage<I, O> {
+  private final Function<I, O> mapper ;
+
+  public MapStage(Function<I, O> mapper) {
+    if (mapper == null) {
+      throw new JMetalException("The mapping function is null") ;
+    }
+    this.mapper = mapper ;
+  }
+
+  @Override
+  public void update(Observable<I> observable, I data) {
+    O result = mapper.apply(data) ;
+    if (result != null) {
+      emit(result);
+    }
+  }
+}
@@ -0,0 +1,144 @@
+package org.uma.jmetalsp.pipeline.impl;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetalsp.ObservedData;
+import org.uma.jmetalsp.observer.Observable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Stage aggregating the data received during a period of time. Every "slide" milliseconds, the data received
+ * in the last "window" milliseconds are aggregated and notified (nothing is notified if there are no data). If
+ * the slide is equal to the window length, the windows are tumbling; if it is smaller, they are sliding. The
+ * windows are closed by a periodic task, so a burst of data produces a single notification per window. The task
+ * is scheduled in the scheduler given to {@link #start(ScheduledExecutorService)}, so no window is closed until
+ * the stage is started.
+ *
+ * @param <I> Input data
+ * @param <O> Output data
+ */
+public class TimeWindowStage<I extends ObservedData<?>, O extends ObservedData<?>> extends AbstractPipelineStage<I, O> {
+  private final long windowNanos ;
+  private final long slideInMilliseconds ;
+  private final boolean tumbling ;
+  private final Function<List<I>, O> aggregator ;
+  private final Deque<TimestampedData<I>> window ;
+  private ScheduledFuture<?> windowClosing ;
+  private boolean newDataInTheWindow ;
+
+  /**
+   * Constructor of a tumbling window
+   */
+  public TimeWindowStage(long windowInMilliseconds, Function<List<I>, O> aggregator) {
+    this(windowInMilliseconds, windowInMilliseconds, aggregator) ;
+  }
+
+  /**
+   * Constructor
+   * @param windowInMilliseconds Length of each window
+   * @param slideInMilliseconds Time between two consecutive windows, in the range [1, windowInMilliseconds]
+   * @param aggregator Function computing the data to notify from the data of a window
+   */
+  public TimeWindowStage(long windowInMilliseconds, long slideInMilliseconds, Function<List<I>, O> aggregator) {
+    if (windowInMilliseconds <= 0) {
+      throw new JMetalException("The window length must be positive: " + windowInMilliseconds) ;
+    } else if ((slideInMilliseconds <= 0) || (slideInMilliseconds > windowInMilliseconds)) {
+      throw new JMetalException(
+              "The slide must be in the range [1, " + windowInMilliseconds + "]: " + slideInMilliseconds) ;
+    } else if (aggregator == null) {
+      throw new JMetalException("The aggregator is null") ;
+    }
+
+    this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowInMilliseconds) ;
+    this.slideInMilliseconds = slideInMilliseconds ;
+    this.tumbling = slideInMilliseconds == windowInMilliseconds ;
+    this.aggregator = aggregator ;
+    this.window = new ArrayDeque<>() ;
+    this.newDataInTheWindow = false ;
+  }
+
+  @Override
+  public void start(ScheduledExecutorService scheduler) {
+    synchronized (this) {
+      if (windowClosing == null) {
+        windowClosing = scheduler.scheduleAtFixedRate(
+                this::closeWindow, slideInMilliseconds, slideInMilliseconds, TimeUnit.MILLISECONDS) ;
+      }
+    }
+    super.start(scheduler);
+  }
+
+  @Override
+  public synchronized void update(Observable<I> observable, I data) {
+    window.addLast(new TimestampedData<>(System.nanoTime(), data));
+    newDataInTheWindow = true ;
+  }
+
+  /**
+   * Notifies the data received since the last window, if any, and stops the stage
+   */
+  @Override
+  public void stop() {
+    synchronized (this) {
+      if (windowClosing != null) {
+        windowClosing.cancel(false) ;
+      }
+    }
+    closeWindow();
+    super.stop();
+  }
+
+  /**
+   * Closes the current window. The data of the window are taken under the lock of the stage, but aggregated and
+   * notified outside it, so the observers do not block the source
+   */
+  private void closeWindow() {
+    List<I> data = null ;
+    synchronized (this) {
+      long windowStart = System.nanoTime() - windowNanos ;
+      while (!window.isEmpty() && (window.peekFirst().timestamp - windowStart <= 0)) {
+        window.removeFirst() ;
+      }
+
+      if (newDataInTheWindow && !window.isEmpty()) {
+        data = new ArrayList<>(window.size()) ;
+        for (TimestampedData<I> timestampedData : window) {
+          data.add(timestampedData.data) ;
+        }
+      }
+
+      if (tumbling) {
+        window.clear();
+      }
+      newDataInTheWindow = false ;
+    }
+
+    if (data != null) {
+      try {
+        O result = aggregator.apply(data) ;
+        if (result != null) {
+          emit(result);
+        }
+      } catch (RuntimeException e) {
+        e.printStackTrace();
+      }
+    }
+  }
+
+  private static class TimestampedData<D> {
+    private final long timestamp ;
+    private final D data ;
+
+    TimestampedData(long timestamp, D data) {
+      this.timestamp = timestamp ;
+      this.data = data ;
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package org.uma.jmetalsp.util;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetalsp.ProblemChangeListener;
+import org.uma.jmetalsp.util.metrics.Metrics;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Class keeping the change epoch of a dynamic problem, i.e., a counter that is incremented every time the problem
+ * is modified, and the listeners to be notified of the changes. Reading the epoch does not require any lock, so it
+ * can be polled by an algorithm every generation.
+ *
+ * The tracker also keeps the event times of the last {@link #EVENT_TIME_HISTORY_SIZE} changes (see
+ * {@link org.uma.jmetalsp.ObservedData#getEventTime()}), and records the time elapsed between the creation of the
+ * data causing a change and the change in the metric "problem.X.queueingLatency" (in milliseconds), where X is an
+ * instance name of the problem (see {@link org.uma.jmetalsp.util.metrics.Metrics#instanceName(String)}).
+ */
+public class ChangeEpochTracker implements Serializable {
+  public static final int EVENT_TIME_HISTORY_SIZE = 1024 ;
+
+  private final AtomicLong changeEpoch ;
+  private final AtomicLongArray eventTimes ;
+  private final String queueingLatencyHistogramName ;
+  private transient List<ProblemChangeListener> listeners ;
+
+  public ChangeEpochTracker(String problemName) {
+    changeEpoch = new AtomicLong(0) ;
+    eventTimes = new AtomicLongArray(EVENT_TIME_HISTORY_SIZE) ;
+    queueingLatencyHistogramName = "problem." + Metrics.instanceName(problemName) + ".queueingLatency" ;
+    listeners = new CopyOnWriteArrayList<>() ;
+  }
+
+  public ChangeEpochTracker() {
+    this("DynamicProblem") ;
+  }
+
+  public long getChangeEpoch() {
+    return changeEpoch.get() ;
+  }
+
+  /**
+   * Increments the change epoch and notifies the listeners
+   * @return The new change epoch
+   */
+  public long increment() {
+    return increment(0) ;
+  }
+
+  /**
+   * Increments the change epoch and notifies the listeners
+   * @param eventTime Event time of the data causing the change, or 0 if it is unknown
+   * @return The new change epoch
+   */
+  public long increment(long eventTime) {
+    long epoch = changeEpoch.incrementAndGet() ;
+    eventTimes.set((int) (epoch % EVENT_TIME_HISTORY_SIZE), eventTime);
+    for (ProblemChangeListener listener : listeners) {
+      listener.problemChanged(epoch);
+    }
+
+    if (eventTime > 0) {
+      Metrics.histogram(queueingLatencyHistogramName).update(Math.max(0, System.currentTimeMillis() - eventTime));
+    }
+
+    return epoch ;
+  }
+
+  /**
+   * @return The event time of the change with the given epoch, or 0 if it is unknown or the change is too old
+   */
+  public long getEventTime(long epoch) {
+    if ((epoch <= 0) || (epoch > changeEpoch.get()) || (epoch <= changeEpoch.get() - EVENT_TIME_HISTORY_SIZE)) {
+      return 0 ;
+    }
+    return eventTimes.get((int) (epoch % EVENT_TIME_HISTORY_SIZE)) ;
+  }
+
+  public void addListener(ProblemChangeListener listener) {
+    if (listener == null) {
+      throw new JMetalException("The problem change listener is null") ;
+    }
+    listeners.add(listener) ;
+  }
+
+  public void removeListener(ProblemChangeListener listener) {
+    listeners.remove(listener) ;
+  }
+
+  private void readObject(ObjectInputStream stream) throws IOException, ClassNotFoundException {
+    stream.defaultReadObject();
+    listeners = new CopyOnWriteArrayList<>() ;
+  }
+}
@@ -0,0 +1,147 @@
+package org.uma.jmetalsp.util;
+
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap of the integers in [0, capacity) ordered by a priority (ties are broken by the integer), which
+ * allows to change the priority of an element or to remove it in O(log n). It is intended to keep the elements of
+ * a population ordered by a value that changes as other elements are removed (e.g. hypervolume contributions or
+ * crowding distances), without allocating memory after its creation.
+ */
+public class IndexedMinHeap {
+  private final int[] heap ;
+  private final int[] positions ;
+  private final double[] priorities ;
+  private int size ;
+
+  public IndexedMinHeap(int capacity) {
+    this.heap = new int[capacity] ;
+    this.positions = new int[capacity] ;
+    this.priorities = new double[capacity] ;
+    this.size = 0 ;
+    Arrays.fill(positions, -1);
+  }
+
+  public void add(int index, double priority) {
+    if (contains(index)) {
+      throw new JMetalException("The element " + index + " is already in the heap") ;
+    }
+
+    priorities[index] = priority ;
+    heap[size] = index ;
+    positions[index] = size ;
+    size++ ;
+    siftUp(size - 1) ;
+  }
+
+  public void update(int index, double priority) {
+    if (!contains(index)) {
+      throw new JMetalException("The element " + index + " is not in the heap") ;
+    }
+
+    double previousPriority = priorities[index] ;
+    priorities[index] = priority ;
+    if (priority < previousPriority) {
+      siftUp(positions[index]) ;
+    } else {
+      siftDown(positions[index]) ;
+    }
+  }
+
+  public boolean remove(int index) {
+    if (!contains(index)) {
+      return false ;
+    }
+
+    int position = positions[index] ;
+    size-- ;
+    positions[index] = -1 ;
+    if (position != size) {
+      heap[position] = heap[size] ;
+      positions[heap[position]] = position ;
+      siftDown(position) ;
+      siftUp(position) ;
+    }
+
+    return true ;
+  }
+
+  /**
+   * @return The element with the lowest priority, or -1 if the heap is empty
+   */
+  public int peek() {
+    return size == 0 ? -1 : heap[0] ;
+  }
+
+  /**
+   * Removes the element with the lowest priority
+   * @return The element, or -1 if the heap is empty
+   */
+  public int poll() {
+    int index = peek() ;
+    if (index >= 0) {
+      remove(index) ;
+    }
+
+    return index ;
+  }
+
+  public boolean contains(int index) {
+    return positions[index] >= 0 ;
+  }
+
+  public double getPriority(int index) {
+    return priorities[index] ;
+  }
+
+  public int size() {
+    return size ;
+  }
+
+  public boolean isEmpty() {
+    return size == 0 ;
+  }
+
+  private boolean isLower(int index, int otherIndex) {
+    int comparison = Double.compare(priorities[index], priorities[otherIndex]) ;
+    return (comparison < 0) || ((comparison == 0) && (index < otherIndex)) ;
+  }
+
+  private void siftUp(int position) {
+    int index = heap[position] ;
+    while (position > 0) {
+      int parent = (position - 1) / 2 ;
+      if (!isLower(index, heap[parent])) {
+        break ;
+      }
+      heap[position] = heap[parent] ;
+      positions[heap[position]] = position ;
+      position = parent ;
+    }
+    heap[position] = index ;
+    positions[index] = position ;
+  }
+
+  private void siftDown(int position) {
+    int index = heap[position] ;
+    while (true) {
+      int child = 2 * position + 1 ;
+      if (child >= size) {
+        break ;
+      }
+      if ((child + 1 < size) && isLower(heap[child + 1], heap[child])) {
+        child++ ;
+      }
+      if (!isLower(heap[child], index)) {
+        break ;
+      }
+      heap[position] = heap[child] ;
+      positions[heap[position]] = position ;
+      position = child ;
+    }
+    heap[position] = index ;
+    positions[index] = position ;
+  }
+}
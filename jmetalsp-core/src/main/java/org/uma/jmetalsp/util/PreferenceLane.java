@@ -0,0 +1,111 @@
+package org.uma.jmetalsp.util;
+
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetalsp.util.metrics.Metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Class delivering the preferences of a decision maker (e.g. reference points) to an interactive dynamic algorithm
+ * ahead of the changes of the problem. The algorithm polls the lane at the end of each generation before checking
+ * the problem; a preference is applied at once (it is not subject to the restart rate limiter) and the pending
+ * changes of the problem are taken into account by the same restart, so the response time is bounded by the
+ * remaining time of the current generation plus one restart, whatever the rate of the problem changes.
+ *
+ * Only the latest preference is kept: a new preference replaces a pending one, keeping the arrival time of the
+ * oldest. The following metrics are published, where X is the name of the algorithm:
+ * - "algorithm.X.preferenceResponseTime": time (in milliseconds) from the arrival of a preference to the end of the
+ * restart applying it
+ * - "algorithm.X.coalescedPreferences": number of preferences replaced before being applied
+ * - "algorithm.X.preferenceDeadlineMisses": number of preferences applied after the response time bound, if any
+ *
+ * @param <P> Type of the preferences
+ */
+public class PreferenceLane<P> {
+  public static final long NO_BOUND = 0 ;
+
+  private final AtomicReference<PendingPreference<P>> pendingPreference ;
+  private final String responseTimeHistogramName ;
+  private final String coalescedPreferencesCounterName ;
+  private final String deadlineMissesCounterName ;
+  private volatile long responseTimeBoundInMilliseconds ;
+  private long arrivalTimeOfTheLastPolledPreference ;
+
+  public PreferenceLane(String algorithmName) {
+    this.pendingPreference = new AtomicReference<>() ;
+    this.responseTimeHistogramName = "algorithm." + algorithmName + ".preferenceResponseTime" ;
+    this.coalescedPreferencesCounterName = "algorithm." + algorithmName + ".coalescedPreferences" ;
+    this.deadlineMissesCounterName = "algorithm." + algorithmName + ".preferenceDeadlineMisses" ;
+    this.responseTimeBoundInMilliseconds = NO_BOUND ;
+    this.arrivalTimeOfTheLastPolledPreference = 0 ;
+  }
+
+  /**
+   * Sets the response time expected for the preferences, or {@link #NO_BOUND}. The preferences applied later are
+   * counted and logged
+   */
+  public PreferenceLane<P> setResponseTimeBound(long responseTimeBoundInMilliseconds) {
+    this.responseTimeBoundInMilliseconds = responseTimeBoundInMilliseconds ;
+
+    return this ;
+  }
+
+  /**
+   * Adds a preference to the lane. This method can be invoked by any thread
+   */
+  public void offer(P preference) {
+    long now = System.nanoTime() ;
+    PendingPreference<P> previous = pendingPreference.getAndUpdate(pending ->
+            new PendingPreference<>(preference, (pending == null) ? now : pending.arrivalTime)) ;
+    if (previous != null) {
+      Metrics.counter(coalescedPreferencesCounterName).increment();
+    }
+  }
+
+  /**
+   * Invoked by the thread of the algorithm
+   * @return The pending preference, or null if there is none
+   */
+  public P poll() {
+    PendingPreference<P> pending = pendingPreference.getAndSet(null) ;
+    if (pending == null) {
+      return null ;
+    }
+
+    arrivalTimeOfTheLastPolledPreference = pending.arrivalTime ;
+    return pending.preference ;
+  }
+
+  public boolean hasPendingPreference() {
+    return pendingPreference.get() != null ;
+  }
+
+  /**
+   * Invoked by the thread of the algorithm when the last polled preference has been applied
+   */
+  public void preferenceApplied() {
+    if (arrivalTimeOfTheLastPolledPreference == 0) {
+      return ;
+    }
+
+    long responseTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - arrivalTimeOfTheLastPolledPreference) ;
+    arrivalTimeOfTheLastPolledPreference = 0 ;
+    Metrics.histogram(responseTimeHistogramName).update(responseTime);
+    if ((responseTimeBoundInMilliseconds != NO_BOUND) && (responseTime > responseTimeBoundInMilliseconds)) {
+      Metrics.counter(deadlineMissesCounterName).increment();
+      JMetalLogger.logger.warning("A preference has been applied in " + responseTime + " ms, more than the " +
+              "bound of " + responseTimeBoundInMilliseconds + " ms") ;
+    }
+  }
+
+  private static class PendingPreference<P> {
+    private final P preference ;
+    private final long arrivalTime ;
+
+    PendingPreference(P preference, long arrivalTime) {
+      this.preference = preference ;
+      this.arrivalTime = arrivalTime ;
+    }
+  }
+}
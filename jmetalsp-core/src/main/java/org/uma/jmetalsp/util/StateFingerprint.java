@@ -0,0 +1,51 @@
+package org.uma.jmetalsp.util;
+
+/**
+ * Functions to compute the fingerprint of the state of a dynamic problem (see
+ * {@link org.uma.jmetalsp.DynamicProblem#getStateFingerprint()}). Fingerprints are 64-bit hashes, where the value 0
+ * is reserved to indicate that the state is unknown.
+ */
+public final class StateFingerprint {
+  public static final long UNKNOWN = 0 ;
+
+  private StateFingerprint() {
+  }
+
+  /**
+   * Spreads the bits of a value (finalizer of the SplitMix64 generator), so that close values get unrelated hashes
+   */
+  public static long mix(long value) {
+    long z = value + 0x9E3779B97F4A7C15L ;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L ;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL ;
+    return z ^ (z >>> 31) ;
+  }
+
+  public static long mix(long first, long second) {
+    return mix(mix(first) ^ second) ;
+  }
+
+  /**
+   * Returns a hash of a real value rounded to a relative resolution, so that values differing in less than a
+   * fraction of {@code resolution} usually get the same hash. Values near bucket boundaries can still get different
+   * hashes, so similar states are recognized most of the times, not always
+   */
+  public static long ofValue(double value, double resolution) {
+    long bucket ;
+    if (Double.isNaN(value) || Double.isInfinite(value) || (value == 0.0)) {
+      bucket = Double.doubleToLongBits(value) ;
+    } else {
+      bucket = (long) Math.floor(Math.log(Math.abs(value)) / Math.log1p(resolution)) ;
+      bucket = (value < 0) ? ~bucket : bucket ;
+    }
+
+    return mix(bucket) ;
+  }
+
+  /**
+   * Makes sure that a computed fingerprint is not mistaken for an unknown one
+   */
+  public static long known(long fingerprint) {
+    return (fingerprint == UNKNOWN) ? 1 : fingerprint ;
+  }
+}
@@ -0,0 +1,188 @@
+package org.uma.jmetalsp.util.autotuning;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetalsp.util.metrics.Metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Controller adjusting the evaluation budget of a {@link TunableAlgorithm} so that its fronts are published with a
+ * target period, whatever the cost of the evaluations and the load of the machine. Each time a front is published,
+ * the cost of an evaluation is estimated as the time since the previous front divided by the evaluations actually
+ * computed in that time (see {@link TunableAlgorithm#getNumberOfComputedEvaluations()}, so the time taken by
+ * restarts and publications is included, and a budget shortened by a restart does not distort it), and smoothed
+ * with an exponentially weighted moving average. The next budget is the number of evaluations fitting in the target period, rounded to whole
+ * generations and bounded by a given range.
+ *
+ * If a population size range is set and the population size of the algorithm is tunable, the population size is
+ * also adjusted so that each front is the result of a given number of generations.
+ *
+ * The period between fronts (in milliseconds) and the budget are published in the metrics
+ * "algorithm.X.publicationPeriod" and "algorithm.X.evaluationBudget", where X is the metrics name of the
+ * algorithm (see {@link org.uma.jmetalsp.DynamicAlgorithm#getMetricsName()}).
+ * The instances of this class are intended to be used by the thread of an algorithm; use {@link #copy()} to
+ * obtain a controller for each algorithm.
+ */
+public class CadenceController {
+  public static final double DEFAULT_SMOOTHING_FACTOR = 0.3 ;
+  private static final double POPULATION_SIZE_TOLERANCE = 0.1 ;
+
+  private final long targetPeriodInNanos ;
+  private double smoothingFactor ;
+  private int minimumEvaluationBudget ;
+  private int maximumEvaluationBudget ;
+  private int minimumPopulationSize ;
+  private int maximumPopulationSize ;
+  private int generationsPerFront ;
+
+  private long lastPublicationTime ;
+  private long lastNumberOfComputedEvaluations ;
+  private double nanosPerEvaluation ;
+
+  private TunableAlgorithm<?, ?> namedAlgorithm ;
+  private String publicationPeriodHistogramName ;
+  private String evaluationBudgetHistogramName ;
+
+  /**
+   * Constructor
+   * @param targetPeriodInMilliseconds Target time between two published fronts
+   */
+  public CadenceController(long targetPeriodInMilliseconds) {
+    if (targetPeriodInMilliseconds <= 0) {
+      throw new JMetalException("The target period must be positive: " + targetPeriodInMilliseconds) ;
+    }
+
+    this.targetPeriodInNanos = TimeUnit.MILLISECONDS.toNanos(targetPeriodInMilliseconds) ;
+    this.smoothingFactor = DEFAULT_SMOOTHING_FACTOR ;
+    this.minimumEvaluationBudget = 1 ;
+    this.maximumEvaluationBudget = Integer.MAX_VALUE ;
+    this.minimumPopulationSize = 0 ;
+    this.maximumPopulationSize = 0 ;
+    this.generationsPerFront = 0 ;
+    this.lastPublicationTime = 0 ;
+    this.lastNumberOfComputedEvaluations = 0 ;
+    this.nanosPerEvaluation = 0 ;
+  }
+
+  public CadenceController setSmoothingFactor(double smoothingFactor) {
+    if ((smoothingFactor <= 0) || (smoothingFactor > 1)) {
+      throw new JMetalException("The smoothing factor must be in (0, 1]: " + smoothingFactor) ;
+    }
+    this.smoothingFactor = smoothingFactor ;
+
+    return this ;
+  }
+
+  public CadenceController setEvaluationBudgetRange(int minimumEvaluationBudget, int maximumEvaluationBudget) {
+    if ((minimumEvaluationBudget <= 0) || (minimumEvaluationBudget > maximumEvaluationBudget)) {
+      throw new JMetalException("Invalid evaluation budget range: [" + minimumEvaluationBudget + ", " +
+              maximumEvaluationBudget + "]") ;
+    }
+    this.minimumEvaluationBudget = minimumEvaluationBudget ;
+    this.maximumEvaluationBudget = maximumEvaluationBudget ;
+
+    return this ;
+  }
+
+  /**
+   * Enables the adjustment of the population size. The population sizes are even, so the range must contain an
+   * even size
+   * @param generationsPerFront Number of generations computed between two published fronts
+   */
+  public CadenceController setPopulationSizeRange(int minimumPopulationSize, int maximumPopulationSize,
+                                                  int generationsPerFront) {
+    if ((minimumPopulationSize <= 0) || (minimumPopulationSize > maximumPopulationSize)) {
+      throw new JMetalException("Invalid population size range: [" + minimumPopulationSize + ", " +
+              maximumPopulationSize + "]") ;
+    } else if ((minimumPopulationSize == maximumPopulationSize) && (minimumPopulationSize % 2 != 0)) {
+      throw new JMetalException("The population size range does not contain an even size: [" +
+              minimumPopulationSize + ", " + maximumPopulationSize + "]") ;
+    } else if (generationsPerFront <= 0) {
+      throw new JMetalException("The number of generations per front must be positive: " + generationsPerFront) ;
+    }
+    this.minimumPopulationSize = minimumPopulationSize ;
+    this.maximumPopulationSize = maximumPopulationSize ;
+    this.generationsPerFront = generationsPerFront ;
+
+    return this ;
+  }
+
+  /**
+   * Invoked by the algorithm after publishing a front, before computing the next one
+   */
+  public void frontPublished(TunableAlgorithm<?, ?> algorithm) {
+    long now = System.nanoTime() ;
+    long computedEvaluations = algorithm.getNumberOfComputedEvaluations() ;
+    if (algorithm != namedAlgorithm) {
+      namedAlgorithm = algorithm ;
+      publicationPeriodHistogramName = "algorithm." + algorithm.getMetricsName() + ".publicationPeriod" ;
+      evaluationBudgetHistogramName = "algorithm." + algorithm.getMetricsName() + ".evaluationBudget" ;
+    }
+    if (lastPublicationTime != 0) {
+      long period = now - lastPublicationTime ;
+      Metrics.histogram(publicationPeriodHistogramName)
+              .update(TimeUnit.NANOSECONDS.toMillis(period));
+
+      long evaluationsInThePeriod = computedEvaluations - lastNumberOfComputedEvaluations ;
+      if (evaluationsInThePeriod > 0) {
+        double cost = (double) period / evaluationsInThePeriod ;
+        nanosPerEvaluation = (nanosPerEvaluation == 0) ?
+                cost : smoothingFactor * cost + (1 - smoothingFactor) * nanosPerEvaluation ;
+
+        tune(algorithm) ;
+      }
+    }
+    lastPublicationTime = now ;
+    lastNumberOfComputedEvaluations = computedEvaluations ;
+  }
+
+  /**
+   * @return A controller with the same configuration and no measurements
+   */
+  public CadenceController copy() {
+    CadenceController controller = new CadenceController(TimeUnit.NANOSECONDS.toMillis(targetPeriodInNanos)) ;
+    controller.smoothingFactor = smoothingFactor ;
+    controller.minimumEvaluationBudget = minimumEvaluationBudget ;
+    controller.maximumEvaluationBudget = maximumEvaluationBudget ;
+    controller.minimumPopulationSize = minimumPopulationSize ;
+    controller.maximumPopulationSize = maximumPopulationSize ;
+    controller.generationsPerFront = generationsPerFront ;
+
+    return controller ;
+  }
+
+  public long getTargetPeriod() {
+    return TimeUnit.NANOSECONDS.toMillis(targetPeriodInNanos) ;
+  }
+
+  /**
+   * @return Smoothed time taken by an evaluation, in nanoseconds, or 0 if it has not been measured yet
+   */
+  public double getNanosPerEvaluation() {
+    return nanosPerEvaluation ;
+  }
+
+  private void tune(TunableAlgorithm<?, ?> algorithm) {
+    long evaluations = Math.round(targetPeriodInNanos / nanosPerEvaluation) ;
+
+    if ((generationsPerFront > 0) && algorithm.isPopulationSizeTunable()) {
+      long populationSize = Math.max(minimumPopulationSize,
+              Math.min(maximumPopulationSize, evaluations / generationsPerFront)) ;
+      populationSize -= populationSize % 2 ;
+      if (populationSize < minimumPopulationSize) {
+        populationSize += 2 ;
+      }
+      if (Math.abs(populationSize - algorithm.getPopulationSize()) >
+              POPULATION_SIZE_TOLERANCE * algorithm.getPopulationSize()) {
+        algorithm.setPopulationSize((int) populationSize);
+      }
+    }
+
+    int populationSize = algorithm.getPopulationSize() ;
+    evaluations = Math.max(populationSize, evaluations - evaluations % populationSize) ;
+    int budget = (int) Math.max(minimumEvaluationBudget, Math.min(maximumEvaluationBudget, evaluations)) ;
+
+    algorithm.setEvaluationBudget(budget);
+    Metrics.histogram(evaluationBudgetHistogramName).update(budget);
+  }
+}
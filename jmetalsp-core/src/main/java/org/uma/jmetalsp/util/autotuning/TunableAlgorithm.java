@@ -0,0 +1,45 @@
+package org.uma.jmetalsp.util.autotuning;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetalsp.DynamicAlgorithm;
+import org.uma.jmetalsp.ObservedData;
+
+/**
+ * Dynamic algorithm whose evaluation budget per published front (and, optionally, its population size) can be
+ * changed while it is running, so that a {@link CadenceController} can adjust them
+ *
+ * @param <Result> Result of the algorithm
+ * @param <O> Observed data
+ */
+public interface TunableAlgorithm<Result, O extends ObservedData<?>> extends DynamicAlgorithm<Result, O> {
+  /**
+   * @return Number of evaluations computed between two published fronts
+   */
+  int getEvaluationBudget() ;
+
+  void setEvaluationBudget(int evaluationBudget) ;
+
+  /**
+   * @return Number of evaluations computed since the algorithm started, including those of the restarts. Unlike
+   * the progress towards the evaluation budget, it is not advanced when a restart shortens the budget
+   */
+  long getNumberOfComputedEvaluations() ;
+
+  int getPopulationSize() ;
+
+  /**
+   * @return true if the population size can be changed while the algorithm is running
+   */
+  default boolean isPopulationSizeTunable() {
+    return false ;
+  }
+
+  default void setPopulationSize(int populationSize) {
+    throw new JMetalException("The population size of " + getName() + " cannot be changed") ;
+  }
+
+  /**
+   * Sets the controller invoked each time a front is published, or null to keep the budget fixed
+   */
+  void setCadenceController(CadenceController cadenceController) ;
+}
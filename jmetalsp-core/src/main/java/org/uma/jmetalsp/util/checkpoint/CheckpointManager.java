@@ -0,0 +1,202 @@
+package org.uma.jmetalsp.util.checkpoint;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetalsp.util.metrics.Metrics;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class writing periodic checkpoints of the state of a set of {@link Checkpointable} components to a local file,
+ * and restoring them when the application starts. Each component is registered with a name, which identifies its
+ * section in the file, so the names must not change between executions.
+ *
+ * The file is written in a binary format (a header followed by one section per component) to a temporary file
+ * that replaces the previous checkpoint atomically, so a crash while writing never leaves a corrupted
+ * checkpoint. If the state of a component cannot be obtained (e.g. its safe point is not reached in time), its
+ * previous section is kept. The time taken by each checkpoint and its size are published in the metrics
+ * "checkpoint.write" and "checkpoint.bytes".
+ */
+public class CheckpointManager {
+  public static final long DEFAULT_SAFE_POINT_TIMEOUT = 5000 ;
+
+  private static final int MAGIC_NUMBER = 0x4A4D5350 ;
+  private static final int FORMAT_VERSION = 1 ;
+
+  private final Path checkpointFile ;
+  private final Map<String, Checkpointable> components ;
+  private final Map<String, byte[]> lastSections ;
+  private ScheduledExecutorService timer ;
+
+  public CheckpointManager(Path checkpointFile) {
+    if (checkpointFile == null) {
+      throw new JMetalException("The checkpoint file is null") ;
+    }
+    this.checkpointFile = checkpointFile ;
+    this.components = new LinkedHashMap<>() ;
+    this.lastSections = new HashMap<>() ;
+    this.timer = null ;
+  }
+
+  public CheckpointManager(String checkpointFileName) {
+    this(Paths.get(checkpointFileName)) ;
+  }
+
+  public synchronized CheckpointManager register(String name, Checkpointable component) {
+    if (component == null) {
+      throw new JMetalException("The component " + name + " is null") ;
+    } else if (components.containsKey(name)) {
+      throw new JMetalException("There is already a component with name " + name) ;
+    }
+    components.put(name, component) ;
+
+    return this ;
+  }
+
+  public Path getCheckpointFile() {
+    return checkpointFile ;
+  }
+
+  /**
+   * Restores the state of the registered components from the checkpoint file. Sections of components that are
+   * not registered are ignored
+   * @return false if there is no checkpoint file
+   */
+  public synchronized boolean restore() throws IOException {
+    if (!Files.exists(checkpointFile)) {
+      return false ;
+    }
+
+    long startTime = System.nanoTime() ;
+    try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(checkpointFile)))) {
+      if (input.readInt() != MAGIC_NUMBER) {
+        throw new IOException("The file " + checkpointFile + " is not a checkpoint") ;
+      }
+      int version = input.readInt() ;
+      if (version != FORMAT_VERSION) {
+        throw new IOException("Unsupported checkpoint version: " + version) ;
+      }
+      input.readLong() ;
+
+      int numberOfSections = input.readInt() ;
+      for (int i = 0; i < numberOfSections; i++) {
+        String name = input.readUTF() ;
+        byte[] section = new byte[input.readInt()] ;
+        input.readFully(section);
+
+        Checkpointable component = components.get(name) ;
+        if (component != null) {
+          component.readCheckpoint(new DataInputStream(new ByteArrayInputStream(section)));
+          lastSections.put(name, section) ;
+        }
+      }
+    }
+    Metrics.timer("checkpoint.restore").record(System.nanoTime() - startTime);
+
+    return true ;
+  }
+
+  /**
+   * Writes a checkpoint with the current state of the registered components
+   */
+  public synchronized void checkpoint() throws IOException {
+    long startTime = System.nanoTime() ;
+    for (Map.Entry<String, Checkpointable> entry : components.entrySet()) {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream() ;
+      try (DataOutputStream output = new DataOutputStream(bytes)) {
+        entry.getValue().writeCheckpoint(output);
+      } catch (IOException | RuntimeException e) {
+        JMetalLogger.logger.warning("The state of " + entry.getKey() + " has not been checkpointed: " + e) ;
+        continue ;
+      }
+      lastSections.put(entry.getKey(), bytes.toByteArray()) ;
+    }
+
+    Path temporaryFile = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp") ;
+    long size ;
+    try (DataOutputStream output =
+                 new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+      output.writeInt(MAGIC_NUMBER);
+      output.writeInt(FORMAT_VERSION);
+      output.writeLong(System.currentTimeMillis());
+      output.writeInt(lastSections.size());
+      for (Map.Entry<String, byte[]> section : lastSections.entrySet()) {
+        output.writeUTF(section.getKey());
+        output.writeInt(section.getValue().length);
+        output.write(section.getValue());
+      }
+      size = output.size() ;
+    }
+
+    try {
+      Files.move(temporaryFile, checkpointFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING) ;
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(temporaryFile, checkpointFile, StandardCopyOption.REPLACE_EXISTING) ;
+    }
+
+    Metrics.timer("checkpoint.write").record(System.nanoTime() - startTime);
+    Metrics.histogram("checkpoint.bytes").update(size);
+  }
+
+  /**
+   * Starts writing checkpoints periodically
+   */
+  public synchronized void start(long periodInMilliseconds) {
+    if (periodInMilliseconds <= 0) {
+      throw new JMetalException("The checkpoint period must be positive: " + periodInMilliseconds) ;
+    } else if (timer != null) {
+      throw new JMetalException("The checkpoint manager is already started") ;
+    }
+
+    timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "CheckpointManager") ;
+      thread.setDaemon(true);
+      return thread ;
+    }) ;
+    timer.scheduleWithFixedDelay(() -> {
+      try {
+        checkpoint();
+      } catch (IOException e) {
+        JMetalLogger.logger.warning("Error writing the checkpoint " + checkpointFile + ": " + e) ;
+      }
+    }, periodInMilliseconds, periodInMilliseconds, TimeUnit.MILLISECONDS) ;
+  }
+
+  /**
+   * Stops the periodic checkpoints and writes a last one
+   */
+  public void stop() throws IOException {
+    ScheduledExecutorService currentTimer ;
+    synchronized (this) {
+      currentTimer = timer ;
+      timer = null ;
+    }
+
+    if (currentTimer != null) {
+      currentTimer.shutdown();
+      try {
+        currentTimer.awaitTermination(DEFAULT_SAFE_POINT_TIMEOUT, TimeUnit.MILLISECONDS) ;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    checkpoint();
+  }
+}
@@ -0,0 +1,18 @@
+package org.uma.jmetalsp.util.checkpoint;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Interface representing a component (algorithm, problem, streaming data source, etc.) whose state can be saved
+ * in a checkpoint and restored when the application is started again.
+ *
+ * {@link #writeCheckpoint(DataOutput)} is invoked by the thread of the {@link CheckpointManager}, so the
+ * implementations must write a consistent state while the component is running (see {@link SafePoint}).
+ * {@link #readCheckpoint(DataInput)} is invoked before the component starts running.
+ */
+public interface Checkpointable {
+  void writeCheckpoint(DataOutput output) throws IOException ;
+  void readCheckpoint(DataInput input) throws IOException ;
+}
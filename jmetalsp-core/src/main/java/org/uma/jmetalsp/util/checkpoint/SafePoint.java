@@ -0,0 +1,98 @@
+package org.uma.jmetalsp.util.checkpoint;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Point of the execution of a component (typically the end of a generation of an algorithm) at which its state
+ * is consistent and can be written to a checkpoint. The thread of the component invokes
+ * {@link #reached(StateWriter)} at each safe point; another thread asking for the state with
+ * {@link #capture(StateWriter, long)} waits until the next safe point, where the state is written by the thread
+ * of the component. Once the thread of the component has finished, the state is written directly by the calling
+ * thread; before the first safe point is reached, the state is not available and the capture fails.
+ */
+public class SafePoint {
+  private static final long POLLING_PERIOD_IN_MILLISECONDS = 10 ;
+
+  @FunctionalInterface
+  public interface StateWriter {
+    void write(DataOutput output) throws IOException ;
+  }
+
+  private final AtomicReference<CompletableFuture<byte[]>> pendingRequest ;
+  private volatile Thread ownerThread ;
+
+  public SafePoint() {
+    this.pendingRequest = new AtomicReference<>() ;
+    this.ownerThread = null ;
+  }
+
+  /**
+   * Invoked by the thread of the component when its state is consistent. It is cheap if there is no pending
+   * request
+   */
+  public void reached(StateWriter writer) {
+    ownerThread = Thread.currentThread() ;
+    CompletableFuture<byte[]> request = pendingRequest.getAndSet(null) ;
+    if (request != null) {
+      try {
+        request.complete(write(writer)) ;
+      } catch (IOException | RuntimeException e) {
+        request.completeExceptionally(e) ;
+      }
+    }
+  }
+
+  /**
+   * Returns the state of the component written at the next safe point
+   * @param timeoutInMilliseconds Maximum time to wait for the safe point
+   * @throws IOException If the state cannot be written or the safe point is not reached in time
+   */
+  public byte[] capture(StateWriter writer, long timeoutInMilliseconds) throws IOException {
+    CompletableFuture<byte[]> request = new CompletableFuture<>() ;
+    pendingRequest.set(request);
+
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMilliseconds) ;
+    try {
+      while (true) {
+        Thread owner = ownerThread ;
+        if ((owner != null) && !owner.isAlive() && pendingRequest.compareAndSet(request, null)) {
+          return write(writer) ;
+        }
+
+        try {
+          return request.get(POLLING_PERIOD_IN_MILLISECONDS, TimeUnit.MILLISECONDS) ;
+        } catch (TimeoutException e) {
+          if (System.nanoTime() - deadline >= 0) {
+            if (pendingRequest.compareAndSet(request, null)) {
+              throw new IOException("The safe point has not been reached in " + timeoutInMilliseconds + " ms") ;
+            }
+            return request.get() ;
+          }
+        }
+      }
+    } catch (InterruptedException e) {
+      pendingRequest.compareAndSet(request, null) ;
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for the safe point", e) ;
+    } catch (ExecutionException e) {
+      throw new IOException("Error writing the state", e.getCause()) ;
+    }
+  }
+
+  private static byte[] write(StateWriter writer) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream() ;
+    DataOutputStream output = new DataOutputStream(bytes) ;
+    writer.write(output);
+    output.flush();
+
+    return bytes.toByteArray() ;
+  }
+}
@@ -0,0 +1,117 @@
+package org.uma.jmetalsp.util.checkpoint;
+
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact binary encoding of solution lists, used to write the populations of the algorithms to checkpoints.
+ * For each solution, its variables and objectives are written; double and integer variables are written in
+ * binary form, and other variable types (e.g. binary sets) with Java serialization. The solutions are rebuilt
+ * with {@link Problem#createSolution()}, so the attributes of the solutions are not kept.
+ */
+public class SolutionListCodec {
+  private static final byte DOUBLE_VARIABLE = 0 ;
+  private static final byte INTEGER_VARIABLE = 1 ;
+  private static final byte SERIALIZED_VARIABLE = 2 ;
+
+  private SolutionListCodec() {
+  }
+
+  public static void writeSolutionList(List<? extends Solution<?>> solutionList, DataOutput output)
+          throws IOException {
+    output.writeInt(solutionList.size());
+    for (Solution<?> solution : solutionList) {
+      writeSolution(solution, output);
+    }
+  }
+
+  public static <S extends Solution<?>> List<S> readSolutionList(DataInput input, Problem<S> problem)
+          throws IOException {
+    int size = input.readInt() ;
+    List<S> solutionList = new ArrayList<>(size) ;
+    for (int i = 0; i < size; i++) {
+      solutionList.add(readSolution(input, problem)) ;
+    }
+
+    return solutionList ;
+  }
+
+  public static void writeSolution(Solution<?> solution, DataOutput output) throws IOException {
+    output.writeInt(solution.getNumberOfVariables());
+    for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+      Object value = solution.getVariableValue(i) ;
+      if (value instanceof Double) {
+        output.writeByte(DOUBLE_VARIABLE);
+        output.writeDouble((Double) value);
+      } else if (value instanceof Integer) {
+        output.writeByte(INTEGER_VARIABLE);
+        output.writeInt((Integer) value);
+      } else {
+        output.writeByte(SERIALIZED_VARIABLE);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream() ;
+        try (ObjectOutputStream objectOutput = new ObjectOutputStream(bytes)) {
+          objectOutput.writeObject(value);
+        }
+        output.writeInt(bytes.size());
+        output.write(bytes.toByteArray());
+      }
+    }
+
+    output.writeInt(solution.getNumberOfObjectives());
+    for (int i = 0; i < solution.getNumberOfObjectives(); i++) {
+      output.writeDouble(solution.getObjective(i));
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <S extends Solution<?>> S readSolution(DataInput input, Problem<S> problem) throws IOException {
+    S solution = problem.createSolution() ;
+    Solution<Object> target = (Solution<Object>) solution ;
+
+    int numberOfVariables = input.readInt() ;
+    if (numberOfVariables != solution.getNumberOfVariables()) {
+      throw new JMetalException("The checkpoint has solutions with " + numberOfVariables + " variables, but the " +
+              "problem " + problem.getName() + " has " + solution.getNumberOfVariables()) ;
+    }
+
+    for (int i = 0; i < numberOfVariables; i++) {
+      byte type = input.readByte() ;
+      if (type == DOUBLE_VARIABLE) {
+        target.setVariableValue(i, input.readDouble());
+      } else if (type == INTEGER_VARIABLE) {
+        target.setVariableValue(i, input.readInt());
+      } else if (type == SERIALIZED_VARIABLE) {
+        byte[] bytes = new byte[input.readInt()] ;
+        input.readFully(bytes);
+        try (ObjectInputStream objectInput = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+          target.setVariableValue(i, objectInput.readObject());
+        } catch (ClassNotFoundException e) {
+          throw new IOException("Error reading the variable " + i, e) ;
+        }
+      } else {
+        throw new IOException("Unknown variable type: " + type) ;
+      }
+    }
+
+    int numberOfObjectives = input.readInt() ;
+    for (int i = 0; i < numberOfObjectives; i++) {
+      double value = input.readDouble() ;
+      if (i < solution.getNumberOfObjectives()) {
+        solution.setObjective(i, value);
+      }
+    }
+
+    return solution ;
+  }
+}
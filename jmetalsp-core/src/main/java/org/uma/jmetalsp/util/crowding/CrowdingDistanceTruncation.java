@@ -0,0 +1,105 @@
+package org.uma.jmetalsp.util.crowding;
+
+import org.uma.jmetalsp.util.IndexedMinHeap;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+
+/**
+ * Class choosing the points to remove from a front so that the remaining ones are as spread as possible, removing
+ * one at a time the point with the lowest crowding distance and updating the distances of the others, as done by a
+ * crowding distance archive when it is pruned repeatedly. The points are sorted once by each objective and kept in
+ * a linked list per objective; when a point is removed, only the distances of its neighbours in each objective
+ * change, so the truncation is O(m n log n) for n points and m objectives.
+ *
+ * The crowding distance of a point is the sum, for each objective, of the distance between its two neighbours
+ * divided by the range of the objective in the front; the extreme points of each objective have an infinite
+ * distance.
+ */
+public class CrowdingDistanceTruncation {
+  private static final int NONE = -1 ;
+
+  /**
+   * Chooses the points to remove from an array of objective vectors
+   * @return The indices of the points to remove
+   */
+  public BitSet selectPointsToRemove(double[][] points, int numberOfPointsToRemove) {
+    int size = points.length ;
+    BitSet removed = new BitSet(size) ;
+    if (numberOfPointsToRemove >= size) {
+      removed.set(0, size);
+      return removed ;
+    } else if (numberOfPointsToRemove <= 0) {
+      return removed ;
+    }
+
+    int numberOfObjectives = points[0].length ;
+    int[][] previous = new int[numberOfObjectives][size] ;
+    int[][] next = new int[numberOfObjectives][size] ;
+    double[] ranges = new double[numberOfObjectives] ;
+    Integer[] order = new Integer[size] ;
+    for (int objective = 0; objective < numberOfObjectives; objective++) {
+      for (int i = 0; i < size; i++) {
+        order[i] = i ;
+      }
+      final int sortingObjective = objective ;
+      Arrays.sort(order, Comparator.comparingDouble(i -> points[i][sortingObjective])) ;
+
+      for (int i = 0; i < size; i++) {
+        previous[objective][order[i]] = (i == 0) ? NONE : order[i - 1] ;
+        next[objective][order[i]] = (i == size - 1) ? NONE : order[i + 1] ;
+      }
+      ranges[objective] = points[order[size - 1]][objective] - points[order[0]][objective] ;
+    }
+
+    IndexedMinHeap heap = new IndexedMinHeap(size) ;
+    for (int i = 0; i < size; i++) {
+      heap.add(i, crowdingDistance(points, i, previous, next, ranges));
+    }
+
+    for (int k = 0; k < numberOfPointsToRemove; k++) {
+      int point = heap.poll() ;
+      removed.set(point);
+
+      for (int objective = 0; objective < numberOfObjectives; objective++) {
+        int previousPoint = previous[objective][point] ;
+        int nextPoint = next[objective][point] ;
+        if (previousPoint != NONE) {
+          next[objective][previousPoint] = nextPoint ;
+        }
+        if (nextPoint != NONE) {
+          previous[objective][nextPoint] = previousPoint ;
+        }
+      }
+      for (int objective = 0; objective < numberOfObjectives; objective++) {
+        updateDistance(heap, points, previous[objective][point], previous, next, ranges) ;
+        updateDistance(heap, points, next[objective][point], previous, next, ranges) ;
+      }
+    }
+
+    return removed ;
+  }
+
+  private void updateDistance(IndexedMinHeap heap, double[][] points, int point, int[][] previous, int[][] next,
+                              double[] ranges) {
+    if ((point != NONE) && heap.contains(point)) {
+      heap.update(point, crowdingDistance(points, point, previous, next, ranges));
+    }
+  }
+
+  private double crowdingDistance(double[][] points, int point, int[][] previous, int[][] next, double[] ranges) {
+    double distance = 0 ;
+    for (int objective = 0; objective < ranges.length; objective++) {
+      int previousPoint = previous[objective][point] ;
+      int nextPoint = next[objective][point] ;
+      if ((previousPoint == NONE) || (nextPoint == NONE)) {
+        return Double.POSITIVE_INFINITY ;
+      } else if (ranges[objective] > 0) {
+        distance += (points[nextPoint][objective] - points[previousPoint][objective]) / ranges[objective] ;
+      }
+    }
+
+    return distance ;
+  }
+}
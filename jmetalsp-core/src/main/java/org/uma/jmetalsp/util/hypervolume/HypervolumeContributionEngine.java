@@ -0,0 +1,272 @@
+package org.uma.jmetalsp.util.hypervolume;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetalsp.util.IndexedMinHeap;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Class choosing the solutions to remove from a list of solutions of a bi-objective problem (to be minimized) so that
+ * the hypervolume of the remaining ones is kept as high as possible. The objectives are normalized to [0, 1] and the
+ * reference point is (1 + offset, 1 + offset).
+ *
+ * The dominated solutions (including the repeated ones) are removed first; if there are more dominated solutions
+ * than solutions to remove, they are chosen among them in the same way, so the last fronts are peeled off first.
+ * The remaining solutions are removed from the non-dominated front one at a time, the one with the lowest
+ * exclusive contribution to the hypervolume first. The front is sorted once and the contributions are computed from
+ * the neighbours of each point; when a point is removed only the contributions of its two neighbours change, so the
+ * whole truncation is O(n log n). When the dominated solutions are not enough, the fronts are peeled off one at a
+ * time, so with F fronts the selection of the dominated solutions adds O(F n log n).
+ *
+ * Problems with three or more objectives are not supported (see {@link #isSupported(int)}): their contributions
+ * cannot be updated in the same way when a point is removed.
+ */
+public class HypervolumeContributionEngine {
+  public static final double DEFAULT_OFFSET = 0.1 ;
+
+  private final double offset ;
+
+  public HypervolumeContributionEngine(double offset) {
+    if (offset <= 0) {
+      throw new JMetalException("The offset must be positive: " + offset) ;
+    }
+    this.offset = offset ;
+  }
+
+  public HypervolumeContributionEngine() {
+    this(DEFAULT_OFFSET) ;
+  }
+
+  /**
+   * @return true if the number of objectives is supported by this class
+   */
+  public static boolean isSupported(int numberOfObjectives) {
+    return numberOfObjectives == 2 ;
+  }
+
+  /**
+   * Chooses the solutions to remove from a list
+   * @return The indices of the solutions to remove
+   */
+  public BitSet selectSolutionsToRemove(List<? extends Solution<?>> solutionList, int numberOfSolutionsToRemove) {
+    if (solutionList.isEmpty()) {
+      return new BitSet() ;
+    }
+
+    int numberOfObjectives = solutionList.get(0).getNumberOfObjectives() ;
+    double[][] points = new double[solutionList.size()][numberOfObjectives] ;
+    for (int i = 0; i < points.length; i++) {
+      for (int j = 0; j < numberOfObjectives; j++) {
+        points[i][j] = solutionList.get(i).getObjective(j) ;
+      }
+    }
+
+    return selectPointsToRemove(points, numberOfSolutionsToRemove) ;
+  }
+
+  /**
+   * Chooses the points to remove from an array of objective vectors
+   * @return The indices of the points to remove
+   */
+  public BitSet selectPointsToRemove(double[][] points, int numberOfPointsToRemove) {
+    BitSet removed = new BitSet(points.length) ;
+    if (points.length == 0) {
+      return removed ;
+    } else if (!isSupported(points[0].length)) {
+      throw new JMetalException("The number of objectives is not supported: " + points[0].length) ;
+    }
+
+    double[][] normalizedPoints = normalize(points) ;
+    int pendingRemovals = Math.min(numberOfPointsToRemove, points.length) ;
+    int[] candidates = IntStream.range(0, points.length).toArray() ;
+    while (pendingRemovals > 0) {
+      BitSet dominated = findDominatedPoints(normalizedPoints, candidates) ;
+      int numberOfDominatedPoints = dominated.cardinality() ;
+      int[] front = new int[candidates.length - numberOfDominatedPoints] ;
+      int[] dominatedPoints = new int[numberOfDominatedPoints] ;
+      int frontSize = 0 ;
+      int dominatedSize = 0 ;
+      for (int i = 0; i < candidates.length; i++) {
+        if (dominated.get(i)) {
+          dominatedPoints[dominatedSize++] = candidates[i] ;
+        } else {
+          front[frontSize++] = candidates[i] ;
+        }
+      }
+
+      if (numberOfDominatedPoints >= pendingRemovals) {
+        candidates = dominatedPoints ;
+      } else {
+        for (int point : dominatedPoints) {
+          removed.set(point);
+        }
+        pendingRemovals -= numberOfDominatedPoints ;
+        truncate(normalizedPoints, front, pendingRemovals, removed) ;
+        pendingRemovals = 0 ;
+      }
+    }
+
+    return removed ;
+  }
+
+  /**
+   * Computes the exclusive hypervolume contributions of the points of a non-dominated front in O(n log n)
+   * @param front Normalized points of the front
+   */
+  public double[] computeContributions(double[][] front) {
+    if ((front.length > 0) && !isSupported(front[0].length)) {
+      throw new JMetalException("The number of objectives is not supported: " + front[0].length) ;
+    }
+
+    return computeContributions(front, new int[front.length], new int[front.length]) ;
+  }
+
+  /**
+   * Links the points of a front in the order of the first objective (and so in reverse order of the second one) and
+   * computes their contributions
+   * @param previous Buffer where the previous point of each one is stored, or -1 for the first one
+   * @param next Buffer where the next point of each one is stored, or -1 for the last one
+   */
+  private double[] computeContributions(double[][] front, int[] previous, int[] next) {
+    int size = front.length ;
+    Integer[] order = new Integer[size] ;
+    for (int i = 0; i < size; i++) {
+      order[i] = i ;
+    }
+    Arrays.sort(order, Comparator.comparingDouble(i -> front[i][0])) ;
+
+    for (int i = 0; i < size; i++) {
+      previous[order[i]] = (i == 0) ? -1 : order[i - 1] ;
+      next[order[i]] = (i == size - 1) ? -1 : order[i + 1] ;
+    }
+
+    double[] contributions = new double[size] ;
+    for (int i = 0; i < size; i++) {
+      contributions[i] = contribution2D(front, i, previous, next) ;
+    }
+
+    return contributions ;
+  }
+
+  private double[][] normalize(double[][] points) {
+    int numberOfObjectives = points[0].length ;
+    double[][] normalizedPoints = new double[points.length][numberOfObjectives] ;
+    for (int j = 0; j < numberOfObjectives; j++) {
+      double min = Double.POSITIVE_INFINITY ;
+      double max = Double.NEGATIVE_INFINITY ;
+      for (double[] point : points) {
+        min = Math.min(min, point[j]) ;
+        max = Math.max(max, point[j]) ;
+      }
+      double range = (max > min) ? max - min : 1.0 ;
+      for (int i = 0; i < points.length; i++) {
+        normalizedPoints[i][j] = (points[i][j] - min) / range ;
+      }
+    }
+
+    return normalizedPoints ;
+  }
+
+  /**
+   * Finds, with a sweep in lexicographic order, the candidates weakly dominated by other candidates (so only the
+   * first of several equal points is non-dominated)
+   * @return The positions in the candidates array of the dominated points
+   */
+  private BitSet findDominatedPoints(double[][] points, int[] candidates) {
+    Integer[] order = new Integer[candidates.length] ;
+    for (int i = 0; i < order.length; i++) {
+      order[i] = i ;
+    }
+    Arrays.sort(order, lexicographicOrder(points, candidates)) ;
+
+    BitSet dominated = new BitSet(candidates.length) ;
+    double lowestSecondObjective = Double.POSITIVE_INFINITY ;
+    for (int position : order) {
+      double secondObjective = points[candidates[position]][1] ;
+      if (secondObjective >= lowestSecondObjective) {
+        dominated.set(position);
+      } else {
+        lowestSecondObjective = secondObjective ;
+      }
+    }
+
+    return dominated ;
+  }
+
+  private Comparator<Integer> lexicographicOrder(double[][] points, int[] candidates) {
+    return (first, second) -> {
+      double[] firstPoint = points[candidates[first]] ;
+      double[] secondPoint = points[candidates[second]] ;
+      for (int j = 0; j < firstPoint.length; j++) {
+        int comparison = Double.compare(firstPoint[j], secondPoint[j]) ;
+        if (comparison != 0) {
+          return comparison ;
+        }
+      }
+      return Integer.compare(first, second) ;
+    } ;
+  }
+
+  /**
+   * Removes greedily from a non-dominated front the points with the lowest contribution
+   */
+  private void truncate(double[][] points, int[] front, int numberOfPointsToRemove, BitSet removed) {
+    if (numberOfPointsToRemove >= front.length) {
+      for (int point : front) {
+        removed.set(point);
+      }
+      return ;
+    }
+
+    double[][] frontPoints = new double[front.length][] ;
+    for (int i = 0; i < front.length; i++) {
+      frontPoints[i] = points[front[i]] ;
+    }
+
+    truncate2D(frontPoints, front, numberOfPointsToRemove, removed) ;
+  }
+
+  private void truncate2D(double[][] frontPoints, int[] front, int numberOfPointsToRemove, BitSet removed) {
+    int size = frontPoints.length ;
+    int[] previous = new int[size] ;
+    int[] next = new int[size] ;
+    double[] contributions = computeContributions(frontPoints, previous, next) ;
+
+    IndexedMinHeap heap = new IndexedMinHeap(size) ;
+    for (int i = 0; i < size; i++) {
+      heap.add(i, contributions[i]);
+    }
+
+    for (int k = 0; k < numberOfPointsToRemove; k++) {
+      int point = heap.poll() ;
+      removed.set(front[point]);
+
+      int previousPoint = previous[point] ;
+      int nextPoint = next[point] ;
+      if (previousPoint >= 0) {
+        next[previousPoint] = nextPoint ;
+        heap.update(previousPoint, contribution2D(frontPoints, previousPoint, previous, next));
+      }
+      if (nextPoint >= 0) {
+        previous[nextPoint] = previousPoint ;
+        heap.update(nextPoint, contribution2D(frontPoints, nextPoint, previous, next));
+      }
+    }
+  }
+
+  /**
+   * Contribution of a point of a front sorted by the first objective (and so in reverse order of the second one)
+   */
+  private double contribution2D(double[][] points, int point, int[] previous, int[] next) {
+    double reference = 1.0 + offset ;
+    double width = ((next[point] >= 0) ? points[next[point]][0] : reference) - points[point][0] ;
+    double height = ((previous[point] >= 0) ? points[previous[point]][1] : reference) - points[point][1] ;
+
+    return width * height ;
+  }
+}
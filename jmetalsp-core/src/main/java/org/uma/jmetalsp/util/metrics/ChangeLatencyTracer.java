@@ -0,0 +1,71 @@
+package org.uma.jmetalsp.util.metrics;
+
+import org.uma.jmetalsp.DynamicProblem;
+
+/**
+ * Class measuring, for a dynamic algorithm, the latency between the creation of the data that modify the problem
+ * (their event time) and the publication of the first front computed with the modified problem. The latency is
+ * split in the following metrics (in milliseconds), where X is the name of the algorithm:
+ * - "algorithm.X.detectionLatency": from the event time to the moment the algorithm takes the change into account
+ * (it includes the queueing and the wait until the end of the current generation)
+ * - "algorithm.X.restartTime": time taken by the restart and the re-evaluation of the population
+ * - "algorithm.X.publicationLatency": from the event time to the publication of the front
+ *
+ * The event time of the oldest change not published yet is kept, so the published latency is the worst one.
+ * The instances of this class are intended to be used by the thread of the algorithm.
+ */
+public class ChangeLatencyTracer {
+  private final String detectionLatencyHistogramName ;
+  private final String restartTimerName ;
+  private final String publicationLatencyHistogramName ;
+
+  private long pendingEventTime ;
+  private long restartStartTime ;
+
+  public ChangeLatencyTracer(String algorithmName) {
+    this.detectionLatencyHistogramName = "algorithm." + algorithmName + ".detectionLatency" ;
+    this.restartTimerName = "algorithm." + algorithmName + ".restartTime" ;
+    this.publicationLatencyHistogramName = "algorithm." + algorithmName + ".publicationLatency" ;
+    this.pendingEventTime = 0 ;
+    this.restartStartTime = 0 ;
+  }
+
+  /**
+   * Invoked when the algorithm detects a change of the problem, before restarting
+   * @param lastSeenChangeEpoch Last change epoch taken into account by the algorithm
+   */
+  public void changeDetected(DynamicProblem<?, ?> problem, long lastSeenChangeEpoch) {
+    long eventTime = problem.getChangeEventTime(lastSeenChangeEpoch + 1) ;
+    if (eventTime > 0) {
+      Metrics.histogram(detectionLatencyHistogramName).update(Math.max(0, System.currentTimeMillis() - eventTime));
+      if (pendingEventTime == 0) {
+        pendingEventTime = eventTime ;
+      }
+    }
+    restartStartTime = System.nanoTime() ;
+  }
+
+  /**
+   * Invoked when the population has been restarted and re-evaluated
+   */
+  public void changeProcessed() {
+    if (restartStartTime != 0) {
+      Metrics.timer(restartTimerName).record(System.nanoTime() - restartStartTime);
+      restartStartTime = 0 ;
+    }
+  }
+
+  /**
+   * Invoked when the algorithm publishes a front
+   * @return The event time of the oldest change taken into account in the front and not published before, or 0
+   */
+  public long resultPublished() {
+    long eventTime = pendingEventTime ;
+    if (eventTime > 0) {
+      Metrics.histogram(publicationLatencyHistogramName).update(Math.max(0, System.currentTimeMillis() - eventTime));
+      pendingEventTime = 0 ;
+    }
+
+    return eventTime ;
+  }
+}
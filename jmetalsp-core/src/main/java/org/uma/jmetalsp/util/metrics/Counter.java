@@ -0,0 +1,11 @@
+package org.uma.jmetalsp.util.metrics;
+
+/**
+ * Monotonically increasing count of events (e.g. data produced by a streaming data source or evaluations
+ * carried out by an algorithm)
+ */
+public interface Counter {
+  void increment() ;
+  void increment(long value) ;
+  long getCount() ;
+}
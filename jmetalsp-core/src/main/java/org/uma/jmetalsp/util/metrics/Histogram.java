@@ -0,0 +1,18 @@
+package org.uma.jmetalsp.util.metrics;
+
+/**
+ * Distribution of non-negative values (e.g. queue depths or consumer lags)
+ */
+public interface Histogram {
+  void update(long value) ;
+
+  long getCount() ;
+  double getMean() ;
+  long getMax() ;
+
+  /**
+   * @param percentile Value in the range [0, 100]
+   * @return An upper bound of the value below which the given percentile of the recorded values falls
+   */
+  long getValueAtPercentile(double percentile) ;
+}
@@ -0,0 +1,81 @@
+package org.uma.jmetalsp.util.metrics;
+
+import org.uma.jmetalsp.ObservedData;
+import org.uma.jmetalsp.observer.Observable;
+import org.uma.jmetalsp.observer.Observer;
+
+/**
+ * Decorator of an {@link Observer} that counts the received data (metric "name.events") and measures the time
+ * taken by the observer to process them (metric "name.update"). If the data have an event time, the time elapsed
+ * since then is recorded in the metric "name.eventLatency" (in milliseconds).
+ *
+ * Two metered observers are equal if they decorate equal observers. The observables of the package
+ * {@code org.uma.jmetalsp.observer.impl} key their observers by {@link #unwrap(Observer)}, so registering or
+ * unregistering an observer with and without the decorator refers to the same registration
+ *
+ * @param <O> Observed data
+ */
+public class MeteredObserver<O extends ObservedData<?>> implements Observer<O> {
+  private final Observer<O> observer ;
+  private final String eventCounterName ;
+  private final String updateTimerName ;
+  private final String eventLatencyHistogramName ;
+
+  public MeteredObserver(Observer<O> observer, String name) {
+    this.observer = observer ;
+    this.eventCounterName = name + ".events" ;
+    this.updateTimerName = name + ".update" ;
+    this.eventLatencyHistogramName = name + ".eventLatency" ;
+  }
+
+  @Override
+  public void update(Observable<O> observable, O data) {
+    long startTime = System.nanoTime() ;
+    observer.update(observable, data);
+    Metrics.timer(updateTimerName).record(System.nanoTime() - startTime);
+
+    Metrics.counter(eventCounterName).increment();
+    long eventTime = data.getEventTime() ;
+    if (eventTime > 0) {
+      Metrics.histogram(eventLatencyHistogramName).update(Math.max(0, System.currentTimeMillis() - eventTime));
+    }
+  }
+
+  public Observer<O> getObserver() {
+    return observer ;
+  }
+
+  @Override
+  public boolean equals(Object object) {
+    if (this == object) {
+      return true ;
+    } else if (!(object instanceof MeteredObserver)) {
+      return false ;
+    }
+    return observer.equals(((MeteredObserver<?>) object).observer) ;
+  }
+
+  @Override
+  public int hashCode() {
+    return observer.hashCode() ;
+  }
+
+  /**
+   * @return The decorated observer if the observer is a {@link MeteredObserver}, or the observer itself otherwise
+   */
+  @SuppressWarnings("unchecked")
+  public static <O extends ObservedData<?>> Observer<O> unwrap(Observer<O> observer) {
+    Observer<O> target = observer ;
+    while (target instanceof MeteredObserver) {
+      target = ((MeteredObserver<O>) target).getObserver() ;
+    }
+    return target ;
+  }
+
+  /**
+   * @return The simple class name of an observer, or of the decorated observer if it is a {@link MeteredObserver}
+   */
+  public static String nameOf(Observer<?> observer) {
+    return unwrap((Observer) observer).getClass().getSimpleName() ;
+  }
+}
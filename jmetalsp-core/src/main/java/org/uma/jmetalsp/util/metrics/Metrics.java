@@ -0,0 +1,62 @@
+package org.uma.jmetalsp.util.metrics;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetalsp.util.metrics.impl.NoOpMetricsRegistry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holder of the {@link MetricsRegistry} used by the components of jMetalSP (application, observables, algorithms
+ * and restart strategies). By default no metric is collected; a registry such as
+ * {@link org.uma.jmetalsp.util.metrics.impl.JmxMetricsRegistry} can be set to publish them.
+ *
+ * The metrics are looked up each time they are updated, so the registry can be changed at any moment.
+ *
+ * The registry is shared by all the components of the JVM, including those of different applications or of
+ * different jobs of an {@link org.uma.jmetalsp.host.OptimizationHost}. To avoid collisions, the components that
+ * can have several instances with the same name (algorithms, problems, jobs) include in their metric names an
+ * instance name obtained with {@link #instanceName(String)}.
+ */
+public class Metrics {
+  private static volatile MetricsRegistry registry = new NoOpMetricsRegistry() ;
+  private static final Map<String, AtomicInteger> numberOfInstances = new ConcurrentHashMap<>() ;
+
+  private Metrics() {
+  }
+
+  public static MetricsRegistry getRegistry() {
+    return registry ;
+  }
+
+  public static void setRegistry(MetricsRegistry metricsRegistry) {
+    if (metricsRegistry == null) {
+      throw new JMetalException("The metrics registry is null") ;
+    }
+    registry = metricsRegistry ;
+  }
+
+  /**
+   * Returns a name identifying an instance of a component in the metric names. The first instance with a given
+   * name gets the name itself, and the following ones get the name followed by "#2", "#3", etc., so two
+   * algorithms of the same class do not share their metrics
+   */
+  public static String instanceName(String name) {
+    int instance = numberOfInstances.computeIfAbsent(name, key -> new AtomicInteger(0)).incrementAndGet() ;
+
+    return instance == 1 ? name : name + "#" + instance ;
+  }
+
+  public static Counter counter(String name) {
+    return registry.counter(name) ;
+  }
+
+  public static Timer timer(String name) {
+    return registry.timer(name) ;
+  }
+
+  public static Histogram histogram(String name) {
+    return registry.histogram(name) ;
+  }
+}
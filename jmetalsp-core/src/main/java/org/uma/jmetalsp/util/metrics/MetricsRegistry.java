@@ -0,0 +1,11 @@
+package org.uma.jmetalsp.util.metrics;
+
+/**
+ * Interface representing a registry of metrics. The same instance is returned every time a metric with a given
+ * name is requested, so components can look up their metrics whenever they need them.
+ */
+public interface MetricsRegistry {
+  Counter counter(String name) ;
+  Timer timer(String name) ;
+  Histogram histogram(String name) ;
+}
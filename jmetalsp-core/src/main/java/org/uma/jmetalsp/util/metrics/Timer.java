@@ -0,0 +1,14 @@
+package org.uma.jmetalsp.util.metrics;
+
+/**
+ * Distribution of the duration of an operation (e.g. the notification of observers or a restart)
+ */
+public interface Timer {
+  void record(long durationInNanoseconds) ;
+
+  long getCount() ;
+  double getTotalTimeInMilliseconds() ;
+  double getMeanInMilliseconds() ;
+  double getMaxInMilliseconds() ;
+  double get99thPercentileInMilliseconds() ;
+}
@@ -0,0 +1,27 @@
+package org.uma.jmetalsp.util.metrics.impl;
+
+import org.uma.jmetalsp.util.metrics.Counter;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe {@link Counter} intended to be updated concurrently from several threads with low contention
+ */
+public class DefaultCounter implements Counter {
+  private final LongAdder count = new LongAdder() ;
+
+  @Override
+  public void increment() {
+    count.increment();
+  }
+
+  @Override
+  public void increment(long value) {
+    count.add(value);
+  }
+
+  @Override
+  public long getCount() {
+    return count.sum() ;
+  }
+}
@@ -0,0 +1,95 @@
+package org.uma.jmetalsp.util.metrics.impl;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetalsp.util.metrics.Histogram;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe {@link Histogram} with base 2 logarithmic buckets: bucket i counts the values in [2^(i-1), 2^i - 1],
+ * and bucket 0 counts the zeros. Updating the histogram does not allocate memory and the percentiles are bounded
+ * by a factor of 2, which is enough to track the order of magnitude of latencies and lags. Negative values, e.g.,
+ * latencies measured with skewed clocks, are recorded as zeros.
+ */
+public class DefaultHistogram implements Histogram {
+  private static final int NUMBER_OF_BUCKETS = 64 ;
+
+  private final AtomicLongArray buckets ;
+  private final LongAdder count ;
+  private final LongAdder sum ;
+  private final AtomicLong max ;
+
+  public DefaultHistogram() {
+    buckets = new AtomicLongArray(NUMBER_OF_BUCKETS) ;
+    count = new LongAdder() ;
+    sum = new LongAdder() ;
+    max = new AtomicLong(0) ;
+  }
+
+  @Override
+  public void update(long value) {
+    value = Math.max(0, value) ;
+    buckets.incrementAndGet(bucketIndex(value));
+    count.increment();
+    sum.add(value);
+
+    long currentMax = max.get() ;
+    while (value > currentMax && !max.compareAndSet(currentMax, value)) {
+      currentMax = max.get() ;
+    }
+  }
+
+  @Override
+  public long getCount() {
+    return count.sum() ;
+  }
+
+  @Override
+  public double getMean() {
+    long numberOfValues = count.sum() ;
+    return numberOfValues == 0 ? 0.0 : (double) sum.sum() / numberOfValues ;
+  }
+
+  @Override
+  public long getMax() {
+    return max.get() ;
+  }
+
+  @Override
+  public long getValueAtPercentile(double percentile) {
+    if ((percentile < 0) || (percentile > 100)) {
+      throw new JMetalException("The percentile is not in the range [0, 100]: " + percentile) ;
+    }
+
+    long numberOfValues = 0 ;
+    long[] bucketCounts = new long[NUMBER_OF_BUCKETS] ;
+    for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+      bucketCounts[i] = buckets.get(i) ;
+      numberOfValues += bucketCounts[i] ;
+    }
+    if (numberOfValues == 0) {
+      return 0 ;
+    }
+
+    long rank = (long) Math.ceil(percentile / 100.0 * numberOfValues) ;
+    long accumulated = 0 ;
+    for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+      accumulated += bucketCounts[i] ;
+      if ((accumulated >= rank) && (bucketCounts[i] > 0)) {
+        return Math.min(bucketUpperBound(i), max.get()) ;
+      }
+    }
+
+    return max.get() ;
+  }
+
+  private static int bucketIndex(long value) {
+    return Math.min(NUMBER_OF_BUCKETS - Long.numberOfLeadingZeros(value), NUMBER_OF_BUCKETS - 1) ;
+  }
+
+  private static long bucketUpperBound(int index) {
+    return index >= NUMBER_OF_BUCKETS - 1 ? Long.MAX_VALUE : (1L << index) - 1 ;
+  }
+}
@@ -0,0 +1,42 @@
+package org.uma.jmetalsp.util.metrics.impl;
+
+import org.uma.jmetalsp.util.metrics.Timer;
+
+/**
+ * {@link Timer} storing the durations, measured in nanoseconds, in a {@link DefaultHistogram}
+ */
+public class DefaultTimer implements Timer {
+  private static final double NANOSECONDS_PER_MILLISECOND = 1.0e6 ;
+
+  private final DefaultHistogram histogram = new DefaultHistogram() ;
+
+  @Override
+  public void record(long durationInNanoseconds) {
+    histogram.update(Math.max(0, durationInNanoseconds));
+  }
+
+  @Override
+  public long getCount() {
+    return histogram.getCount() ;
+  }
+
+  @Override
+  public double getTotalTimeInMilliseconds() {
+    return histogram.getMean() * histogram.getCount() / NANOSECONDS_PER_MILLISECOND ;
+  }
+
+  @Override
+  public double getMeanInMilliseconds() {
+    return histogram.getMean() / NANOSECONDS_PER_MILLISECOND ;
+  }
+
+  @Override
+  public double getMaxInMilliseconds() {
+    return histogram.getMax() / NANOSECONDS_PER_MILLISECOND ;
+  }
+
+  @Override
+  public double get99thPercentileInMilliseconds() {
+    return histogram.getValueAtPercentile(99) / NANOSECONDS_PER_MILLISECOND ;
+  }
+}
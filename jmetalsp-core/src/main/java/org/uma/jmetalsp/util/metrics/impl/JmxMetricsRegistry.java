@@ -0,0 +1,112 @@
+package org.uma.jmetalsp.util.metrics.impl;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetalsp.util.metrics.Counter;
+import org.uma.jmetalsp.util.metrics.Histogram;
+import org.uma.jmetalsp.util.metrics.MetricsRegistry;
+import org.uma.jmetalsp.util.metrics.Timer;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link MetricsRegistry} that publishes every metric as an MBean, so the metrics can be inspected with any JMX
+ * client (e.g. JConsole or VisualVM). The object names follow the pattern
+ * "org.uma.jmetalsp:type=[Counter|Timer|Histogram],name=metricName".
+ */
+public class JmxMetricsRegistry implements MetricsRegistry {
+  public static final String DEFAULT_DOMAIN = "org.uma.jmetalsp" ;
+
+  private final MBeanServer mBeanServer ;
+  private final String domain ;
+  private final Map<String, Counter> counters ;
+  private final Map<String, Timer> timers ;
+  private final Map<String, Histogram> histograms ;
+
+  public JmxMetricsRegistry() {
+    this(ManagementFactory.getPlatformMBeanServer(), DEFAULT_DOMAIN) ;
+  }
+
+  public JmxMetricsRegistry(MBeanServer mBeanServer, String domain) {
+    this.mBeanServer = mBeanServer ;
+    this.domain = domain ;
+    this.counters = new ConcurrentHashMap<>() ;
+    this.timers = new ConcurrentHashMap<>() ;
+    this.histograms = new ConcurrentHashMap<>() ;
+  }
+
+  @Override
+  public Counter counter(String name) {
+    Counter counter = counters.get(name) ;
+    if (counter == null) {
+      counter = counters.computeIfAbsent(name, key -> register(new DefaultCounter(), Counter.class, "Counter", key)) ;
+    }
+    return counter ;
+  }
+
+  @Override
+  public Timer timer(String name) {
+    Timer timer = timers.get(name) ;
+    if (timer == null) {
+      timer = timers.computeIfAbsent(name, key -> register(new DefaultTimer(), Timer.class, "Timer", key)) ;
+    }
+    return timer ;
+  }
+
+  @Override
+  public Histogram histogram(String name) {
+    Histogram histogram = histograms.get(name) ;
+    if (histogram == null) {
+      histogram = histograms.computeIfAbsent(name,
+              key -> register(new DefaultHistogram(), Histogram.class, "Histogram", key)) ;
+    }
+    return histogram ;
+  }
+
+  /**
+   * Unregisters all the MBeans created by this registry
+   */
+  public void unregisterAll() {
+    unregister(counters, "Counter");
+    unregister(timers, "Timer");
+    unregister(histograms, "Histogram");
+  }
+
+  private <T> T register(T metric, Class<T> metricInterface, String type, String name) {
+    try {
+      ObjectName objectName = objectName(type, name) ;
+      if (mBeanServer.isRegistered(objectName)) {
+        mBeanServer.unregisterMBean(objectName);
+      }
+      mBeanServer.registerMBean(new StandardMBean(metric, metricInterface), objectName) ;
+    } catch (JMException e) {
+      throw new JMetalException("Error registering the metric " + name, e) ;
+    }
+
+    return metric ;
+  }
+
+  private void unregister(Map<String, ?> metrics, String type) {
+    for (String name : metrics.keySet()) {
+      try {
+        ObjectName objectName = objectName(type, name) ;
+        if (mBeanServer.isRegistered(objectName)) {
+          mBeanServer.unregisterMBean(objectName);
+        }
+      } catch (JMException e) {
+        throw new JMetalException("Error unregistering the metric " + name, e) ;
+      }
+    }
+    metrics.clear();
+  }
+
+  private ObjectName objectName(String type, String name) throws JMException {
+    String value = name.matches("[^,=:\"*?\\n]*") ? name : ObjectName.quote(name) ;
+    return new ObjectName(domain + ":type=" + type + ",name=" + value) ;
+  }
+}
@@ -0,0 +1,99 @@
+package org.uma.jmetalsp.util.metrics.impl;
+
+import org.uma.jmetalsp.util.metrics.Counter;
+import org.uma.jmetalsp.util.metrics.Histogram;
+import org.uma.jmetalsp.util.metrics.MetricsRegistry;
+import org.uma.jmetalsp.util.metrics.Timer;
+
+/**
+ * {@link MetricsRegistry} that discards all the measures. It is the default registry of
+ * {@link org.uma.jmetalsp.util.metrics.Metrics}
+ */
+public class NoOpMetricsRegistry implements MetricsRegistry {
+  private static final Counter COUNTER = new Counter() {
+    @Override
+    public void increment() {
+    }
+
+    @Override
+    public void increment(long value) {
+    }
+
+    @Override
+    public long getCount() {
+      return 0 ;
+    }
+  } ;
+
+  private static final Timer TIMER = new Timer() {
+    @Override
+    public void record(long durationInNanoseconds) {
+    }
+
+    @Override
+    public long getCount() {
+      return 0 ;
+    }
+
+    @Override
+    public double getTotalTimeInMilliseconds() {
+      return 0 ;
+    }
+
+    @Override
+    public double getMeanInMilliseconds() {
+      return 0 ;
+    }
+
+    @Override
+    public double getMaxInMilliseconds() {
+      return 0 ;
+    }
+
+    @Override
+    public double get99thPercentileInMilliseconds() {
+      return 0 ;
+    }
+  } ;
+
+  private static final Histogram HISTOGRAM = new Histogram() {
+    @Override
+    public void update(long value) {
+    }
+
+    @Override
+    public long getCount() {
+      return 0 ;
+    }
+
+    @Override
+    public double getMean() {
+      return 0 ;
+    }
+
+    @Override
+    public long getMax() {
+      return 0 ;
+    }
+
+    @Override
+    public long getValueAtPercentile(double percentile) {
+      return 0 ;
+    }
+  } ;
+
+  @Override
+  public Counter counter(String name) {
+    return COUNTER ;
+  }
+
+  @Override
+  public Timer timer(String name) {
+    return TIMER ;
+  }
+
+  @Override
+  public Histogram histogram(String name) {
+    return HISTOGRAM ;
+  }
+}
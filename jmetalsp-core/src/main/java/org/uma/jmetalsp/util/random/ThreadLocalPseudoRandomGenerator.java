@@ -0,0 +1,116 @@
+package org.uma.jmetalsp.util.random;
+
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+
+import java.util.SplittableRandom;
+
+/**
+ * Pseudo random generator giving each thread its own stream, so that it can be installed in
+ * {@link org.uma.jmetal.util.pseudorandom.JMetalRandom} when solutions are created by several threads at the same
+ * time (the default generators are either not thread-safe or shared through a lock). The streams are split from a
+ * root generator initialized with the seed, in the order in which the threads first use the generator after the
+ * seed is set.
+ *
+ * The generator is not installed implicitly by the components that need it: call {@link #install()} before creating
+ * the algorithms, as it replaces the generator shared by the whole application.
+ */
+public class ThreadLocalPseudoRandomGenerator implements PseudoRandomGenerator {
+  private long seed ;
+  private transient SplittableRandom root ;
+  private transient volatile int seedVersion ;
+  private transient volatile ThreadLocal<Stream> streams ;
+
+  public ThreadLocalPseudoRandomGenerator(long seed) {
+    setSeed(seed);
+  }
+
+  public ThreadLocalPseudoRandomGenerator() {
+    this(System.currentTimeMillis()) ;
+  }
+
+  /**
+   * Installs in {@link JMetalRandom} a generator of this class with its current seed, unless one is already
+   * installed
+   * @return The installed generator
+   */
+  public static synchronized ThreadLocalPseudoRandomGenerator install() {
+    JMetalRandom random = JMetalRandom.getInstance() ;
+    if (!(random.getRandomGenerator() instanceof ThreadLocalPseudoRandomGenerator)) {
+      random.setRandomGenerator(new ThreadLocalPseudoRandomGenerator(random.getSeed()));
+      JMetalLogger.logger.info("Installed a ThreadLocalPseudoRandomGenerator in JMetalRandom");
+    }
+
+    return (ThreadLocalPseudoRandomGenerator) random.getRandomGenerator() ;
+  }
+
+  /**
+   * @return true if a generator of this class is installed in {@link JMetalRandom}
+   */
+  public static boolean isInstalled() {
+    return JMetalRandom.getInstance().getRandomGenerator() instanceof ThreadLocalPseudoRandomGenerator ;
+  }
+
+  @Override
+  public int nextInt(int lowerBound, int upperBound) {
+    return (int) stream().nextLong(lowerBound, (long) upperBound + 1) ;
+  }
+
+  @Override
+  public double nextDouble(double lowerBound, double upperBound) {
+    return lowerBound + (upperBound - lowerBound) * stream().nextDouble() ;
+  }
+
+  @Override
+  public double nextDouble() {
+    return stream().nextDouble() ;
+  }
+
+  @Override
+  public synchronized void setSeed(long seed) {
+    this.seed = seed ;
+    this.root = new SplittableRandom(seed) ;
+    this.seedVersion++ ;
+    if (streams == null) {
+      streams = ThreadLocal.withInitial(Stream::new) ;
+    }
+  }
+
+  @Override
+  public synchronized long getSeed() {
+    return seed ;
+  }
+
+  @Override
+  public String getName() {
+    return "ThreadLocalPseudoRandomGenerator" ;
+  }
+
+  private SplittableRandom stream() {
+    ThreadLocal<Stream> threadStreams = streams ;
+    if (threadStreams == null) {
+      synchronized (this) {
+        if (streams == null) {
+          setSeed(seed);
+        }
+        threadStreams = streams ;
+      }
+    }
+
+    Stream stream = threadStreams.get() ;
+    if ((stream.random == null) || (stream.seedVersion != seedVersion)) {
+      synchronized (this) {
+        stream.random = root.split() ;
+        stream.seedVersion = seedVersion ;
+      }
+    }
+
+    return stream.random ;
+  }
+
+  private static class Stream {
+    private SplittableRandom random ;
+    private int seedVersion ;
+  }
+}
@@ -0,0 +1,140 @@
+package org.uma.jmetalsp.util.replay;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetalsp.ObservedData;
+import org.uma.jmetalsp.observer.Observable;
+import org.uma.jmetalsp.observer.Observer;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Decorator of an {@link Observer} (typically a {@link org.uma.jmetalsp.DynamicProblem} or an interactive
+ * algorithm receiving reference points) that appends every received data to an event file before delivering it.
+ * The file can be played back with a {@link ReplayStreamingDataSource} to run an application again with the same
+ * workload.
+ *
+ * The file starts with a header containing the seed of {@link JMetalRandom}, and each event contains the time
+ * elapsed since the recorder was created, the class of the data and their JSON representation (see
+ * {@link ObservedData#toJson()}). If the file already exists, the events are appended to it and the seed of its
+ * header is used. The recorder does not change the seed of {@link JMetalRandom} unless {@link #applySeed()} is
+ * invoked.
+ *
+ * @param <O> Observed data
+ */
+public class EventRecorder<O extends ObservedData<?>> implements Observer<O>, Closeable {
+  static final int MAGIC_NUMBER = 0x4A4D5245 ;
+  static final int FORMAT_VERSION = 1 ;
+
+  private final Observer<O> observer ;
+  private final Path eventFile ;
+  private final DataOutputStream output ;
+  private final long startTime ;
+  private final long seed ;
+  private long numberOfRecordedEvents ;
+
+  /**
+   * Constructor
+   * @param observer Observer receiving the data after being recorded
+   * @param eventFile File where the events are appended
+   * @param seed Seed of {@link JMetalRandom}, which is written to the header of the file
+   */
+  public EventRecorder(Observer<O> observer, Path eventFile, long seed) {
+    if (observer == null) {
+      throw new JMetalException("The observer is null") ;
+    } else if (eventFile == null) {
+      throw new JMetalException("The event file is null") ;
+    }
+
+    this.observer = observer ;
+    this.eventFile = eventFile ;
+    this.numberOfRecordedEvents = 0 ;
+    try {
+      boolean newFile = !Files.exists(eventFile) || (Files.size(eventFile) == 0) ;
+      this.seed = newFile ? seed : ReplayStreamingDataSource.readSeed(eventFile) ;
+      this.output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(eventFile,
+              StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND))) ;
+      if (newFile) {
+        output.writeInt(MAGIC_NUMBER);
+        output.writeInt(FORMAT_VERSION);
+        output.writeLong(this.seed);
+        output.flush();
+      }
+    } catch (IOException e) {
+      throw new JMetalException("Error opening the event file " + eventFile, e) ;
+    }
+
+    this.startTime = System.nanoTime() ;
+  }
+
+  public EventRecorder(Observer<O> observer, String eventFileName, long seed) {
+    this(observer, Paths.get(eventFileName), seed) ;
+  }
+
+  /**
+   * Constructor recording the current seed of {@link JMetalRandom}
+   */
+  public EventRecorder(Observer<O> observer, String eventFileName) {
+    this(observer, Paths.get(eventFileName), JMetalRandom.getInstance().getSeed()) ;
+  }
+
+  @Override
+  public void update(Observable<O> observable, O data) {
+    record(data);
+    observer.update(observable, data);
+  }
+
+  /**
+   * Appends the data to the event file. Each event is flushed, so the file is complete if the application is
+   * killed
+   */
+  private synchronized void record(O data) {
+    byte[] json = data.toJson().getBytes(StandardCharsets.UTF_8) ;
+    try {
+      output.writeLong(System.nanoTime() - startTime);
+      output.writeUTF(data.getClass().getName());
+      output.writeInt(json.length);
+      output.write(json);
+      output.flush();
+    } catch (IOException e) {
+      throw new JMetalException("Error writing to the event file " + eventFile, e) ;
+    }
+    numberOfRecordedEvents++ ;
+  }
+
+  public Observer<O> getObserver() {
+    return observer ;
+  }
+
+  public long getSeed() {
+    return seed ;
+  }
+
+  /**
+   * Sets the seed of {@link JMetalRandom} to the seed of the event file. It must be invoked before creating the
+   * algorithms, so that the recorded run can be reproduced
+   * @return This recorder
+   */
+  public EventRecorder<O> applySeed() {
+    JMetalRandom.getInstance().setSeed(seed);
+
+    return this ;
+  }
+
+  public synchronized long getNumberOfRecordedEvents() {
+    return numberOfRecordedEvents ;
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    output.close();
+  }
+}
@@ -0,0 +1,193 @@
+package org.uma.jmetalsp.util.replay;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetalsp.ObservedData;
+import org.uma.jmetalsp.StreamingDataSource;
+import org.uma.jmetalsp.observer.Observable;
+import org.uma.jmetalsp.observer.impl.DefaultObservable;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streaming data source playing back an event file written by an {@link EventRecorder}. The events are notified
+ * with the same time between them as when they were recorded, divided by a speed factor (a factor of 2 plays the
+ * events twice as fast, and {@link #AS_FAST_AS_POSSIBLE} notifies them without waiting). Invoking
+ * {@link #applySeed()} sets the seed of {@link JMetalRandom} to the one of the recorded run, so the algorithms
+ * created afterwards run with the same random numbers.
+ *
+ * The replayed data are re-stamped with the wall-clock time at which they are re-emitted (the start time of the
+ * replay plus the scaled offset of the event, or the notification time when playing as fast as possible), so
+ * the latencies measured downstream refer to the replay and not to the recorded run.
+ *
+ * @param <O> Observed data
+ */
+public class ReplayStreamingDataSource<O extends ObservedData<?>> implements StreamingDataSource<O> {
+  public static final double ORIGINAL_SPEED = 1.0 ;
+  public static final double AS_FAST_AS_POSSIBLE = Double.POSITIVE_INFINITY ;
+
+  private final Observable<O> observable ;
+  private final Path eventFile ;
+  private final double speedFactor ;
+  private final long seed ;
+  private final Map<String, ObservedData<?>> prototypes ;
+  private volatile boolean stopped ;
+  private volatile long numberOfReplayedEvents ;
+
+  /**
+   * Constructor
+   * @param eventFile File written by an {@link EventRecorder}
+   * @param speedFactor Factor dividing the time between events
+   * @param observable Observable used to notify the events
+   */
+  public ReplayStreamingDataSource(Path eventFile, double speedFactor, Observable<O> observable) {
+    if (speedFactor <= 0) {
+      throw new JMetalException("The speed factor must be positive: " + speedFactor) ;
+    }
+
+    this.observable = observable ;
+    this.eventFile = eventFile ;
+    this.speedFactor = speedFactor ;
+    this.prototypes = new HashMap<>() ;
+    this.stopped = false ;
+    this.numberOfReplayedEvents = 0 ;
+    try {
+      this.seed = readSeed(eventFile) ;
+    } catch (IOException e) {
+      throw new JMetalException("Error reading the event file " + eventFile, e) ;
+    }
+  }
+
+  public ReplayStreamingDataSource(String eventFileName, double speedFactor) {
+    this(Paths.get(eventFileName), speedFactor, new DefaultObservable<>()) ;
+  }
+
+  public ReplayStreamingDataSource(String eventFileName) {
+    this(eventFileName, ORIGINAL_SPEED) ;
+  }
+
+  @Override
+  public void run() {
+    try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(eventFile)))) {
+      readHeader(input, eventFile) ;
+
+      long startTime = System.nanoTime() ;
+      long startTimeInMilliseconds = System.currentTimeMillis() ;
+      while (!stopped) {
+        long eventTime ;
+        try {
+          eventTime = input.readLong() ;
+        } catch (EOFException e) {
+          break ;
+        }
+        String className = input.readUTF() ;
+        byte[] json = new byte[input.readInt()] ;
+        input.readFully(json);
+
+        long offset = (long) (eventTime / speedFactor) ;
+        if (!waitUntil(startTime + offset)) {
+          break ;
+        }
+
+        O data = (O) getPrototype(className).fromJson(new String(json, StandardCharsets.UTF_8)) ;
+        data.setEventTime(speedFactor == AS_FAST_AS_POSSIBLE
+                ? System.currentTimeMillis()
+                : startTimeInMilliseconds + TimeUnit.NANOSECONDS.toMillis(offset));
+        observable.setChanged();
+        observable.notifyObservers(data);
+        numberOfReplayedEvents++ ;
+      }
+    } catch (EOFException e) {
+      // The last event is incomplete (the recorder was killed while writing it)
+    } catch (IOException e) {
+      throw new JMetalException("Error reading the event file " + eventFile, e) ;
+    }
+  }
+
+  @Override
+  public void stop() {
+    stopped = true ;
+  }
+
+  @Override
+  public Observable<O> getObservable() {
+    return observable ;
+  }
+
+  public long getSeed() {
+    return seed ;
+  }
+
+  /**
+   * Sets the seed of {@link JMetalRandom} to the seed of the recorded run. It must be invoked before creating the
+   * algorithms
+   * @return This source
+   */
+  public ReplayStreamingDataSource<O> applySeed() {
+    JMetalRandom.getInstance().setSeed(seed);
+
+    return this ;
+  }
+
+  public long getNumberOfReplayedEvents() {
+    return numberOfReplayedEvents ;
+  }
+
+  /**
+   * @return The seed of {@link JMetalRandom} stored in the header of an event file
+   */
+  public static long readSeed(Path eventFile) throws IOException {
+    try (DataInputStream input = new DataInputStream(Files.newInputStream(eventFile))) {
+      return readHeader(input, eventFile) ;
+    }
+  }
+
+  private static long readHeader(DataInputStream input, Path eventFile) throws IOException {
+    if (input.readInt() != EventRecorder.MAGIC_NUMBER) {
+      throw new IOException("The file " + eventFile + " is not an event file") ;
+    }
+    int version = input.readInt() ;
+    if (version != EventRecorder.FORMAT_VERSION) {
+      throw new IOException("Unsupported event file version: " + version) ;
+    }
+
+    return input.readLong() ;
+  }
+
+  /**
+   * @return false if the source has been stopped while waiting
+   */
+  private boolean waitUntil(long time) {
+    long remainingTime ;
+    while (!stopped && ((remainingTime = time - System.nanoTime()) > 0)) {
+      try {
+        TimeUnit.NANOSECONDS.sleep(Math.min(remainingTime, TimeUnit.MILLISECONDS.toNanos(100)));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false ;
+      }
+    }
+
+    return !stopped ;
+  }
+
+  private ObservedData<?> getPrototype(String className) {
+    return prototypes.computeIfAbsent(className, name -> {
+      try {
+        return (ObservedData<?>) Class.forName(name).getDeclaredConstructor().newInstance() ;
+      } catch (ReflectiveOperationException | ClassCastException e) {
+        throw new JMetalException("The class " + name + " cannot be instantiated to read the events", e) ;
+      }
+    }) ;
+  }
+}
@@ -0,0 +1,121 @@
+package org.uma.jmetalsp.util.restartstrategy;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetalsp.DynamicProblem;
+import org.uma.jmetalsp.IncrementallyEvaluableProblem;
+import org.uma.jmetalsp.util.metrics.Metrics;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Service estimating the severity of the changes of a dynamic problem. Copies of a few sentinel solutions, evenly
+ * spaced in the list, are evaluated again, and the shift of their objectives is normalized by the range of every
+ * objective in the list. The severity is the mean normalized shift divided by the shift considered a complete change,
+ * capped at 1, so 0 means that the problem has not changed and 1 that the solutions have lost their value.
+ *
+ * If the problem has not changed since the last estimation, the severity is 0 and no solution is evaluated. The
+ * severity is published in the histogram "restartStrategy.changeSeverity", in thousandths.
+ */
+public class ChangeSeverityEstimator<S extends Solution<?>> {
+  public static final int DEFAULT_NUMBER_OF_SENTINELS = 5 ;
+  public static final double DEFAULT_COMPLETE_CHANGE_SHIFT = 0.1 ;
+
+  private int numberOfSentinels ;
+  private double completeChangeShift ;
+  private long lastSeenChangeEpoch ;
+  private double lastSeverity ;
+
+  public ChangeSeverityEstimator() {
+    numberOfSentinels = DEFAULT_NUMBER_OF_SENTINELS ;
+    completeChangeShift = DEFAULT_COMPLETE_CHANGE_SHIFT ;
+    lastSeenChangeEpoch = Long.MIN_VALUE ;
+    lastSeverity = 0.0 ;
+  }
+
+  public ChangeSeverityEstimator<S> setNumberOfSentinels(int numberOfSentinels) {
+    if (numberOfSentinels <= 0) {
+      throw new JMetalException("The number of sentinels must be positive: " + numberOfSentinels) ;
+    }
+    this.numberOfSentinels = numberOfSentinels ;
+
+    return this ;
+  }
+
+  /**
+   * Sets the mean shift of the objectives, as a fraction of their ranges, from which a change is considered complete
+   */
+  public ChangeSeverityEstimator<S> setCompleteChangeShift(double completeChangeShift) {
+    if (completeChangeShift <= 0) {
+      throw new JMetalException("The shift of a complete change must be positive: " + completeChangeShift) ;
+    }
+    this.completeChangeShift = completeChangeShift ;
+
+    return this ;
+  }
+
+  /**
+   * Estimates the severity of the changes made to the problem since the solutions of the list were evaluated. The
+   * solutions are not modified
+   * @return A value between 0 and 1
+   */
+  public double estimate(List<S> solutionList, DynamicProblem<S, ?> problem) {
+    long changeEpoch = problem.getChangeEpoch() ;
+    if ((changeEpoch == lastSeenChangeEpoch) || solutionList.isEmpty()) {
+      lastSeverity = 0.0 ;
+      return lastSeverity ;
+    }
+    lastSeenChangeEpoch = changeEpoch ;
+
+    int numberOfObjectives = problem.getNumberOfObjectives() ;
+    double[] minimum = new double[numberOfObjectives] ;
+    double[] maximum = new double[numberOfObjectives] ;
+    Arrays.fill(minimum, Double.POSITIVE_INFINITY);
+    Arrays.fill(maximum, Double.NEGATIVE_INFINITY);
+    for (S solution : solutionList) {
+      for (int j = 0; j < numberOfObjectives; j++) {
+        minimum[j] = Math.min(minimum[j], solution.getObjective(j)) ;
+        maximum[j] = Math.max(maximum[j], solution.getObjective(j)) ;
+      }
+    }
+
+    int size = solutionList.size() ;
+    int sentinels = Math.min(numberOfSentinels, size) ;
+    int offset = JMetalRandom.getInstance().nextInt(0, size - 1) ;
+    double shift = 0.0 ;
+    for (int i = 0; i < sentinels; i++) {
+      S sentinel = solutionList.get((offset + (int) ((long) i * size / sentinels)) % size) ;
+      S copy = (S) sentinel.copy() ;
+      if (problem instanceof IncrementallyEvaluableProblem) {
+        ((IncrementallyEvaluableProblem<S>) problem).reevaluate(copy);
+      } else {
+        problem.evaluate(copy);
+      }
+
+      for (int j = 0; j < numberOfObjectives; j++) {
+        double range = maximum[j] - minimum[j] ;
+        if (!(range > 0) || Double.isInfinite(range)) {
+          range = Math.max(Math.abs(sentinel.getObjective(j)), 1.0) ;
+        }
+        double objectiveShift = Math.abs(copy.getObjective(j) - sentinel.getObjective(j)) / range ;
+        shift += Double.isNaN(objectiveShift) ? 1.0 : Math.min(objectiveShift, 1.0) ;
+      }
+    }
+    shift /= (double) sentinels * numberOfObjectives ;
+
+    lastSeverity = Math.min(shift / completeChangeShift, 1.0) ;
+    Metrics.counter("restartStrategy.sentinelEvaluations").increment(sentinels);
+    Metrics.histogram("restartStrategy.changeSeverity").update(Math.round(lastSeverity * 1000));
+
+    return lastSeverity ;
+  }
+
+  /**
+   * @return The severity returned by the last call to {@link #estimate(List, DynamicProblem)}
+   */
+  public double getLastSeverity() {
+    return lastSeverity ;
+  }
+}
@@ -16,4 +16,19 @@ public interface CreateNewSolutionsStrategy<S extends Solution<?>> {
    * @param numberOfNewSolutions
    */
   void create(List<S> solutionList, DynamicProblem<S, ?> problem, int numberOfNewSolutions) ;
+
+  /**
+   * Called by {@link RestartStrategy} with the list before any solution is removed from it, so that the strategy
+   * can learn from the solutions that are going to be replaced
+   */
+  default void beforeRestart(List<S> solutionList, DynamicProblem<S, ?> problem) {
+  }
+
+  /**
+   * @return true if the new solutions are evaluated when they are created, so the algorithm does not have to
+   * evaluate them again
+   */
+  default boolean evaluatesTheNewSolutions() {
+    return false ;
+  }
 }
@@ -3,6 +3,7 @@ package org.uma.jmetalsp.util.restartstrategy;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetalsp.DynamicProblem;
 
+import java.util.BitSet;
 import java.util.List;
 
 /**
@@ -16,4 +17,47 @@ public interface RemoveSolutionsStrategy<S extends Solution<?>> {
    * @return the number of deleted solutions
    */
   int remove(List<S> solutionList, DynamicProblem<S, ?> problem) ;
+
+  /**
+   * Removes a given number of solutions instead of the number the strategy has been created with. Strategies not
+   * supporting it ignore the given number
+   * @return the number of deleted solutions
+   */
+  default int remove(List<S> solutionList, DynamicProblem<S, ?> problem, int numberOfSolutionsToRemove) {
+    return remove(solutionList, problem) ;
+  }
+
+  /**
+   * @return The fraction of the evaluation budget the algorithm should spend before publishing a new front after
+   * the last restart caused by a change of the problem. Strategies removing a fixed number of solutions return 1
+   */
+  default double getEvaluationBudgetFactor() {
+    return 1.0 ;
+  }
+
+  /**
+   * Removes in place the solutions whose indices are set in a bit set, keeping the order of the remaining ones.
+   * The list is compacted in a single pass and its tail is cleared at once, so the cost is linear in the size of
+   * the list (instead of shifting the list once per removed solution) and no memory is allocated
+   * @param solutionList
+   * @param solutionsToRemove Indices of the solutions to remove
+   * @return the number of deleted solutions
+   */
+  static <S> int removeSolutions(List<S> solutionList, BitSet solutionsToRemove) {
+    int size = solutionList.size() ;
+    int first = solutionsToRemove.nextSetBit(0) ;
+    if ((first < 0) || (first >= size)) {
+      return 0 ;
+    }
+
+    int kept = first ;
+    for (int i = first + 1; i < size; i++) {
+      if (!solutionsToRemove.get(i)) {
+        solutionList.set(kept++, solutionList.get(i)) ;
+      }
+    }
+    solutionList.subList(kept, size).clear();
+
+    return size - kept ;
+  }
 }
@@ -0,0 +1,108 @@
+package org.uma.jmetalsp.util.restartstrategy;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetalsp.util.metrics.Metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Policy bounding how often a dynamic algorithm restarts its population when the problem changes. A restart
+ * is allowed only if a minimum number of generations and a minimum time have passed since the previous one;
+ * otherwise, the algorithm keeps the change pending and checks again in the next generation. As the problem
+ * always holds the accumulated state of all the changes, the deferred restart takes all of them into account,
+ * so a burst of changes produces a single restart.
+ *
+ * A limiter keeps the state of one algorithm; use {@link #copy()} to configure several algorithms with the same
+ * policy. The number of deferred restarts is published in the metric "restartRateLimiter.deferred".
+ */
+public class RestartRateLimiter {
+  private final int minimumGenerationsBetweenRestarts ;
+  private final long minimumNanosBetweenRestarts ;
+
+  private int generationsSinceLastRestart ;
+  private long lastRestartTime ;
+  private boolean restartDone ;
+  private long numberOfDeferredRestarts ;
+
+  /**
+   * Constructor
+   * @param minimumGenerationsBetweenRestarts Minimum number of generations between two restarts
+   * @param minimumMillisecondsBetweenRestarts Minimum time between two restarts
+   */
+  public RestartRateLimiter(int minimumGenerationsBetweenRestarts, long minimumMillisecondsBetweenRestarts) {
+    if (minimumGenerationsBetweenRestarts < 0) {
+      throw new JMetalException(
+              "The minimum number of generations is negative: " + minimumGenerationsBetweenRestarts) ;
+    } else if (minimumMillisecondsBetweenRestarts < 0) {
+      throw new JMetalException("The minimum time is negative: " + minimumMillisecondsBetweenRestarts) ;
+    }
+
+    this.minimumGenerationsBetweenRestarts = minimumGenerationsBetweenRestarts ;
+    this.minimumNanosBetweenRestarts = TimeUnit.MILLISECONDS.toNanos(minimumMillisecondsBetweenRestarts) ;
+    this.generationsSinceLastRestart = 0 ;
+    this.restartDone = false ;
+    this.numberOfDeferredRestarts = 0 ;
+  }
+
+  /**
+   * @return A limiter allowing a restart on every change of the problem
+   */
+  public static RestartRateLimiter unlimited() {
+    return new RestartRateLimiter(0, 0) ;
+  }
+
+  /**
+   * Must be invoked by the algorithm at the end of every generation
+   */
+  public void newGeneration() {
+    if (generationsSinceLastRestart < Integer.MAX_VALUE) {
+      generationsSinceLastRestart++ ;
+    }
+  }
+
+  /**
+   * Checks whether a restart is allowed now. If it is, the restart is recorded, so the algorithm must restart
+   * its population; otherwise, the restart is deferred
+   * @return true if the algorithm can restart
+   */
+  public boolean tryRestart() {
+    long now = System.nanoTime() ;
+    boolean allowed = !restartDone ||
+            ((generationsSinceLastRestart >= minimumGenerationsBetweenRestarts) &&
+                    (now - lastRestartTime >= minimumNanosBetweenRestarts)) ;
+
+    if (allowed) {
+      restartDone = true ;
+      lastRestartTime = now ;
+      generationsSinceLastRestart = 0 ;
+    } else {
+      numberOfDeferredRestarts++ ;
+      Metrics.counter("restartRateLimiter.deferred").increment();
+    }
+
+    return allowed ;
+  }
+
+  /**
+   * @return A new limiter with the same policy and without state
+   */
+  public RestartRateLimiter copy() {
+    return new RestartRateLimiter(minimumGenerationsBetweenRestarts,
+            TimeUnit.NANOSECONDS.toMillis(minimumNanosBetweenRestarts)) ;
+  }
+
+  public int getMinimumGenerationsBetweenRestarts() {
+    return minimumGenerationsBetweenRestarts ;
+  }
+
+  public long getMinimumMillisecondsBetweenRestarts() {
+    return TimeUnit.NANOSECONDS.toMillis(minimumNanosBetweenRestarts) ;
+  }
+
+  /**
+   * @return The number of times a restart has been requested and deferred
+   */
+  public long getNumberOfDeferredRestarts() {
+    return numberOfDeferredRestarts ;
+  }
+}
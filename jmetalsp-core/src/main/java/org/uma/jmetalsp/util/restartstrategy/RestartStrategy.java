@@ -2,6 +2,8 @@ package org.uma.jmetalsp.util.restartstrategy;
 
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetalsp.DynamicProblem;
+import org.uma.jmetalsp.IncrementallyEvaluableProblem;
+import org.uma.jmetalsp.util.metrics.Metrics;
 
 import java.util.List;
 
@@ -19,8 +21,68 @@ public class RestartStrategy<S extends Solution<?>> {
     this.createNewSolutionsStrategy = createNewSolutionsStrategy ;
   }
 
-  public void restart(List<S> solutionList, DynamicProblem<S,?> problem) {
+  /**
+   * Removes solutions from a list and adds new ones at its end
+   * @return the number of new solutions
+   */
+  public int restart(List<S> solutionList, DynamicProblem<S,?> problem) {
+    long startTime = System.nanoTime() ;
+    createNewSolutionsStrategy.beforeRestart(solutionList, problem);
     int numberOfRemovedSolutions = removeSolutionsStrategy.remove(solutionList, problem);
     createNewSolutionsStrategy.create(solutionList, problem, numberOfRemovedSolutions); ;
+
+    Metrics.timer("restartStrategy.restart").record(System.nanoTime() - startTime);
+    Metrics.histogram("restartStrategy.removedSolutions").update(numberOfRemovedSolutions);
+
+    return numberOfRemovedSolutions ;
+  }
+
+  /**
+   * @return The fraction of the evaluation budget the algorithm should spend before publishing a new front after
+   * the last restart caused by a change of the problem, as decided by the remove strategy
+   * (see {@link RemoveSolutionsStrategy#getEvaluationBudgetFactor()})
+   */
+  public double getEvaluationBudgetFactor() {
+    return removeSolutionsStrategy.getEvaluationBudgetFactor() ;
+  }
+
+  public boolean evaluatesTheNewSolutions() {
+    return createNewSolutionsStrategy.evaluatesTheNewSolutions() ;
+  }
+
+  /**
+   * Returns the part of a restarted list that has to be evaluated: if the problem has changed, the solutions that
+   * have been kept are evaluated again; the new solutions (at the end of the list) are evaluated unless the
+   * strategy creating them has already done it
+   * @param numberOfNewSolutions Value returned by {@link #restart(List, DynamicProblem)}
+   */
+  public List<S> getSolutionsToEvaluate(List<S> solutionList, int numberOfNewSolutions, boolean problemHasChanged) {
+    int firstNewSolution = solutionList.size() - numberOfNewSolutions ;
+    int from = problemHasChanged ? 0 : firstNewSolution ;
+    int to = evaluatesTheNewSolutions() ? firstNewSolution : solutionList.size() ;
+
+    return solutionList.subList(from, Math.max(from, to)) ;
+  }
+
+  /**
+   * Same as {@link #getSolutionsToEvaluate(List, int, boolean)}, but if the problem has changed and it is an
+   * {@link IncrementallyEvaluableProblem}, the solutions that have been kept are re-evaluated incrementally by this
+   * method, so they are not returned
+   */
+  public List<S> getSolutionsToEvaluate(List<S> solutionList, int numberOfNewSolutions, boolean problemHasChanged,
+                                        DynamicProblem<S, ?> problem) {
+    if (!problemHasChanged || !(problem instanceof IncrementallyEvaluableProblem)) {
+      return getSolutionsToEvaluate(solutionList, numberOfNewSolutions, problemHasChanged) ;
+    }
+
+    long startTime = System.nanoTime() ;
+    IncrementallyEvaluableProblem<S> incrementallyEvaluableProblem = (IncrementallyEvaluableProblem<S>) problem ;
+    int firstNewSolution = solutionList.size() - numberOfNewSolutions ;
+    for (int i = 0; i < firstNewSolution; i++) {
+      incrementallyEvaluableProblem.reevaluate(solutionList.get(i));
+    }
+    Metrics.timer("restartStrategy.reevaluation").record(System.nanoTime() - startTime);
+
+    return getSolutionsToEvaluate(solutionList, numberOfNewSolutions, false) ;
   }
 }
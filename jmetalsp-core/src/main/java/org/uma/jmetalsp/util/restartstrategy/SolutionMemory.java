@@ -0,0 +1,103 @@
+package org.uma.jmetalsp.util.restartstrategy;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetalsp.util.StateFingerprint;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Memory keeping the non-dominated solutions found for the last states of a dynamic problem, indexed by their
+ * fingerprints (see {@link org.uma.jmetalsp.DynamicProblem#getStateFingerprint()}). When the memory is full, the
+ * least recently used state is discarded.
+ *
+ * The memory keeps copies of the solutions, so the algorithms can keep modifying theirs. It can be shared by several
+ * {@link org.uma.jmetalsp.util.restartstrategy.impl.CreateNSolutionsFromMemory} strategies.
+ */
+public class SolutionMemory<S extends Solution<?>> {
+  public static final int DEFAULT_NUMBER_OF_STATES = 16 ;
+
+  private final int numberOfStates ;
+  private final Map<Long, List<S>> fronts ;
+
+  public SolutionMemory(int numberOfStates) {
+    if (numberOfStates <= 0) {
+      throw new JMetalException("The number of states must be positive: " + numberOfStates) ;
+    }
+    this.numberOfStates = numberOfStates ;
+    this.fronts = new LinkedHashMap<Long, List<S>>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Long, List<S>> eldest) {
+        return size() > SolutionMemory.this.numberOfStates ;
+      }
+    } ;
+  }
+
+  public SolutionMemory() {
+    this(DEFAULT_NUMBER_OF_STATES) ;
+  }
+
+  /**
+   * Stores the non-dominated solutions of a list as the front of a state, replacing the one stored before
+   */
+  public void store(long stateFingerprint, List<S> solutionList) {
+    if (stateFingerprint == StateFingerprint.UNKNOWN) {
+      return ;
+    }
+
+    List<S> nondominatedSolutions = SolutionListUtils.getNondominatedSolutions(solutionList) ;
+    List<S> front = new ArrayList<>(nondominatedSolutions.size()) ;
+    for (S solution : nondominatedSolutions) {
+      front.add((S) solution.copy()) ;
+    }
+
+    synchronized (fronts) {
+      fronts.put(stateFingerprint, front) ;
+    }
+  }
+
+  /**
+   * Returns copies of up to {@code maximumNumberOfSolutions} solutions of the front stored for a state, or an empty
+   * list if the state is not in the memory
+   */
+  public List<S> recall(long stateFingerprint, int maximumNumberOfSolutions) {
+    List<S> front ;
+    synchronized (fronts) {
+      front = fronts.get(stateFingerprint) ;
+    }
+    if ((front == null) || (maximumNumberOfSolutions <= 0)) {
+      return Collections.emptyList() ;
+    }
+
+    int numberOfSolutions = Math.min(front.size(), maximumNumberOfSolutions) ;
+    List<S> solutions = new ArrayList<>(numberOfSolutions) ;
+    for (int i = 0; i < numberOfSolutions; i++) {
+      solutions.add((S) front.get(i).copy()) ;
+    }
+
+    return solutions ;
+  }
+
+  public boolean contains(long stateFingerprint) {
+    synchronized (fronts) {
+      return fronts.containsKey(stateFingerprint) ;
+    }
+  }
+
+  public int size() {
+    synchronized (fronts) {
+      return fronts.size() ;
+    }
+  }
+
+  public void clear() {
+    synchronized (fronts) {
+      fronts.clear() ;
+    }
+  }
+}
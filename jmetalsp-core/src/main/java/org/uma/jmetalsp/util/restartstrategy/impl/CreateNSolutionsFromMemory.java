@@ -0,0 +1,117 @@
+package org.uma.jmetalsp.util.restartstrategy.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetalsp.DynamicProblem;
+import org.uma.jmetalsp.util.StateFingerprint;
+import org.uma.jmetalsp.util.metrics.Metrics;
+import org.uma.jmetalsp.util.restartstrategy.CreateNewSolutionsStrategy;
+import org.uma.jmetalsp.util.restartstrategy.SolutionMemory;
+
+import java.util.List;
+
+/**
+ * Decorator of a {@link CreateNewSolutionsStrategy} taking advantage of problems whose states recur. Before every
+ * restart, the non-dominated solutions of the list are stored in a {@link SolutionMemory} under the fingerprint of
+ * the state they were obtained for; if the problem has moved to a state found in the memory, the new solutions are
+ * copies of the front stored for it, and the remaining ones are created with the decorated strategy. As it only
+ * decides how the new solutions are created, it can be combined with any strategy to remove solutions.
+ *
+ * The problem must implement {@link DynamicProblem#getStateFingerprint()}; otherwise, all the new solutions are
+ * created by the decorated strategy. The objectives of the recalled solutions are those stored, which may be stale
+ * as states with the same fingerprint are not necessarily identical, so they are always evaluated again: by this
+ * strategy if the decorated one evaluates its solutions (see {@link #evaluatesTheNewSolutions()}), or by the
+ * algorithm otherwise.
+ *
+ * The front of the initial solutions can only be stored if the fingerprint of the initial state is known, as the
+ * problem has already changed when the first restart takes place. It is taken from the problem given to the
+ * constructor, which must be created before the problem receives any change (e.g. along with the algorithm).
+ */
+public class CreateNSolutionsFromMemory<S extends Solution<?>> implements CreateNewSolutionsStrategy<S> {
+  private final CreateNewSolutionsStrategy<S> createNewSolutionsStrategy ;
+  private final SolutionMemory<S> memory ;
+  private long fingerprintOfTheSolutions ;
+  private long stateToRecall ;
+
+  /**
+   * Constructor
+   * @param createNewSolutionsStrategy Strategy creating the solutions that are not recalled
+   * @param memory Memory of the fronts
+   * @param problem Problem solved by the algorithm, in the state of the initial solutions, or null if it is unknown
+   */
+  public CreateNSolutionsFromMemory(CreateNewSolutionsStrategy<S> createNewSolutionsStrategy,
+                                    SolutionMemory<S> memory, DynamicProblem<S, ?> problem) {
+    if (createNewSolutionsStrategy == null) {
+      throw new JMetalException("The strategy to create new solutions is null") ;
+    } else if (memory == null) {
+      throw new JMetalException("The memory is null") ;
+    }
+    this.createNewSolutionsStrategy = createNewSolutionsStrategy ;
+    this.memory = memory ;
+    this.fingerprintOfTheSolutions = problem == null ? StateFingerprint.UNKNOWN : problem.getStateFingerprint() ;
+    this.stateToRecall = StateFingerprint.UNKNOWN ;
+  }
+
+  public CreateNSolutionsFromMemory(CreateNewSolutionsStrategy<S> createNewSolutionsStrategy,
+                                    DynamicProblem<S, ?> problem) {
+    this(createNewSolutionsStrategy, new SolutionMemory<>(), problem) ;
+  }
+
+  /**
+   * Constructor of a strategy that does not know the initial state of the problem, so the front of the initial
+   * solutions is not stored
+   */
+  public CreateNSolutionsFromMemory(CreateNewSolutionsStrategy<S> createNewSolutionsStrategy,
+                                    SolutionMemory<S> memory) {
+    this(createNewSolutionsStrategy, memory, null) ;
+  }
+
+  public CreateNSolutionsFromMemory(CreateNewSolutionsStrategy<S> createNewSolutionsStrategy) {
+    this(createNewSolutionsStrategy, new SolutionMemory<>(), null) ;
+  }
+
+  /**
+   * Stores the solutions under the state they were obtained for, and decides the state to recall: the current one
+   * if the problem has moved to another state since the last restart
+   */
+  @Override
+  public void beforeRestart(List<S> solutionList, DynamicProblem<S, ?> problem) {
+    long currentFingerprint = problem.getStateFingerprint() ;
+    memory.store(fingerprintOfTheSolutions, solutionList);
+
+    stateToRecall = (currentFingerprint != fingerprintOfTheSolutions) ? currentFingerprint : StateFingerprint.UNKNOWN ;
+    fingerprintOfTheSolutions = currentFingerprint ;
+
+    createNewSolutionsStrategy.beforeRestart(solutionList, problem);
+  }
+
+  @Override
+  public void create(List<S> solutionList, DynamicProblem<S, ?> problem, int numberOfNewSolutions) {
+    int numberOfRecalledSolutions = 0 ;
+    if ((stateToRecall != StateFingerprint.UNKNOWN) && (numberOfNewSolutions > 0)) {
+      List<S> recalledSolutions = memory.recall(stateToRecall, numberOfNewSolutions) ;
+      if (createNewSolutionsStrategy.evaluatesTheNewSolutions()) {
+        for (S solution : recalledSolutions) {
+          problem.evaluate(solution);
+        }
+      }
+      solutionList.addAll(recalledSolutions) ;
+      numberOfRecalledSolutions = recalledSolutions.size() ;
+
+      Metrics.counter(recalledSolutions.isEmpty() ? "restartStrategy.memory.misses" : "restartStrategy.memory.hits")
+              .increment();
+      Metrics.histogram("restartStrategy.memory.recalledSolutions").update(numberOfRecalledSolutions);
+    }
+
+    createNewSolutionsStrategy.create(solutionList, problem, numberOfNewSolutions - numberOfRecalledSolutions);
+  }
+
+  @Override
+  public boolean evaluatesTheNewSolutions() {
+    return createNewSolutionsStrategy.evaluatesTheNewSolutions() ;
+  }
+
+  public SolutionMemory<S> getMemory() {
+    return memory ;
+  }
+}
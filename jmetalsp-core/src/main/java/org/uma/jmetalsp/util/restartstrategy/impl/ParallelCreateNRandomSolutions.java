@@ -0,0 +1,108 @@
+package org.uma.jmetalsp.util.restartstrategy.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetalsp.DynamicProblem;
+import org.uma.jmetalsp.util.random.ThreadLocalPseudoRandomGenerator;
+import org.uma.jmetalsp.util.restartstrategy.CreateNewSolutionsStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Strategy creating (and optionally evaluating) the new random solutions in parallel, splitting them in as many
+ * chunks as threads are given. The problem must allow to create and evaluate solutions concurrently.
+ *
+ * As {@link JMetalRandom} is shared by all the threads, {@link ThreadLocalPseudoRandomGenerator#install()} should
+ * be called before the strategy is used; otherwise, the threads share the current generator of {@link JMetalRandom},
+ * which may be a bottleneck or not be thread-safe. The strategy does not change {@link JMetalRandom} by itself.
+ */
+public class ParallelCreateNRandomSolutions<S extends Solution<?>> implements CreateNewSolutionsStrategy<S> {
+  private final ExecutorService executor ;
+  private final int numberOfThreads ;
+  private final boolean evaluateTheNewSolutions ;
+
+  /**
+   * Constructor
+   * @param executor Executor running the tasks creating the solutions
+   * @param numberOfThreads Number of tasks in which the solutions are split
+   * @param evaluateTheNewSolutions Whether the solutions are evaluated by the tasks creating them
+   */
+  public ParallelCreateNRandomSolutions(ExecutorService executor, int numberOfThreads, boolean evaluateTheNewSolutions) {
+    if (executor == null) {
+      throw new JMetalException("The executor is null") ;
+    } else if (numberOfThreads <= 0) {
+      throw new JMetalException("The number of threads must be positive: " + numberOfThreads) ;
+    }
+
+    this.executor = executor ;
+    this.numberOfThreads = numberOfThreads ;
+    this.evaluateTheNewSolutions = evaluateTheNewSolutions ;
+
+    if (!ThreadLocalPseudoRandomGenerator.isInstalled()) {
+      JMetalLogger.logger.warning("The new solutions are created by several threads, but no " +
+              "ThreadLocalPseudoRandomGenerator is installed in JMetalRandom") ;
+    }
+  }
+
+  /**
+   * Constructor creating and evaluating the solutions in the common fork-join pool
+   */
+  public ParallelCreateNRandomSolutions() {
+    this(ForkJoinPool.commonPool(), ForkJoinPool.getCommonPoolParallelism(), true) ;
+  }
+
+  @Override
+  public void create(List<S> solutionList, DynamicProblem<S, ?> problem, int numberOfSolutionsToCreate) {
+    if (solutionList == null) {
+      throw new JMetalException("The solution list is null") ;
+    } else if (problem == null) {
+      throw new JMetalException("The problem is null") ;
+    } else if (numberOfSolutionsToCreate <= 0) {
+      return ;
+    }
+
+    int numberOfTasks = Math.min(numberOfThreads, numberOfSolutionsToCreate) ;
+    List<Future<List<S>>> futures = new ArrayList<>(numberOfTasks) ;
+    for (int task = 0; task < numberOfTasks; task++) {
+      int chunkSize = numberOfSolutionsToCreate / numberOfTasks +
+              ((task < numberOfSolutionsToCreate % numberOfTasks) ? 1 : 0) ;
+      futures.add(executor.submit(() -> createSolutions(problem, chunkSize))) ;
+    }
+
+    try {
+      for (Future<List<S>> future : futures) {
+        solutionList.addAll(future.get()) ;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while creating new solutions", e) ;
+    } catch (ExecutionException e) {
+      throw new JMetalException("Error creating new solutions", e) ;
+    }
+  }
+
+  @Override
+  public boolean evaluatesTheNewSolutions() {
+    return evaluateTheNewSolutions ;
+  }
+
+  private List<S> createSolutions(DynamicProblem<S, ?> problem, int numberOfSolutions) {
+    List<S> solutions = new ArrayList<>(numberOfSolutions) ;
+    for (int i = 0; i < numberOfSolutions; i++) {
+      S solution = problem.createSolution() ;
+      if (evaluateTheNewSolutions) {
+        problem.evaluate(solution);
+      }
+      solutions.add(solution) ;
+    }
+
+    return solutions ;
+  }
+}
@@ -0,0 +1,314 @@
+package org.uma.jmetalsp.util.restartstrategy.impl;
+
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetalsp.DynamicProblem;
+import org.uma.jmetalsp.util.metrics.Metrics;
+import org.uma.jmetalsp.util.restartstrategy.CreateNewSolutionsStrategy;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Strategy creating the new solutions where the Pareto set is predicted to move after a change of the problem.
+ *
+ * Before every restart, the centroid of the list in the decision space is recorded, keeping the last one obtained for
+ * each state of the problem. When the problem has changed, the next displacement of the centroid is predicted from
+ * the history, and every new solution is one of the replaced solutions moved by that displacement plus a Gaussian
+ * noise, whose deviation is the error of the previous prediction. The solutions are created with another strategy
+ * (random ones by default) when there is not enough history, and in the restarts that are not caused by a change.
+ *
+ * By default, the displacement is extrapolated linearly, i.e., it is the last one. With an autoregressive order p,
+ * it is a combination of the last p displacements whose coefficients are fitted by least squares on the history.
+ *
+ * The predicted solutions are evaluated by this strategy if the other strategy evaluates its solutions (see
+ * {@link #evaluatesTheNewSolutions()}), and by the algorithm otherwise.
+ */
+public class PredictionBasedCreateNSolutions implements CreateNewSolutionsStrategy<DoubleSolution> {
+  public static final int DEFAULT_HISTORY_SIZE = 8 ;
+
+  private final CreateNewSolutionsStrategy<DoubleSolution> createNewSolutionsStrategy ;
+  private final LinkedList<double[]> centroids ;
+  private final JMetalRandom random ;
+  private int historySize ;
+  private int autoregressiveOrder ;
+
+  private List<double[]> replacedSolutions ;
+  private long lastSeenChangeEpoch ;
+  private boolean theProblemHasChanged ;
+  private double[] predictedDisplacement ;
+  private double[] predictedCentroid ;
+  private double predictionError ;
+
+  public PredictionBasedCreateNSolutions(CreateNewSolutionsStrategy<DoubleSolution> createNewSolutionsStrategy) {
+    if (createNewSolutionsStrategy == null) {
+      throw new JMetalException("The strategy to create new solutions is null") ;
+    }
+    this.createNewSolutionsStrategy = createNewSolutionsStrategy ;
+    this.centroids = new LinkedList<>() ;
+    this.random = JMetalRandom.getInstance() ;
+    this.historySize = DEFAULT_HISTORY_SIZE ;
+    this.autoregressiveOrder = 0 ;
+    this.replacedSolutions = new ArrayList<>() ;
+    this.lastSeenChangeEpoch = Long.MIN_VALUE ;
+  }
+
+  public PredictionBasedCreateNSolutions() {
+    this(new CreateNRandomSolutions<>()) ;
+  }
+
+  /**
+   * Sets the number of centroids kept to make the predictions
+   */
+  public PredictionBasedCreateNSolutions setHistorySize(int historySize) {
+    if (historySize < 2) {
+      throw new JMetalException("At least two centroids are needed to make a prediction: " + historySize) ;
+    }
+    this.historySize = historySize ;
+    while (centroids.size() > historySize) {
+      centroids.removeFirst() ;
+    }
+
+    return this ;
+  }
+
+  /**
+   * Sets the number of past displacements combined to predict the next one, or 0 to extrapolate linearly
+   */
+  public PredictionBasedCreateNSolutions setAutoregressiveOrder(int autoregressiveOrder) {
+    if (autoregressiveOrder < 0) {
+      throw new JMetalException("The autoregressive order is negative: " + autoregressiveOrder) ;
+    }
+    this.autoregressiveOrder = autoregressiveOrder ;
+
+    return this ;
+  }
+
+  /**
+   * Records the centroid of the list. A restart caused by a change of the problem receives the solutions obtained for
+   * the previous state, so their centroid replaces the last one recorded for it; the next restart starts the
+   * centroid of the new state
+   */
+  @Override
+  public void beforeRestart(List<DoubleSolution> solutionList, DynamicProblem<DoubleSolution, ?> problem) {
+    if (solutionList.isEmpty()) {
+      return ;
+    }
+
+    double[] centroid = recordSolutions(solutionList) ;
+    if (centroids.isEmpty() || theProblemHasChanged || (centroids.getLast().length != centroid.length)) {
+      centroids.addLast(centroid);
+      if (centroids.size() > historySize) {
+        centroids.removeFirst() ;
+      }
+    } else {
+      centroids.set(centroids.size() - 1, centroid) ;
+    }
+    theProblemHasChanged = false ;
+
+    long changeEpoch = problem.getChangeEpoch() ;
+    if (lastSeenChangeEpoch == Long.MIN_VALUE) {
+      lastSeenChangeEpoch = changeEpoch ;
+    } else if (changeEpoch != lastSeenChangeEpoch) {
+      lastSeenChangeEpoch = changeEpoch ;
+      theProblemHasChanged = true ;
+      predict(centroid);
+    }
+  }
+
+  @Override
+  public void create(List<DoubleSolution> solutionList, DynamicProblem<DoubleSolution, ?> problem,
+                     int numberOfSolutionsToCreate) {
+    if (solutionList == null) {
+      throw new JMetalException("The solution list is null") ;
+    } else if (problem == null) {
+      throw new JMetalException("The problem is null") ;
+    }
+
+    if (!theProblemHasChanged || (predictedDisplacement == null) || replacedSolutions.isEmpty()
+            || (predictedDisplacement.length != problem.getNumberOfVariables())) {
+      createNewSolutionsStrategy.create(solutionList, problem, numberOfSolutionsToCreate);
+      return ;
+    }
+
+    for (int i = 0; i < numberOfSolutionsToCreate; i++) {
+      DoubleSolution solution = problem.createSolution() ;
+      double[] replacedSolution = replacedSolutions.get(random.nextInt(0, replacedSolutions.size() - 1)) ;
+      for (int j = 0; j < predictedDisplacement.length; j++) {
+        double value = replacedSolution[j] + predictedDisplacement[j] + predictionError * nextGaussian() ;
+        value = Math.max(solution.getLowerBound(j), Math.min(solution.getUpperBound(j), value)) ;
+        solution.setVariableValue(j, value);
+      }
+      if (createNewSolutionsStrategy.evaluatesTheNewSolutions()) {
+        problem.evaluate(solution);
+      }
+      solutionList.add(solution) ;
+    }
+
+    Metrics.counter("restartStrategy.prediction.predictedSolutions").increment(numberOfSolutionsToCreate);
+  }
+
+  @Override
+  public boolean evaluatesTheNewSolutions() {
+    return createNewSolutionsStrategy.evaluatesTheNewSolutions() ;
+  }
+
+  private double[] recordSolutions(List<DoubleSolution> solutionList) {
+    int numberOfVariables = solutionList.get(0).getNumberOfVariables() ;
+    double[] centroid = new double[numberOfVariables] ;
+    replacedSolutions = new ArrayList<>(solutionList.size()) ;
+    for (DoubleSolution solution : solutionList) {
+      double[] variables = new double[numberOfVariables] ;
+      for (int j = 0; j < numberOfVariables; j++) {
+        variables[j] = solution.getVariableValue(j) ;
+        centroid[j] += variables[j] ;
+      }
+      replacedSolutions.add(variables) ;
+    }
+    for (int j = 0; j < numberOfVariables; j++) {
+      centroid[j] /= solutionList.size() ;
+    }
+
+    return centroid ;
+  }
+
+  /**
+   * Predicts the displacement of the centroid for the new state, given the final centroid of the previous one. The
+   * noise of the new solutions is the root mean square error of the previous prediction or, if there is none, of the
+   * displacement itself
+   */
+  private void predict(double[] centroid) {
+    List<double[]> displacements = new ArrayList<>() ;
+    double[] previous = null ;
+    for (double[] current : centroids) {
+      if ((previous != null) && (previous.length == current.length)) {
+        double[] displacement = new double[current.length] ;
+        for (int j = 0; j < current.length; j++) {
+          displacement[j] = current[j] - previous[j] ;
+        }
+        displacements.add(displacement) ;
+      }
+      previous = current ;
+    }
+
+    if ((predictedCentroid != null) && (predictedCentroid.length == centroid.length)) {
+      predictionError = rootMeanSquare(centroid, predictedCentroid) ;
+    } else {
+      predictionError = -1 ;
+    }
+
+    predictedDisplacement = null ;
+    predictedCentroid = null ;
+    if (displacements.isEmpty()) {
+      return ;
+    }
+
+    double[] coefficients = fitAutoregressiveModel(displacements) ;
+    predictedDisplacement = new double[centroid.length] ;
+    for (int k = 0; k < coefficients.length; k++) {
+      double[] displacement = displacements.get(displacements.size() - 1 - k) ;
+      for (int j = 0; j < centroid.length; j++) {
+        predictedDisplacement[j] += coefficients[k] * displacement[j] ;
+      }
+    }
+
+    predictedCentroid = new double[centroid.length] ;
+    for (int j = 0; j < centroid.length; j++) {
+      predictedCentroid[j] = centroid[j] + predictedDisplacement[j] ;
+    }
+    if (predictionError < 0) {
+      predictionError = rootMeanSquare(predictedDisplacement, new double[centroid.length]) ;
+    }
+  }
+
+  /**
+   * Fits the coefficients a_1..a_p of d(t) = a_1 d(t-1) + ... + a_p d(t-p), sharing them among all the variables.
+   * Returns the coefficients of the linear extrapolation, {1}, if the order is 0, if the history is too short, or if
+   * the system is singular
+   */
+  private double[] fitAutoregressiveModel(List<double[]> displacements) {
+    int p = autoregressiveOrder ;
+    int numberOfVariables = displacements.get(0).length ;
+    if ((p == 0) || ((displacements.size() - p) * numberOfVariables < 2 * p) || (displacements.size() <= p)) {
+      return new double[] {1.0} ;
+    }
+
+    double[][] a = new double[p][p + 1] ;
+    for (int t = p; t < displacements.size(); t++) {
+      double[] target = displacements.get(t) ;
+      for (int j = 0; j < numberOfVariables; j++) {
+        for (int k = 0; k < p; k++) {
+          double xk = displacements.get(t - 1 - k)[j] ;
+          for (int l = 0; l < p; l++) {
+            a[k][l] += xk * displacements.get(t - 1 - l)[j] ;
+          }
+          a[k][p] += xk * target[j] ;
+        }
+      }
+    }
+
+    return solve(a) ;
+  }
+
+  /**
+   * Solves a linear system given as an augmented matrix by Gaussian elimination with partial pivoting
+   */
+  private static double[] solve(double[][] a) {
+    int n = a.length ;
+    double scale = 0.0 ;
+    for (int i = 0; i < n; i++) {
+      scale = Math.max(scale, Math.abs(a[i][i])) ;
+    }
+
+    for (int col = 0; col < n; col++) {
+      int pivot = col ;
+      for (int row = col + 1; row < n; row++) {
+        if (Math.abs(a[row][col]) > Math.abs(a[pivot][col])) {
+          pivot = row ;
+        }
+      }
+      if (Math.abs(a[pivot][col]) <= 1e-12 * scale) {
+        return new double[] {1.0} ;
+      }
+      double[] aux = a[col] ;
+      a[col] = a[pivot] ;
+      a[pivot] = aux ;
+
+      for (int row = col + 1; row < n; row++) {
+        double factor = a[row][col] / a[col][col] ;
+        for (int k = col; k <= n; k++) {
+          a[row][k] -= factor * a[col][k] ;
+        }
+      }
+    }
+
+    double[] x = new double[n] ;
+    for (int row = n - 1; row >= 0; row--) {
+      double sum = a[row][n] ;
+      for (int k = row + 1; k < n; k++) {
+        sum -= a[row][k] * x[k] ;
+      }
+      x[row] = sum / a[row][row] ;
+    }
+
+    return x ;
+  }
+
+  private static double rootMeanSquare(double[] x, double[] y) {
+    double sum = 0.0 ;
+    for (int j = 0; j < x.length; j++) {
+      sum += (x[j] - y[j]) * (x[j] - y[j]) ;
+    }
+
+    return Math.sqrt(sum / x.length) ;
+  }
+
+  private double nextGaussian() {
+    double u = 1.0 - random.nextDouble() ;
+    double v = random.nextDouble() ;
+
+    return Math.sqrt(-2.0 * Math.log(u)) * Math.cos(2.0 * Math.PI * v) ;
+  }
+}
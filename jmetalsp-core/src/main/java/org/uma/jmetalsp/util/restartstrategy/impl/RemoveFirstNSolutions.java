@@ -7,7 +7,6 @@ import org.uma.jmetalsp.util.restartstrategy.RemoveSolutionsStrategy;
 
 import java.util.List;
 
-import static org.uma.jmetal.util.SolutionListUtils.removeSolutionsFromList;
 
 /**
  * Created by antonio on 6/06/17.
@@ -21,13 +20,20 @@ public class RemoveFirstNSolutions<S extends Solution<?>> implements RemoveSolut
 
   @Override
   public int remove(List<S> solutionList, DynamicProblem<S, ?> problem) {
+    return remove(solutionList, problem, numberOfSolutionsToDelete) ;
+  }
+
+  @Override
+  public int remove(List<S> solutionList, DynamicProblem<S, ?> problem, int numberOfSolutionsToDelete) {
     if (solutionList == null) {
       throw new JMetalException("The solution list is null") ;
     } else if (problem == null) {
       throw new JMetalException("The problem is null") ;
     }
 
-    removeSolutionsFromList(solutionList, numberOfSolutionsToDelete);
-    return numberOfSolutionsToDelete ;
+    int numberOfSolutionsToRemove = Math.max(0, Math.min(numberOfSolutionsToDelete, solutionList.size())) ;
+    solutionList.subList(0, numberOfSolutionsToRemove).clear();
+
+    return numberOfSolutionsToRemove ;
   }
 }
@@ -7,10 +7,13 @@ import org.uma.jmetalsp.DynamicProblem;
 import org.uma.jmetalsp.util.restartstrategy.RemoveSolutionsStrategy;
 
 import java.util.List;
-import java.util.stream.IntStream;
 
 /**
  * Created by antonio on 6/06/17.
+ *
+ * The solutions are chosen with a partial Fisher-Yates shuffle that moves them to the end of the list, which is
+ * then truncated, so the cost is linear in the number of removed solutions. The order of the remaining solutions
+ * is not kept.
  */
 public class RemoveNRandomSolutions<S extends Solution<?>> implements RemoveSolutionsStrategy<S> {
   private int numberOfSolutionsToDelete ;
@@ -21,6 +24,11 @@ public class RemoveNRandomSolutions<S extends Solution<?>> implements RemoveSolu
 
   @Override
   public int remove(List<S> solutionList, DynamicProblem<S, ?> problem) {
+    return remove(solutionList, problem, numberOfSolutionsToDelete) ;
+  }
+
+  @Override
+  public int remove(List<S> solutionList, DynamicProblem<S, ?> problem, int numberOfSolutionsToDelete) {
     if (solutionList == null) {
       throw new JMetalException("The solution list is null") ;
     } else if (problem == null) {
@@ -29,13 +37,17 @@ public class RemoveNRandomSolutions<S extends Solution<?>> implements RemoveSolu
       throw new JMetalException("The solution list is empty") ;
     }
 
-    int numberOfSolutionsToRemove = numberOfSolutionsToDelete ;
-    IntStream.range(0, numberOfSolutionsToRemove)
-            .forEach(s -> {
-                      int chosen = JMetalRandom.getInstance().nextInt(0, solutionList.size()-1);
-                      solutionList.remove(chosen);
-                    }
-            );
-    return numberOfSolutionsToDelete ;
+    int size = solutionList.size() ;
+    int numberOfSolutionsToRemove = Math.max(0, Math.min(numberOfSolutionsToDelete, size)) ;
+    JMetalRandom random = JMetalRandom.getInstance() ;
+    for (int last = size - 1; last >= size - numberOfSolutionsToRemove; last--) {
+      int chosen = random.nextInt(0, last) ;
+      S solution = solutionList.get(chosen) ;
+      solutionList.set(chosen, solutionList.get(last)) ;
+      solutionList.set(last, solution) ;
+    }
+    solutionList.subList(size - numberOfSolutionsToRemove, size).clear();
+
+    return numberOfSolutionsToRemove ;
   }
 }
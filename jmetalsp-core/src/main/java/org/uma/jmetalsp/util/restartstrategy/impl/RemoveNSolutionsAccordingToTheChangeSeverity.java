@@ -0,0 +1,98 @@
+package org.uma.jmetalsp.util.restartstrategy.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetalsp.DynamicProblem;
+import org.uma.jmetalsp.util.restartstrategy.ChangeSeverityEstimator;
+import org.uma.jmetalsp.util.restartstrategy.RemoveSolutionsStrategy;
+
+import java.util.List;
+
+/**
+ * Decorator of a {@link RemoveSolutionsStrategy} scaling the restart to the severity of the change of the problem,
+ * estimated with a {@link ChangeSeverityEstimator}. The number of removed solutions goes from a minimum, when the
+ * problem has not changed, to a maximum, when the change is complete; the decorated strategy must support removing
+ * a given number of solutions (see {@link RemoveSolutionsStrategy#remove(List, DynamicProblem, int)}). As it only
+ * decides how many solutions are removed, it can be combined with any strategy to create the new solutions.
+ *
+ * The fraction of the evaluation budget spent before publishing the next front after a change (see
+ * {@link #getEvaluationBudgetFactor()}) is scaled in the same way, between a minimum fraction and 1.
+ */
+public class RemoveNSolutionsAccordingToTheChangeSeverity<S extends Solution<?>> implements RemoveSolutionsStrategy<S> {
+  public static final double DEFAULT_MINIMUM_EVALUATION_BUDGET_FRACTION = 0.25 ;
+
+  private final RemoveSolutionsStrategy<S> removeSolutionsStrategy ;
+  private final ChangeSeverityEstimator<S> changeSeverityEstimator ;
+  private final int minimumNumberOfSolutionsToRemove ;
+  private final int maximumNumberOfSolutionsToRemove ;
+  private double minimumEvaluationBudgetFraction ;
+  private double lastSeverity ;
+
+  public RemoveNSolutionsAccordingToTheChangeSeverity(RemoveSolutionsStrategy<S> removeSolutionsStrategy,
+                                                      int minimumNumberOfSolutionsToRemove,
+                                                      int maximumNumberOfSolutionsToRemove,
+                                                      ChangeSeverityEstimator<S> changeSeverityEstimator) {
+    if (removeSolutionsStrategy == null) {
+      throw new JMetalException("The strategy to remove solutions is null") ;
+    } else if (changeSeverityEstimator == null) {
+      throw new JMetalException("The change severity estimator is null") ;
+    } else if ((minimumNumberOfSolutionsToRemove < 0)
+            || (minimumNumberOfSolutionsToRemove > maximumNumberOfSolutionsToRemove)) {
+      throw new JMetalException("Invalid range of solutions to remove: [" + minimumNumberOfSolutionsToRemove + ", "
+              + maximumNumberOfSolutionsToRemove + "]") ;
+    }
+    this.removeSolutionsStrategy = removeSolutionsStrategy ;
+    this.changeSeverityEstimator = changeSeverityEstimator ;
+    this.minimumNumberOfSolutionsToRemove = minimumNumberOfSolutionsToRemove ;
+    this.maximumNumberOfSolutionsToRemove = maximumNumberOfSolutionsToRemove ;
+    this.minimumEvaluationBudgetFraction = DEFAULT_MINIMUM_EVALUATION_BUDGET_FRACTION ;
+    this.lastSeverity = 1.0 ;
+  }
+
+  public RemoveNSolutionsAccordingToTheChangeSeverity(RemoveSolutionsStrategy<S> removeSolutionsStrategy,
+                                                      int minimumNumberOfSolutionsToRemove,
+                                                      int maximumNumberOfSolutionsToRemove) {
+    this(removeSolutionsStrategy, minimumNumberOfSolutionsToRemove, maximumNumberOfSolutionsToRemove,
+            new ChangeSeverityEstimator<>()) ;
+  }
+
+  public RemoveNSolutionsAccordingToTheChangeSeverity<S> setMinimumEvaluationBudgetFraction(
+          double minimumEvaluationBudgetFraction) {
+    if ((minimumEvaluationBudgetFraction <= 0) || (minimumEvaluationBudgetFraction > 1)) {
+      throw new JMetalException("The minimum fraction of the evaluation budget must be in (0, 1]: "
+              + minimumEvaluationBudgetFraction) ;
+    }
+    this.minimumEvaluationBudgetFraction = minimumEvaluationBudgetFraction ;
+
+    return this ;
+  }
+
+  @Override
+  public int remove(List<S> solutionList, DynamicProblem<S, ?> problem) {
+    return remove(solutionList, problem, maximumNumberOfSolutionsToRemove) ;
+  }
+
+  /**
+   * Removes a number of solutions between the minimum and the given one, which replaces the maximum
+   */
+  @Override
+  public int remove(List<S> solutionList, DynamicProblem<S, ?> problem, int maximumNumberOfSolutionsToRemove) {
+    lastSeverity = changeSeverityEstimator.estimate(solutionList, problem) ;
+    int range = Math.max(0, maximumNumberOfSolutionsToRemove - minimumNumberOfSolutionsToRemove) ;
+    int numberOfSolutionsToRemove = minimumNumberOfSolutionsToRemove + (int) Math.round(lastSeverity * range) ;
+
+    return removeSolutionsStrategy.remove(solutionList, problem, numberOfSolutionsToRemove) ;
+  }
+
+  @Override
+  public double getEvaluationBudgetFactor() {
+    return minimumEvaluationBudgetFraction + lastSeverity * (1.0 - minimumEvaluationBudgetFraction) ;
+  }
+
+  /**
+   * @return The severity of the change estimated in the last restart
+   */
+  public double getLastSeverity() {
+    return lastSeverity ;
+  }
+}
@@ -2,43 +2,82 @@ package org.uma.jmetalsp.util.restartstrategy.impl;
 
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
-import org.uma.jmetal.util.archive.impl.CrowdingDistanceArchive;
+import org.uma.jmetal.util.solutionattribute.Ranking;
+import org.uma.jmetal.util.solutionattribute.impl.DominanceRanking;
 import org.uma.jmetalsp.DynamicProblem;
+import org.uma.jmetalsp.util.crowding.CrowdingDistanceTruncation;
 import org.uma.jmetalsp.util.restartstrategy.RemoveSolutionsStrategy;
 
+import java.util.BitSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Created by antonio on 6/06/17.
+ *
+ * The solutions of the last fronts of the dominance ranking are removed first; the front that cannot be removed
+ * completely is truncated in bulk with a {@link CrowdingDistanceTruncation}, and the list is compacted once.
  */
 public class RemoveNSolutionsAccordingToTheCrowdingDistance<S extends Solution<?>> implements RemoveSolutionsStrategy<S> {
   private int numberOfSolutionsToDelete ;
+  private final CrowdingDistanceTruncation crowdingDistanceTruncation ;
 
   public RemoveNSolutionsAccordingToTheCrowdingDistance(int numberOfSolutionsToDelete) {
     this.numberOfSolutionsToDelete = numberOfSolutionsToDelete ;
+    this.crowdingDistanceTruncation = new CrowdingDistanceTruncation() ;
   }
 
   @Override
   public int remove(List<S> solutionList, DynamicProblem<S, ?> problem) {
+    return remove(solutionList, problem, numberOfSolutionsToDelete) ;
+  }
+
+  @Override
+  public int remove(List<S> solutionList, DynamicProblem<S, ?> problem, int numberOfSolutionsToDelete) {
     if (solutionList == null) {
       throw new JMetalException("The solution list is null") ;
     } else if (problem == null) {
       throw new JMetalException("The problem is null") ;
     }
-    int numberOfSolutions = solutionList.size() - numberOfSolutionsToDelete;
-    if(numberOfSolutions < 0){
-      numberOfSolutions = solutionList.size();
+    int initialSize = solutionList.size() ;
+    if (numberOfSolutionsToDelete >= initialSize) {
+      solutionList.clear();
+      return initialSize ;
+    } else if (numberOfSolutionsToDelete <= 0) {
+      return 0 ;
     }
-    CrowdingDistanceArchive<S> archive = new CrowdingDistanceArchive<>(numberOfSolutions) ;
-    for (S solution: solutionList) {
-      archive.add(solution) ;
+
+    Map<S, Integer> indices = new IdentityHashMap<>() ;
+    for (int i = 0; i < initialSize; i++) {
+      indices.put(solutionList.get(i), i) ;
     }
-    solutionList.clear();
 
-    for (S solution: archive.getSolutionList()) {
-      solutionList.add(solution) ;
+    Ranking<S> ranking = new DominanceRanking<S>().computeRanking(solutionList) ;
+    BitSet solutionsToRemove = new BitSet(initialSize) ;
+    int pendingRemovals = numberOfSolutionsToDelete ;
+    for (int rank = ranking.getNumberOfSubfronts() - 1; pendingRemovals > 0; rank--) {
+      List<S> front = ranking.getSubfront(rank) ;
+      if (front.size() <= pendingRemovals) {
+        for (S solution : front) {
+          solutionsToRemove.set(indices.get(solution));
+        }
+        pendingRemovals -= front.size() ;
+      } else {
+        double[][] points = new double[front.size()][problem.getNumberOfObjectives()] ;
+        for (int i = 0; i < points.length; i++) {
+          for (int j = 0; j < points[i].length; j++) {
+            points[i][j] = front.get(i).getObjective(j) ;
+          }
+        }
+        BitSet pointsToRemove = crowdingDistanceTruncation.selectPointsToRemove(points, pendingRemovals) ;
+        for (int i = pointsToRemove.nextSetBit(0); i >= 0; i = pointsToRemove.nextSetBit(i + 1)) {
+          solutionsToRemove.set(indices.get(front.get(i)));
+        }
+        pendingRemovals = 0 ;
+      }
     }
 
-    return numberOfSolutions ;
+    return RemoveSolutionsStrategy.removeSolutions(solutionList, solutionsToRemove) ;
   }
 }
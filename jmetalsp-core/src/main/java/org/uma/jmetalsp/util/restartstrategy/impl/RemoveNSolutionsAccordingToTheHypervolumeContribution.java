@@ -5,31 +5,53 @@ import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.archive.impl.HypervolumeArchive;
 import org.uma.jmetalsp.DynamicProblem;
+import org.uma.jmetalsp.util.hypervolume.HypervolumeContributionEngine;
 import org.uma.jmetalsp.util.restartstrategy.RemoveSolutionsStrategy;
 
 import java.util.List;
 
 /**
  * Created by antonio on 6/06/17.
+ *
+ * With two objectives, exactly the requested number of solutions is removed, choosing them with a
+ * {@link HypervolumeContributionEngine}; otherwise, the solutions are filtered through a {@link HypervolumeArchive},
+ * which also removes the dominated ones.
  */
 public class RemoveNSolutionsAccordingToTheHypervolumeContribution<S extends Solution<?>> implements RemoveSolutionsStrategy<S> {
   private int numberOfSolutionsToDelete ;
+  private final HypervolumeContributionEngine hypervolumeContributionEngine ;
 
   public RemoveNSolutionsAccordingToTheHypervolumeContribution(int numberOfSolutionsToDelete) {
     this.numberOfSolutionsToDelete = numberOfSolutionsToDelete ;
+    this.hypervolumeContributionEngine = new HypervolumeContributionEngine() ;
   }
 
   @Override
   public int remove(List<S> solutionList, DynamicProblem<S, ?> problem) {
+    return remove(solutionList, problem, numberOfSolutionsToDelete) ;
+  }
+
+  @Override
+  public int remove(List<S> solutionList, DynamicProblem<S, ?> problem, int numberOfSolutionsToDelete) {
     if (solutionList == null) {
       throw new JMetalException("The solution list is null") ;
     } else if (problem == null) {
       throw new JMetalException("The problem is null") ;
     }
+    int initialSize = solutionList.size() ;
     int numberOfSolutions = solutionList.size() - numberOfSolutionsToDelete;
-    if(numberOfSolutions < 0){
-      numberOfSolutions = solutionList.size();
+    if (numberOfSolutions <= 0) {
+      solutionList.clear();
+      return initialSize ;
+    } else if (numberOfSolutionsToDelete <= 0) {
+      return 0 ;
     }
+
+    if (HypervolumeContributionEngine.isSupported(problem.getNumberOfObjectives())) {
+      return RemoveSolutionsStrategy.removeSolutions(solutionList,
+              hypervolumeContributionEngine.selectSolutionsToRemove(solutionList, numberOfSolutionsToDelete)) ;
+    }
+
     HypervolumeArchive<S> archive = new HypervolumeArchive<>(numberOfSolutions,  new PISAHypervolume<>()) ;
     for (S solution: solutionList) {
       archive.add(solution) ;
@@ -40,6 +62,6 @@ public class RemoveNSolutionsAccordingToTheHypervolumeContribution<S extends Sol
       solutionList.add(solution) ;
     }
 
-    return numberOfSolutions ;
+    return initialSize - solutionList.size() ;
   }
 }
@@ -0,0 +1,114 @@
+package org.uma.jmetalsp.host;
+
+import org.uma.jmetalsp.DynamicProblem;
+import org.uma.jmetalsp.ObservedData;
+import org.uma.jmetalsp.observer.Observable;
+import org.uma.jmetalsp.observer.impl.DefaultObservable;
+import org.uma.jmetalsp.util.restartstrategy.RestartRateLimiter;
+import org.uma.jmetalsp.util.restartstrategy.RestartStrategy;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stepwise algorithm counting its steps. Each step takes a fixed time, and the step after a call to
+ * {@link #stop()} is the last one
+ */
+class CountingAlgorithm implements StepwiseAlgorithm<Long, ObservedData<?>> {
+  private final long stepDurationInNanos ;
+  private final AtomicLong numberOfSteps ;
+  private final Observable<ObservedData<?>> observable ;
+  private volatile boolean initialized ;
+  private volatile boolean stopRequested ;
+  private volatile boolean finished ;
+
+  CountingAlgorithm(long stepDurationInNanos) {
+    this.stepDurationInNanos = stepDurationInNanos ;
+    this.numberOfSteps = new AtomicLong() ;
+    this.observable = new DefaultObservable<>() ;
+  }
+
+  CountingAlgorithm() {
+    this(0) ;
+  }
+
+  @Override
+  public void initialize() {
+    initialized = true ;
+  }
+
+  @Override
+  public boolean step() {
+    long stepEnd = System.nanoTime() + stepDurationInNanos ;
+    while (System.nanoTime() - stepEnd < 0) {
+      // The step is busy until its end
+    }
+    numberOfSteps.incrementAndGet() ;
+    if (stopRequested) {
+      finished = true ;
+    }
+
+    return !finished ;
+  }
+
+  long getNumberOfSteps() {
+    return numberOfSteps.get() ;
+  }
+
+  boolean isInitialized() {
+    return initialized ;
+  }
+
+  boolean hasFinished() {
+    return finished ;
+  }
+
+  @Override
+  public void stop() {
+    stopRequested = true ;
+  }
+
+  @Override
+  public void run() {
+    initialize();
+    while (step()) {
+      // Steps until the algorithm is stopped
+    }
+  }
+
+  @Override
+  public Long getResult() {
+    return numberOfSteps.get() ;
+  }
+
+  @Override
+  public String getName() {
+    return "CountingAlgorithm" ;
+  }
+
+  @Override
+  public String getDescription() {
+    return "Algorithm counting its steps" ;
+  }
+
+  @Override
+  public DynamicProblem<?, ?> getDynamicProblem() {
+    return null ;
+  }
+
+  @Override
+  public void restart() {
+  }
+
+  @Override
+  public void setRestartStrategy(RestartStrategy<?> restartStrategy) {
+  }
+
+  @Override
+  public void setRestartRateLimiter(RestartRateLimiter restartRateLimiter) {
+  }
+
+  @Override
+  public Observable<ObservedData<?>> getObservable() {
+    return observable ;
+  }
+}
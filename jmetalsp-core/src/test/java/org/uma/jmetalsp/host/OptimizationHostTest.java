@@ -0,0 +1,118 @@
+package org.uma.jmetalsp.host;
+
+import org.junit.After;
+import org.junit.Test;
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for class OptimizationHost
+ */
+public class OptimizationHostTest {
+  private static final long STEP = TimeUnit.MILLISECONDS.toNanos(1) ;
+
+  private OptimizationHost host ;
+
+  @After
+  public void tearDown() throws InterruptedException {
+    if (host != null) {
+      host.stop();
+    }
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldSubmitFailIfThereIsAJobWithTheSameName() {
+    host = new OptimizationHost(1) ;
+    host.submit(new OptimizationJob("job", new CountingAlgorithm()));
+    host.submit(new OptimizationJob("job", new CountingAlgorithm()));
+  }
+
+  @Test
+  public void shouldShareTheWorkerInProportionToTheWeights() throws InterruptedException {
+    host = new OptimizationHost(1, 10).start() ;
+    CountingAlgorithm light = new CountingAlgorithm(STEP) ;
+    CountingAlgorithm heavy = new CountingAlgorithm(STEP) ;
+    host.submit(new OptimizationJob("light", light));
+    host.submit(new OptimizationJob("heavy", heavy).setWeight(3));
+
+    Thread.sleep(600);
+    host.stop();
+
+    double ratio = (double) heavy.getNumberOfSteps() / light.getNumberOfSteps() ;
+    assertTrue("Ratio of steps: " + ratio, ratio > 2 && ratio < 4.5) ;
+  }
+
+  @Test
+  public void shouldNotExceedTheQuotaOfAJob() throws InterruptedException {
+    host = new OptimizationHost(2, 10).start() ;
+    CountingAlgorithm algorithm = new CountingAlgorithm() ;
+    host.submit(new OptimizationJob("job", algorithm).setMaximumStepsPerSecond(20));
+
+    Thread.sleep(500);
+
+    assertEquals(20, algorithm.getNumberOfSteps()) ;
+  }
+
+  @Test
+  public void shouldCancelRemoveAJobWaitingForItsQuota() throws InterruptedException {
+    host = new OptimizationHost(1, 10).start() ;
+    CountingAlgorithm algorithm = new CountingAlgorithm() ;
+    OptimizationJob job = new OptimizationJob("job", algorithm).setMaximumStepsPerSecond(1) ;
+    host.submit(job);
+    awaitSteps(algorithm, 1) ;
+
+    host.cancel("job");
+    awaitNoJobs(host) ;
+
+    assertTrue(algorithm.hasFinished()) ;
+    assertTrue(job.isFinished()) ;
+    assertEquals(2, algorithm.getNumberOfSteps()) ;
+  }
+
+  @Test
+  public void shouldStopFinishTheJobsWaitingForTheirQuota() throws InterruptedException {
+    host = new OptimizationHost(1, 10).start() ;
+    CountingAlgorithm first = new CountingAlgorithm() ;
+    CountingAlgorithm second = new CountingAlgorithm() ;
+    host.submit(new OptimizationJob("first", first).setMaximumStepsPerSecond(1));
+    host.submit(new OptimizationJob("second", second).setMaximumStepsPerSecond(1));
+    awaitSteps(first, 1) ;
+    awaitSteps(second, 1) ;
+
+    long startTime = System.currentTimeMillis() ;
+    host.stop();
+
+    assertTrue(System.currentTimeMillis() - startTime < 5000) ;
+    assertEquals(0, host.getNumberOfJobs()) ;
+    assertTrue(first.hasFinished()) ;
+    assertTrue(second.hasFinished()) ;
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldSubmitFailIfTheHostIsStopping() throws InterruptedException {
+    host = new OptimizationHost(1).start() ;
+    host.stop();
+
+    host.submit(new OptimizationJob("job", new CountingAlgorithm()));
+  }
+
+  private static void awaitSteps(CountingAlgorithm algorithm, long numberOfSteps) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 10000 ;
+    while (algorithm.getNumberOfSteps() < numberOfSteps) {
+      assertTrue(System.currentTimeMillis() < deadline) ;
+      Thread.sleep(1);
+    }
+  }
+
+  private static void awaitNoJobs(OptimizationHost host) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 10000 ;
+    while (host.getNumberOfJobs() > 0) {
+      assertTrue(System.currentTimeMillis() < deadline) ;
+      Thread.sleep(1);
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package org.uma.jmetalsp.host;
+
+import org.junit.Test;
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for class OptimizationJob
+ */
+public class OptimizationJobTest {
+  private static final long SLICE = TimeUnit.MILLISECONDS.toNanos(20) ;
+  private static final long STEP = TimeUnit.MILLISECONDS.toNanos(1) ;
+
+  @Test(expected = JMetalException.class)
+  public void shouldSetWeightFailIfTheWeightIsNotPositive() {
+    new OptimizationJob("job", new CountingAlgorithm()).setWeight(0) ;
+  }
+
+  @Test
+  public void shouldTheQuotaBeAlwaysAvailableIfTheJobIsUnlimited() {
+    OptimizationJob job = new OptimizationJob("job", new CountingAlgorithm(STEP)) ;
+
+    assertTrue(job.runSlice(SLICE, false)) ;
+
+    assertEquals(0, job.nanosUntilTheQuotaIsAvailable()) ;
+  }
+
+  @Test
+  public void shouldRunSliceStopWhenTheQuotaIsExhausted() {
+    CountingAlgorithm algorithm = new CountingAlgorithm() ;
+    OptimizationJob job = new OptimizationJob("job", algorithm).setMaximumStepsPerSecond(5) ;
+
+    assertTrue(job.runSlice(TimeUnit.SECONDS.toNanos(10), false)) ;
+
+    assertEquals(5, algorithm.getNumberOfSteps()) ;
+    assertEquals(5, job.getNumberOfSteps()) ;
+    long delay = job.nanosUntilTheQuotaIsAvailable() ;
+    assertTrue(delay > 0) ;
+    assertTrue(delay <= TimeUnit.SECONDS.toNanos(1)) ;
+  }
+
+  @Test
+  public void shouldTheQuotaBeAvailableAgainWhenItsWindowIsOver() throws InterruptedException {
+    CountingAlgorithm algorithm = new CountingAlgorithm() ;
+    OptimizationJob job = new OptimizationJob("job", algorithm).setMaximumStepsPerSecond(2) ;
+    job.runSlice(TimeUnit.SECONDS.toNanos(10), false) ;
+
+    TimeUnit.NANOSECONDS.sleep(job.nanosUntilTheQuotaIsAvailable() + 1);
+
+    assertEquals(0, job.nanosUntilTheQuotaIsAvailable()) ;
+    job.runSlice(TimeUnit.SECONDS.toNanos(10), false) ;
+    assertEquals(4, algorithm.getNumberOfSteps()) ;
+  }
+
+  @Test
+  public void shouldRunSliceIgnoreTheQuotaIfRequested() {
+    CountingAlgorithm algorithm = new CountingAlgorithm(STEP) ;
+    OptimizationJob job = new OptimizationJob("job", algorithm).setMaximumStepsPerSecond(1) ;
+
+    job.runSlice(SLICE, true) ;
+
+    assertTrue(algorithm.getNumberOfSteps() > 1) ;
+  }
+
+  @Test
+  public void shouldTheSliceBeProportionalToTheWeight() {
+    OptimizationJob job = new OptimizationJob("job", new CountingAlgorithm(STEP)).setWeight(3) ;
+
+    long startTime = System.nanoTime() ;
+    job.runSlice(SLICE, false) ;
+
+    assertTrue(System.nanoTime() - startTime >= 3 * SLICE) ;
+  }
+
+  @Test
+  public void shouldRunSliceInitializeTheAlgorithmBeforeTheFirstStep() {
+    CountingAlgorithm algorithm = new CountingAlgorithm() ;
+    OptimizationJob job = new OptimizationJob("job", algorithm) ;
+    assertFalse(algorithm.isInitialized()) ;
+
+    job.runSlice(STEP, false) ;
+    assertTrue(algorithm.isInitialized()) ;
+  }
+
+  @Test
+  public void shouldRunSliceReturnFalseWhenTheAlgorithmHasFinished() {
+    CountingAlgorithm algorithm = new CountingAlgorithm() ;
+    OptimizationJob job = new OptimizationJob("job", algorithm) ;
+    job.runSlice(STEP, false) ;
+    long steps = algorithm.getNumberOfSteps() ;
+
+    algorithm.stop();
+
+    assertFalse(job.runSlice(SLICE, false)) ;
+    assertTrue(job.isFinished()) ;
+    assertEquals(steps + 1, algorithm.getNumberOfSteps()) ;
+  }
+}
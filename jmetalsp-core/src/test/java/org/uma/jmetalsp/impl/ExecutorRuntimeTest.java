@@ -0,0 +1,60 @@
+package org.uma.jmetalsp.impl;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for class ExecutorRuntime
+ */
+public class ExecutorRuntimeTest {
+
+  @Test
+  public void shouldShutdownInterruptTheRunningTasks() throws InterruptedException {
+    ExecutorRuntime runtime = ExecutorRuntime.withFixedThreadPool(2) ;
+    CountDownLatch started = new CountDownLatch(2) ;
+    for (int i = 0; i < 2; i++) {
+      runtime.submit(() -> {
+        started.countDown();
+        try {
+          Thread.sleep(Long.MAX_VALUE);
+        } catch (InterruptedException e) {
+          // The task has been cancelled
+        }
+      }) ;
+    }
+    assertTrue(started.await(10, TimeUnit.SECONDS)) ;
+    assertEquals(2, runtime.getNumberOfActiveTasks()) ;
+
+    assertTrue(runtime.shutdown(10000)) ;
+    assertEquals(0, runtime.getNumberOfActiveTasks()) ;
+  }
+
+  @Test
+  public void shouldShutdownGiveUpWhenATaskIgnoresTheInterruption() throws InterruptedException {
+    ExecutorRuntime runtime = ExecutorRuntime.withFixedThreadPool(1) ;
+    CountDownLatch started = new CountDownLatch(1) ;
+    CountDownLatch finish = new CountDownLatch(1) ;
+    runtime.submit(() -> {
+      started.countDown();
+      while (finish.getCount() > 0) {
+        try {
+          finish.await();
+        } catch (InterruptedException e) {
+          // The interruption is ignored
+        }
+      }
+    }) ;
+    assertTrue(started.await(10, TimeUnit.SECONDS)) ;
+
+    long startTime = System.currentTimeMillis() ;
+    assertFalse(runtime.shutdown(50)) ;
+    assertTrue(System.currentTimeMillis() - startTime < 10000) ;
+    finish.countDown();
+  }
+}
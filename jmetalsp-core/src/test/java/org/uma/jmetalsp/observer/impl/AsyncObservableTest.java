@@ -0,0 +1,179 @@
+package org.uma.jmetalsp.observer.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetalsp.observer.Observable;
+import org.uma.jmetalsp.util.metrics.MeteredObserver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for class AsyncObservable
+ */
+public class AsyncObservableTest {
+
+  @Test(expected = JMetalException.class)
+  public void shouldConstructorFailIfTheQueueCapacityIsNotPositive() {
+    new AsyncObservable<IntegerObservedData>(0, AsyncObservable.OverflowPolicy.BLOCK) ;
+  }
+
+  @Test
+  public void shouldNotDeliverTheDataIfTheObservableHasNotChanged() throws InterruptedException {
+    AsyncObservable<IntegerObservedData> observable = new AsyncObservable<>() ;
+    RecordingObserver observer = new RecordingObserver() ;
+    observable.register(observer);
+
+    observable.notifyObservers(new IntegerObservedData(1));
+    observable.drain();
+
+    assertTrue(observer.getReceivedValues().isEmpty()) ;
+    observable.shutdown();
+  }
+
+  @Test
+  public void shouldRegisterAnObserverOnlyOnceEvenIfItIsMetered() {
+    AsyncObservable<IntegerObservedData> observable = new AsyncObservable<>() ;
+    RecordingObserver observer = new RecordingObserver() ;
+    observable.register(observer);
+    observable.register(new MeteredObserver<>(observer, "recorder"));
+
+    assertEquals(1, observable.numberOfRegisteredObservers()) ;
+
+    observable.unregister(new MeteredObserver<>(observer, "recorder"));
+    assertEquals(0, observable.numberOfRegisteredObservers()) ;
+  }
+
+  @Test
+  public void shouldGetObserversReturnTheRegisteredInstances() {
+    AsyncObservable<IntegerObservedData> observable = new AsyncObservable<>() ;
+    MeteredObserver<IntegerObservedData> observer = new MeteredObserver<>(new RecordingObserver(), "recorder") ;
+    observable.register(observer);
+
+    assertEquals(1, observable.getObservers().size()) ;
+    assertSame(observer, observable.getObservers().iterator().next()) ;
+    observable.shutdown();
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void shouldGetObserversReturnAnUnmodifiableView() {
+    AsyncObservable<IntegerObservedData> observable = new AsyncObservable<>() ;
+    observable.register(new RecordingObserver());
+
+    try {
+      observable.getObservers().clear();
+    } finally {
+      observable.shutdown();
+    }
+  }
+
+  @Test
+  public void shouldBlockPolicyDeliverAllTheDataInOrder() throws InterruptedException {
+    AsyncObservable<IntegerObservedData> observable =
+            new AsyncObservable<>(2, AsyncObservable.OverflowPolicy.BLOCK) ;
+    RecordingObserver observer = new RecordingObserver() ;
+    observable.register(observer);
+
+    List<Integer> expectedValues = new ArrayList<>() ;
+    for (int i = 0; i < 1000; i++) {
+      publish(observable, i) ;
+      expectedValues.add(i) ;
+    }
+    observable.drain();
+
+    assertEquals(expectedValues, observer.getReceivedValues()) ;
+    assertEquals(1000, observable.getNumberOfDeliveredData(observer)) ;
+    assertEquals(0, observable.getNumberOfDroppedData(observer)) ;
+    observable.shutdown();
+  }
+
+  @Test
+  public void shouldBlockPolicyReleaseTheProducerWhenTheObserverIsUnregistered() throws InterruptedException {
+    AsyncObservable<IntegerObservedData> observable =
+            new AsyncObservable<>(1, AsyncObservable.OverflowPolicy.BLOCK) ;
+    RecordingObserver observer = new RecordingObserver(true) ;
+    observable.register(observer);
+
+    publish(observable, 1) ;
+    observer.awaitFirstUpdate();
+
+    Thread producer = new Thread(() -> {
+      publish(observable, 2) ;
+      publish(observable, 3) ;
+    }) ;
+    producer.start();
+    waitUntilBlocked(producer) ;
+
+    observable.unregister(observer);
+    producer.join(10000);
+
+    assertFalse(producer.isAlive()) ;
+    assertEquals(Arrays.asList(1), observer.getReceivedValues()) ;
+  }
+
+  @Test
+  public void shouldDropOldestPolicyDiscardTheOldestPendingData() throws InterruptedException {
+    AsyncObservable<IntegerObservedData> observable =
+            new AsyncObservable<>(2, AsyncObservable.OverflowPolicy.DROP_OLDEST) ;
+    RecordingObserver observer = new RecordingObserver(true) ;
+    observable.register(observer);
+
+    publish(observable, 1) ;
+    observer.awaitFirstUpdate();
+    for (int i = 2; i <= 5; i++) {
+      publish(observable, i) ;
+    }
+    assertEquals(2, observable.getQueueDepth(observer)) ;
+    assertEquals(2, observable.getNumberOfDroppedData(observer)) ;
+
+    observer.release();
+    observable.drain();
+
+    assertEquals(Arrays.asList(1, 4, 5), observer.getReceivedValues()) ;
+    assertEquals(3, observable.getNumberOfDeliveredData(observer)) ;
+    observable.shutdown();
+  }
+
+  @Test
+  public void shouldLatestOnlyPolicyKeepOnlyTheMostRecentData() throws InterruptedException {
+    AsyncObservable<IntegerObservedData> observable =
+            new AsyncObservable<>(8, AsyncObservable.OverflowPolicy.LATEST_ONLY) ;
+    RecordingObserver observer = new RecordingObserver(true) ;
+    observable.register(observer);
+
+    publish(observable, 1) ;
+    observer.awaitFirstUpdate();
+    for (int i = 2; i <= 5; i++) {
+      publish(observable, i) ;
+    }
+    assertEquals(1, observable.getQueueDepth(observer)) ;
+    assertEquals(3, observable.getNumberOfDroppedData(observer)) ;
+
+    observer.release();
+    observable.drain();
+
+    assertEquals(Arrays.asList(1, 5), observer.getReceivedValues()) ;
+    observable.shutdown();
+  }
+
+  private static void publish(Observable<IntegerObservedData> observable, int value) {
+    observable.setChanged();
+    observable.notifyObservers(new IntegerObservedData(value));
+  }
+
+  private static void waitUntilBlocked(Thread thread) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 10000 ;
+    while (thread.getState() != Thread.State.TIMED_WAITING) {
+      if (System.currentTimeMillis() > deadline) {
+        throw new AssertionError("The thread has not blocked") ;
+      }
+      Thread.sleep(1);
+    }
+  }
+}
@@ -0,0 +1,89 @@
+package org.uma.jmetalsp.observer.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetalsp.observer.Observable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Unit tests for class CoalescingObservable
+ */
+public class CoalescingObservableTest {
+
+  @Test(expected = JMetalException.class)
+  public void shouldConstructorFailIfTheKeyFunctionIsNull() {
+    new CoalescingObservable<IntegerObservedData>(null) ;
+  }
+
+  @Test
+  public void shouldDeliverAllTheDataIfTheObserverKeepsUp() throws InterruptedException {
+    CoalescingObservable<IntegerObservedData> observable = new CoalescingObservable<>() ;
+    RecordingObserver observer = new RecordingObserver() ;
+    observable.register(observer);
+
+    List<Integer> expectedValues = new ArrayList<>() ;
+    for (int i = 0; i < 100; i++) {
+      publish(observable, i) ;
+      observable.drain();
+      expectedValues.add(i) ;
+    }
+
+    assertEquals(expectedValues, observer.getReceivedValues()) ;
+    assertEquals(0, observable.getNumberOfCoalescedData(observer)) ;
+    observable.shutdown();
+  }
+
+  @Test
+  public void shouldDeliverOnlyTheLatestDataIfAllTheDataShareTheSameKey() throws InterruptedException {
+    CoalescingObservable<IntegerObservedData> observable = new CoalescingObservable<>() ;
+    RecordingObserver observer = new RecordingObserver(true) ;
+    observable.register(observer);
+
+    publish(observable, 1) ;
+    observer.awaitFirstUpdate();
+    for (int i = 2; i <= 6; i++) {
+      publish(observable, i) ;
+    }
+    assertEquals(1, observable.getNumberOfPendingData(observer)) ;
+    assertEquals(4, observable.getNumberOfCoalescedData(observer)) ;
+
+    observer.release();
+    observable.drain();
+
+    assertEquals(Arrays.asList(1, 6), observer.getReceivedValues()) ;
+    assertEquals(0, observable.getNumberOfPendingData(observer)) ;
+    observable.shutdown();
+  }
+
+  @Test
+  public void shouldDeliverTheLatestDataOfEachKeyInTheOrderOfTheirFirstArrival() throws InterruptedException {
+    CoalescingObservable<IntegerObservedData> observable =
+            new CoalescingObservable<>(data -> data.getData() % 2) ;
+    RecordingObserver observer = new RecordingObserver(true) ;
+    observable.register(observer);
+
+    publish(observable, 1) ;
+    observer.awaitFirstUpdate();
+    for (int i = 2; i <= 6; i++) {
+      publish(observable, i) ;
+    }
+    assertEquals(2, observable.getNumberOfPendingData(observer)) ;
+    assertEquals(3, observable.getNumberOfCoalescedData(observer)) ;
+
+    observer.release();
+    observable.drain();
+
+    assertEquals(Arrays.asList(1, 6, 5), observer.getReceivedValues()) ;
+    observable.shutdown();
+  }
+
+  private static void publish(Observable<IntegerObservedData> observable, int value) {
+    observable.setChanged();
+    observable.notifyObservers(new IntegerObservedData(value));
+  }
+}
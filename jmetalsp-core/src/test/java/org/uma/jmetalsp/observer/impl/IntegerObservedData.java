@@ -0,0 +1,29 @@
+package org.uma.jmetalsp.observer.impl;
+
+import org.uma.jmetalsp.ObservedData;
+
+/**
+ * Observed data wrapping an integer, used to check the order and the number of the delivered data
+ */
+class IntegerObservedData implements ObservedData<Integer> {
+  private final int value ;
+
+  IntegerObservedData(int value) {
+    this.value = value ;
+  }
+
+  @Override
+  public Integer getData() {
+    return value ;
+  }
+
+  @Override
+  public String toJson() {
+    return String.valueOf(value) ;
+  }
+
+  @Override
+  public ObservedData fromJson(String jsonString) {
+    return new IntegerObservedData(Integer.parseInt(jsonString)) ;
+  }
+}
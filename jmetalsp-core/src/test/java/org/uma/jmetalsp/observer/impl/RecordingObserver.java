@@ -0,0 +1,56 @@
+package org.uma.jmetalsp.observer.impl;
+
+import org.uma.jmetalsp.observer.Observable;
+import org.uma.jmetalsp.observer.Observer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Observer recording the values it receives. If it is created blocked, the first update waits until
+ * {@link #release()} is invoked, so the tests can fill the pending data of the observable in a known state
+ */
+class RecordingObserver implements Observer<IntegerObservedData> {
+  private final List<Integer> receivedValues ;
+  private final CountDownLatch firstUpdateStarted ;
+  private final CountDownLatch released ;
+
+  RecordingObserver(boolean blocked) {
+    this.receivedValues = new ArrayList<>() ;
+    this.firstUpdateStarted = new CountDownLatch(1) ;
+    this.released = new CountDownLatch(blocked ? 1 : 0) ;
+  }
+
+  RecordingObserver() {
+    this(false) ;
+  }
+
+  @Override
+  public void update(Observable<IntegerObservedData> observable, IntegerObservedData data) {
+    synchronized (this) {
+      receivedValues.add(data.getData()) ;
+    }
+    firstUpdateStarted.countDown();
+    try {
+      released.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  void awaitFirstUpdate() throws InterruptedException {
+    if (!firstUpdateStarted.await(10, TimeUnit.SECONDS)) {
+      throw new AssertionError("The observer has not received any data") ;
+    }
+  }
+
+  void release() {
+    released.countDown();
+  }
+
+  synchronized List<Integer> getReceivedValues() {
+    return new ArrayList<>(receivedValues) ;
+  }
+}
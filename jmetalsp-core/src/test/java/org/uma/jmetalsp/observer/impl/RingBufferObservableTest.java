@@ -0,0 +1,131 @@
+package org.uma.jmetalsp.observer.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetalsp.observer.Observable;
+import org.uma.jmetalsp.observer.Observer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for class RingBufferObservable
+ */
+public class RingBufferObservableTest {
+
+  @Test(expected = JMetalException.class)
+  public void shouldConstructorFailIfTheBufferSizeIsNotPositive() {
+    new RingBufferObservable<IntegerObservedData>(0) ;
+  }
+
+  @Test
+  public void shouldRoundTheBufferSizeUpToAPowerOfTwo() {
+    assertEquals(8, new RingBufferObservable<IntegerObservedData>(5).getBufferSize()) ;
+    assertEquals(8, new RingBufferObservable<IntegerObservedData>(8).getBufferSize()) ;
+  }
+
+  @Test
+  public void shouldDeliverAllTheDataInOrderToEveryObserver() throws InterruptedException {
+    RingBufferObservable<IntegerObservedData> observable = new RingBufferObservable<>(8, 4) ;
+    RecordingObserver firstObserver = new RecordingObserver() ;
+    RecordingObserver secondObserver = new RecordingObserver() ;
+    observable.register(firstObserver);
+    observable.register(secondObserver);
+
+    List<Integer> expectedValues = new ArrayList<>() ;
+    for (int i = 0; i < 10000; i++) {
+      publish(observable, i) ;
+      expectedValues.add(i) ;
+    }
+    observable.drain();
+
+    assertEquals(expectedValues, firstObserver.getReceivedValues()) ;
+    assertEquals(expectedValues, secondObserver.getReceivedValues()) ;
+    assertEquals(9999, observable.getCursor()) ;
+    assertEquals(0, observable.getLag(firstObserver)) ;
+    observable.shutdown();
+  }
+
+  @Test
+  public void shouldTheWriterWaitForTheSlowestObserverWhenTheBufferIsFull() throws InterruptedException {
+    RingBufferObservable<IntegerObservedData> observable = new RingBufferObservable<>(4) ;
+    RecordingObserver observer = new RecordingObserver(true) ;
+    observable.register(observer);
+
+    publish(observable, 0) ;
+    observer.awaitFirstUpdate();
+
+    Thread producer = new Thread(() -> {
+      for (int i = 1; i < 10; i++) {
+        publish(observable, i) ;
+      }
+    }) ;
+    producer.start();
+
+    long deadline = System.currentTimeMillis() + 10000 ;
+    while (observable.getCursor() < 3) {
+      assertTrue(System.currentTimeMillis() < deadline) ;
+      Thread.sleep(1);
+    }
+    Thread.sleep(50);
+    assertEquals(3, observable.getCursor()) ;
+    assertTrue(producer.isAlive()) ;
+
+    observer.release();
+    producer.join(10000);
+    assertFalse(producer.isAlive()) ;
+    observable.drain();
+
+    List<Integer> expectedValues = new ArrayList<>() ;
+    for (int i = 0; i < 10; i++) {
+      expectedValues.add(i) ;
+    }
+    assertEquals(expectedValues, observer.getReceivedValues()) ;
+    observable.shutdown();
+  }
+
+  @Test(timeout = 10000)
+  public void shouldNotWaitForAnObserverThatHasThrownAnError() throws InterruptedException {
+    RingBufferObservable<IntegerObservedData> observable = new RingBufferObservable<>(8) ;
+    Observer<IntegerObservedData> failingObserver = (source, data) -> {
+      throw new AssertionError("Failing observer") ;
+    } ;
+    RecordingObserver observer = new RecordingObserver() ;
+    observable.register(failingObserver);
+    observable.register(observer);
+
+    List<Integer> expectedValues = new ArrayList<>() ;
+    for (int i = 0; i < 100; i++) {
+      publish(observable, i) ;
+      expectedValues.add(i) ;
+    }
+    observable.drain();
+
+    assertEquals(expectedValues, observer.getReceivedValues()) ;
+    observable.shutdown();
+  }
+
+  @Test
+  public void shouldStopDeliveringTheDataToAnUnregisteredObserver() throws InterruptedException {
+    RingBufferObservable<IntegerObservedData> observable = new RingBufferObservable<>() ;
+    RecordingObserver observer = new RecordingObserver() ;
+    observable.register(observer);
+    publish(observable, 1) ;
+    observable.drain();
+
+    observable.unregister(observer);
+    publish(observable, 2) ;
+
+    assertEquals(0, observable.numberOfRegisteredObservers()) ;
+    assertEquals(1, observer.getReceivedValues().size()) ;
+  }
+
+  private static void publish(Observable<IntegerObservedData> observable, int value) {
+    observable.setChanged();
+    observable.notifyObservers(new IntegerObservedData(value));
+  }
+}
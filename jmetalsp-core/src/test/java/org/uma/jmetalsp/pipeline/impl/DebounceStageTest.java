@@ -0,0 +1,132 @@
+package org.uma.jmetalsp.pipeline.impl;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetalsp.ObservedData;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for class DebounceStage
+ */
+public class DebounceStageTest {
+  private ScheduledExecutorService scheduler ;
+  private List<Integer> receivedValues ;
+
+  @Before
+  public void setup() {
+    scheduler = Executors.newSingleThreadScheduledExecutor() ;
+    receivedValues = Collections.synchronizedList(new ArrayList<>()) ;
+  }
+
+  @After
+  public void tearDown() {
+    scheduler.shutdownNow() ;
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldConstructorFailIfTheMaximumDelayIsLowerThanTheQuietPeriod() {
+    new DebounceStage<IntegerData>(100, 50) ;
+  }
+
+  @Test
+  public void shouldNotifyOnlyTheLastDataOfABurst() throws InterruptedException {
+    DebounceStage<IntegerData> stage = createStage(50, Long.MAX_VALUE) ;
+    stage.start(scheduler);
+
+    for (int i = 1; i <= 5; i++) {
+      stage.update(null, new IntegerData(i));
+    }
+    awaitValues(1) ;
+    Thread.sleep(100);
+
+    assertEquals(Arrays.asList(5), receivedValues) ;
+  }
+
+  @Test
+  public void shouldKeepTheDataPendingUntilTheStageIsStarted() throws InterruptedException {
+    DebounceStage<IntegerData> stage = createStage(10, Long.MAX_VALUE) ;
+    stage.update(null, new IntegerData(1));
+    Thread.sleep(50);
+    assertTrue(receivedValues.isEmpty()) ;
+
+    stage.start(scheduler);
+    awaitValues(1) ;
+
+    assertEquals(Arrays.asList(1), receivedValues) ;
+  }
+
+  @Test
+  public void shouldNotifyThePendingDataWhenTheMaximumDelayExpires() throws InterruptedException {
+    DebounceStage<IntegerData> stage = createStage(100, 200) ;
+    stage.start(scheduler);
+
+    long deadline = System.currentTimeMillis() + 10000 ;
+    int value = 0 ;
+    while (receivedValues.isEmpty()) {
+      assertTrue(System.currentTimeMillis() < deadline) ;
+      stage.update(null, new IntegerData(value++));
+      Thread.sleep(10);
+    }
+
+    assertTrue(receivedValues.get(0) < value) ;
+  }
+
+  @Test
+  public void shouldStopNotifyThePendingData() {
+    DebounceStage<IntegerData> stage = createStage(10000, Long.MAX_VALUE) ;
+    stage.start(scheduler);
+    stage.update(null, new IntegerData(1));
+
+    stage.stop();
+
+    assertEquals(Arrays.asList(1), receivedValues) ;
+  }
+
+  private DebounceStage<IntegerData> createStage(long quietPeriod, long maximumDelay) {
+    DebounceStage<IntegerData> stage = new DebounceStage<>(quietPeriod, maximumDelay) ;
+    stage.to((observable, data) -> receivedValues.add(data.getData())) ;
+    return stage ;
+  }
+
+  private void awaitValues(int numberOfValues) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 10000 ;
+    while (receivedValues.size() < numberOfValues) {
+      assertTrue(System.currentTimeMillis() < deadline) ;
+      Thread.sleep(1);
+    }
+  }
+
+  private static class IntegerData implements ObservedData<Integer> {
+    private final int value ;
+
+    IntegerData(int value) {
+      this.value = value ;
+    }
+
+    @Override
+    public Integer getData() {
+      return value ;
+    }
+
+    @Override
+    public String toJson() {
+      return String.valueOf(value) ;
+    }
+
+    @Override
+    public ObservedData fromJson(String jsonString) {
+      return new IntegerData(Integer.parseInt(jsonString)) ;
+    }
+  }
+}
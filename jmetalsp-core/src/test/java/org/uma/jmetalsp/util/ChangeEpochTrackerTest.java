@@ -0,0 +1,98 @@
+package org.uma.jmetalsp.util;
+
+import org.junit.Test;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetalsp.ProblemChangeListener;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Unit tests for class ChangeEpochTracker
+ */
+public class ChangeEpochTrackerTest {
+
+  @Test
+  public void shouldTheEpochStartAtZeroAndIncrementOnEveryChange() {
+    ChangeEpochTracker tracker = new ChangeEpochTracker() ;
+    assertEquals(0, tracker.getChangeEpoch()) ;
+
+    assertEquals(1, tracker.increment()) ;
+    assertEquals(2, tracker.increment()) ;
+    assertEquals(2, tracker.getChangeEpoch()) ;
+  }
+
+  @Test
+  public void shouldNotifyTheListenersWithTheNewEpoch() {
+    ChangeEpochTracker tracker = new ChangeEpochTracker() ;
+    List<Long> notifiedEpochs = new ArrayList<>() ;
+    ProblemChangeListener listener = notifiedEpochs::add ;
+    tracker.addListener(listener);
+
+    tracker.increment() ;
+    tracker.increment() ;
+    tracker.removeListener(listener);
+    tracker.increment() ;
+
+    assertEquals(Arrays.asList(1L, 2L), notifiedEpochs) ;
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldAddListenerFailIfTheListenerIsNull() {
+    new ChangeEpochTracker().addListener(null);
+  }
+
+  @Test
+  public void shouldKeepTheEventTimesOfTheRecentChanges() {
+    ChangeEpochTracker tracker = new ChangeEpochTracker() ;
+    long firstEpoch = tracker.increment(1000) ;
+    long secondEpoch = tracker.increment() ;
+
+    assertEquals(1000, tracker.getEventTime(firstEpoch)) ;
+    assertEquals(0, tracker.getEventTime(secondEpoch)) ;
+    assertEquals(0, tracker.getEventTime(0)) ;
+    assertEquals(0, tracker.getEventTime(secondEpoch + 1)) ;
+  }
+
+  @Test
+  public void shouldForgetTheEventTimesOfTheChangesOutOfTheHistory() {
+    ChangeEpochTracker tracker = new ChangeEpochTracker() ;
+    long firstEpoch = tracker.increment(1000) ;
+    for (int i = 0; i < ChangeEpochTracker.EVENT_TIME_HISTORY_SIZE; i++) {
+      tracker.increment(2000) ;
+    }
+
+    assertEquals(0, tracker.getEventTime(firstEpoch)) ;
+    assertEquals(2000, tracker.getEventTime(firstEpoch + 1)) ;
+  }
+
+  @Test
+  public void shouldKeepTheEpochButNotTheListenersWhenItIsDeserialized() throws IOException, ClassNotFoundException {
+    ChangeEpochTracker tracker = new ChangeEpochTracker() ;
+    List<Long> notifiedEpochs = new ArrayList<>() ;
+    tracker.addListener(notifiedEpochs::add);
+    tracker.increment(1000) ;
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream() ;
+    try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+      output.writeObject(tracker);
+    }
+    ChangeEpochTracker copy ;
+    try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      copy = (ChangeEpochTracker) input.readObject() ;
+    }
+
+    assertEquals(1, copy.getChangeEpoch()) ;
+    assertEquals(1000, copy.getEventTime(1)) ;
+    assertEquals(2, copy.increment()) ;
+    assertEquals(1, notifiedEpochs.size()) ;
+  }
+}
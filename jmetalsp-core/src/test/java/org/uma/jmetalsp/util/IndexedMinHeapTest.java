@@ -0,0 +1,127 @@
+package org.uma.jmetalsp.util;
+
+import org.junit.Test;
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for class IndexedMinHeap
+ */
+public class IndexedMinHeapTest {
+
+  @Test
+  public void shouldAnEmptyHeapReturnMinusOne() {
+    IndexedMinHeap heap = new IndexedMinHeap(4) ;
+
+    assertTrue(heap.isEmpty()) ;
+    assertEquals(-1, heap.peek()) ;
+    assertEquals(-1, heap.poll()) ;
+  }
+
+  @Test
+  public void shouldPollTheElementsByPriorityBreakingTiesByTheElement() {
+    IndexedMinHeap heap = new IndexedMinHeap(5) ;
+    heap.add(3, 2.0);
+    heap.add(0, 5.0);
+    heap.add(4, 1.0);
+    heap.add(1, 2.0);
+    heap.add(2, 0.5);
+
+    assertEquals(5, heap.size()) ;
+    assertEquals(2, heap.poll()) ;
+    assertEquals(4, heap.poll()) ;
+    assertEquals(1, heap.poll()) ;
+    assertEquals(3, heap.poll()) ;
+    assertEquals(0, heap.poll()) ;
+    assertTrue(heap.isEmpty()) ;
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldAddFailIfTheElementIsAlreadyInTheHeap() {
+    IndexedMinHeap heap = new IndexedMinHeap(2) ;
+    heap.add(0, 1.0);
+    heap.add(0, 2.0);
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldUpdateFailIfTheElementIsNotInTheHeap() {
+    new IndexedMinHeap(2).update(1, 1.0);
+  }
+
+  @Test
+  public void shouldRemoveReturnFalseIfTheElementIsNotInTheHeap() {
+    IndexedMinHeap heap = new IndexedMinHeap(2) ;
+    heap.add(0, 1.0);
+
+    assertFalse(heap.remove(1)) ;
+    assertTrue(heap.remove(0)) ;
+    assertFalse(heap.contains(0)) ;
+  }
+
+  @Test
+  public void shouldBehaveAsALinearScanUnderRandomOperations() {
+    int capacity = 64 ;
+    Random random = new Random(1) ;
+    IndexedMinHeap heap = new IndexedMinHeap(capacity) ;
+    double[] priorities = new double[capacity] ;
+    boolean[] contained = new boolean[capacity] ;
+
+    for (int step = 0; step < 20000; step++) {
+      int index = random.nextInt(capacity) ;
+      double priority = random.nextInt(20) ;
+      switch (random.nextInt(4)) {
+        case 0:
+          if (!contained[index]) {
+            heap.add(index, priority);
+            contained[index] = true ;
+            priorities[index] = priority ;
+          }
+          break ;
+        case 1:
+          if (contained[index]) {
+            heap.update(index, priority);
+            priorities[index] = priority ;
+          }
+          break ;
+        case 2:
+          assertEquals(contained[index], heap.remove(index)) ;
+          contained[index] = false ;
+          break ;
+        default:
+          int expected = lowest(priorities, contained) ;
+          assertEquals(expected, heap.poll()) ;
+          if (expected >= 0) {
+            contained[expected] = false ;
+          }
+      }
+
+      assertEquals(lowest(priorities, contained), heap.peek()) ;
+      assertEquals(count(contained), heap.size()) ;
+    }
+  }
+
+  private static int lowest(double[] priorities, boolean[] contained) {
+    int lowest = -1 ;
+    for (int i = 0; i < priorities.length; i++) {
+      if (contained[i] && ((lowest < 0) || (priorities[i] < priorities[lowest]))) {
+        lowest = i ;
+      }
+    }
+    return lowest ;
+  }
+
+  private static int count(boolean[] contained) {
+    int count = 0 ;
+    for (boolean value : contained) {
+      if (value) {
+        count++ ;
+      }
+    }
+    return count ;
+  }
+}
@@ -0,0 +1,143 @@
+package org.uma.jmetalsp.util.autotuning;
+
+import org.junit.Test;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetalsp.DynamicProblem;
+import org.uma.jmetalsp.ObservedData;
+import org.uma.jmetalsp.observer.Observable;
+import org.uma.jmetalsp.util.restartstrategy.RestartRateLimiter;
+import org.uma.jmetalsp.util.restartstrategy.RestartStrategy;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Unit tests for class CadenceController
+ */
+public class CadenceControllerTest {
+
+  @Test(expected = JMetalException.class)
+  public void shouldSetPopulationSizeRangeFailIfTheRangeHasNoEvenSize() {
+    new CadenceController(1000).setPopulationSizeRange(5, 5, 1) ;
+  }
+
+  @Test
+  public void shouldNotExceedAnOddMaximumPopulationSize() throws InterruptedException {
+    CadenceController controller = new CadenceController(1000).setPopulationSizeRange(3, 5, 1) ;
+    FakeAlgorithm algorithm = new FakeAlgorithm(100) ;
+
+    publishAFrontAfterManyEvaluations(controller, algorithm) ;
+
+    assertEquals(4, algorithm.getPopulationSize()) ;
+    assertEquals(0, algorithm.getEvaluationBudget() % 4) ;
+  }
+
+  @Test
+  public void shouldNotGoBelowAnOddMinimumPopulationSize() throws InterruptedException {
+    CadenceController controller = new CadenceController(1).setPopulationSizeRange(7, 20, 1000000) ;
+    FakeAlgorithm algorithm = new FakeAlgorithm(100) ;
+
+    publishAFrontAfterManyEvaluations(controller, algorithm) ;
+
+    assertEquals(8, algorithm.getPopulationSize()) ;
+  }
+
+  /**
+   * Publishes two fronts with a million evaluations between them, so the estimated cost of an evaluation is tiny
+   */
+  private static void publishAFrontAfterManyEvaluations(CadenceController controller, FakeAlgorithm algorithm)
+          throws InterruptedException {
+    controller.frontPublished(algorithm);
+    Thread.sleep(1);
+    algorithm.computedEvaluations = 1000000 ;
+    controller.frontPublished(algorithm);
+  }
+
+  private static class FakeAlgorithm implements TunableAlgorithm<Void, ObservedData<?>> {
+    private int populationSize ;
+    private int evaluationBudget ;
+    private long computedEvaluations ;
+
+    FakeAlgorithm(int populationSize) {
+      this.populationSize = populationSize ;
+    }
+
+    @Override
+    public int getEvaluationBudget() {
+      return evaluationBudget ;
+    }
+
+    @Override
+    public void setEvaluationBudget(int evaluationBudget) {
+      this.evaluationBudget = evaluationBudget ;
+    }
+
+    @Override
+    public long getNumberOfComputedEvaluations() {
+      return computedEvaluations ;
+    }
+
+    @Override
+    public int getPopulationSize() {
+      return populationSize ;
+    }
+
+    @Override
+    public boolean isPopulationSizeTunable() {
+      return true ;
+    }
+
+    @Override
+    public void setPopulationSize(int populationSize) {
+      this.populationSize = populationSize ;
+    }
+
+    @Override
+    public void setCadenceController(CadenceController cadenceController) {
+    }
+
+    @Override
+    public DynamicProblem<?, ?> getDynamicProblem() {
+      return null ;
+    }
+
+    @Override
+    public void restart() {
+    }
+
+    @Override
+    public void setRestartStrategy(RestartStrategy<?> restartStrategy) {
+    }
+
+    @Override
+    public void setRestartRateLimiter(RestartRateLimiter restartRateLimiter) {
+    }
+
+    @Override
+    public Observable<ObservedData<?>> getObservable() {
+      return null ;
+    }
+
+    @Override
+    public void stop() {
+    }
+
+    @Override
+    public void run() {
+    }
+
+    @Override
+    public Void getResult() {
+      return null ;
+    }
+
+    @Override
+    public String getName() {
+      return "FakeAlgorithm" ;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Algorithm recording the values set by the controller" ;
+    }
+  }
+}
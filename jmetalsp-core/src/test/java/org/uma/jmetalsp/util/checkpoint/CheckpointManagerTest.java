@@ -0,0 +1,182 @@
+package org.uma.jmetalsp.util.checkpoint;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.uma.jmetalsp.util.checkpoint.SolutionListCodecTest.MixedProblem;
+import org.uma.jmetalsp.util.checkpoint.SolutionListCodecTest.MixedSolution;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for class CheckpointManager
+ */
+public class CheckpointManagerTest {
+  private Path directory ;
+  private Path checkpointFile ;
+
+  @Before
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("CheckpointManagerTest") ;
+    checkpointFile = directory.resolve("checkpoint") ;
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(checkpointFile) ;
+    Files.deleteIfExists(checkpointFile.resolveSibling("checkpoint.tmp")) ;
+    Files.delete(directory);
+  }
+
+  @Test
+  public void shouldRestoreReturnFalseIfThereIsNoCheckpoint() throws IOException {
+    assertFalse(new CheckpointManager(checkpointFile).register("algorithm", new FakeAlgorithm()).restore()) ;
+  }
+
+  @Test
+  public void shouldRestoreTheStateThatHasBeenCheckpointed() throws IOException {
+    FakeAlgorithm algorithm = new FakeAlgorithm() ;
+    algorithm.iterations = 42 ;
+    for (int i = 0; i < 4; i++) {
+      algorithm.population.add(createSolution(i)) ;
+    }
+    Counter counter = new Counter(7) ;
+    new CheckpointManager(checkpointFile)
+            .register("algorithm", algorithm)
+            .register("counter", counter)
+            .checkpoint();
+
+    FakeAlgorithm restoredAlgorithm = new FakeAlgorithm() ;
+    Counter restoredCounter = new Counter(0) ;
+    assertTrue(new CheckpointManager(checkpointFile)
+            .register("counter", restoredCounter)
+            .register("algorithm", restoredAlgorithm)
+            .restore()) ;
+
+    assertEquals(42, restoredAlgorithm.iterations) ;
+    assertEquals(4, restoredAlgorithm.population.size()) ;
+    for (int i = 0; i < 4; i++) {
+      assertEquals(algorithm.population.get(i).getVariableValue(0),
+              restoredAlgorithm.population.get(i).getVariableValue(0)) ;
+      assertEquals(algorithm.population.get(i).getVariableValue(1),
+              restoredAlgorithm.population.get(i).getVariableValue(1)) ;
+      assertEquals(algorithm.population.get(i).getObjective(0),
+              restoredAlgorithm.population.get(i).getObjective(0), 0.0) ;
+    }
+    assertEquals(7, restoredCounter.value) ;
+  }
+
+  @Test
+  public void shouldRestoreIgnoreTheSectionsOfComponentsThatAreNotRegistered() throws IOException {
+    new CheckpointManager(checkpointFile)
+            .register("first", new Counter(1))
+            .register("second", new Counter(2))
+            .checkpoint();
+
+    Counter second = new Counter(0) ;
+    assertTrue(new CheckpointManager(checkpointFile).register("second", second).restore()) ;
+
+    assertEquals(2, second.value) ;
+  }
+
+  @Test
+  public void shouldCheckpointKeepThePreviousStateOfAComponentThatFails() throws IOException {
+    Counter counter = new Counter(1) ;
+    CheckpointManager manager = new CheckpointManager(checkpointFile).register("counter", counter) ;
+    manager.checkpoint();
+
+    counter.value = 2 ;
+    counter.failing = true ;
+    manager.checkpoint();
+
+    Counter restoredCounter = new Counter(0) ;
+    new CheckpointManager(checkpointFile).register("counter", restoredCounter).restore() ;
+    assertEquals(1, restoredCounter.value) ;
+  }
+
+  @Test
+  public void shouldStopWriteALastCheckpoint() throws IOException {
+    Counter counter = new Counter(1) ;
+    CheckpointManager manager = new CheckpointManager(checkpointFile).register("counter", counter) ;
+    manager.start(60000);
+    counter.value = 3 ;
+    manager.stop();
+
+    Counter restoredCounter = new Counter(0) ;
+    new CheckpointManager(checkpointFile).register("counter", restoredCounter).restore() ;
+    assertEquals(3, restoredCounter.value) ;
+  }
+
+  @Test(expected = IOException.class)
+  public void shouldRestoreFailIfTheFileIsNotACheckpoint() throws IOException {
+    try (DataOutputStream output = new DataOutputStream(Files.newOutputStream(checkpointFile))) {
+      output.writeInt(0x12345678);
+      output.writeInt(1);
+    }
+
+    new CheckpointManager(checkpointFile).register("counter", new Counter(0)).restore() ;
+  }
+
+  private static MixedSolution createSolution(int index) {
+    MixedSolution solution = new MixedSolution(2, 1) ;
+    solution.setVariableValue(0, index / 3.0);
+    solution.setVariableValue(1, index);
+    solution.setObjective(0, index * index);
+
+    return solution ;
+  }
+
+  /**
+   * Algorithm whose state is a population and a number of iterations
+   */
+  private static class FakeAlgorithm implements Checkpointable {
+    private final MixedProblem problem = new MixedProblem(2, 1) ;
+    private List<MixedSolution> population = new ArrayList<>() ;
+    private int iterations ;
+
+    @Override
+    public void writeCheckpoint(DataOutput output) throws IOException {
+      output.writeInt(iterations);
+      SolutionListCodec.writeSolutionList(population, output);
+    }
+
+    @Override
+    public void readCheckpoint(DataInput input) throws IOException {
+      iterations = input.readInt() ;
+      population = SolutionListCodec.readSolutionList(input, problem) ;
+    }
+  }
+
+  private static class Counter implements Checkpointable {
+    private long value ;
+    private boolean failing ;
+
+    Counter(long value) {
+      this.value = value ;
+    }
+
+    @Override
+    public void writeCheckpoint(DataOutput output) throws IOException {
+      if (failing) {
+        throw new IOException("The state is not available") ;
+      }
+      output.writeLong(value);
+    }
+
+    @Override
+    public void readCheckpoint(DataInput input) throws IOException {
+      value = input.readLong() ;
+    }
+  }
+}
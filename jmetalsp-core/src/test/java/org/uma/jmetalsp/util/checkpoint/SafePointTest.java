@@ -0,0 +1,78 @@
+package org.uma.jmetalsp.util.checkpoint;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Unit tests for class SafePoint
+ */
+public class SafePointTest {
+
+  @Test
+  public void shouldCaptureTheStateWrittenByTheOwnerThreadAtTheNextSafePoint() throws Exception {
+    SafePoint safePoint = new SafePoint() ;
+    AtomicInteger generation = new AtomicInteger() ;
+    AtomicBoolean running = new AtomicBoolean(true) ;
+    Thread owner = new Thread(() -> {
+      while (running.get()) {
+        int current = generation.incrementAndGet() ;
+        safePoint.reached(output -> {
+          output.writeInt(current);
+          output.writeInt(-current);
+        });
+      }
+    }) ;
+    owner.start();
+
+    try {
+      DataInputStream input = new DataInputStream(new ByteArrayInputStream(safePoint.capture(output -> {
+        throw new IOException("The state must be written by the owner thread") ;
+      }, 10000))) ;
+      int capturedGeneration = input.readInt() ;
+      assertEquals(-capturedGeneration, input.readInt()) ;
+    } finally {
+      running.set(false);
+      owner.join();
+    }
+  }
+
+  @Test
+  public void shouldCaptureWriteTheStateIfTheOwnerThreadHasFinished() throws Exception {
+    SafePoint safePoint = new SafePoint() ;
+    Thread owner = new Thread(() -> safePoint.reached(output -> output.writeInt(1))) ;
+    owner.start();
+    owner.join();
+
+    byte[] state = safePoint.capture(output -> output.writeInt(2), 10000) ;
+
+    assertEquals(2, new DataInputStream(new ByteArrayInputStream(state)).readInt()) ;
+  }
+
+  @Test(expected = IOException.class)
+  public void shouldCaptureFailIfTheSafePointIsNotReachedInTime() throws IOException {
+    new SafePoint().capture(output -> output.writeInt(1), 50) ;
+  }
+
+  @Test
+  public void shouldNotKeepARequestThatHasTimedOut() throws IOException {
+    SafePoint safePoint = new SafePoint() ;
+    try {
+      safePoint.capture(output -> output.writeInt(1), 20) ;
+    } catch (IOException e) {
+      // The safe point has not been reached
+    }
+
+    AtomicBoolean written = new AtomicBoolean() ;
+    safePoint.reached(output -> written.set(true));
+
+    assertFalse(written.get()) ;
+  }
+}
@@ -0,0 +1,211 @@
+package org.uma.jmetalsp.util.checkpoint;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for class SolutionListCodec
+ */
+public class SolutionListCodecTest {
+
+  @Test
+  public void shouldReadTheSolutionListThatHasBeenWritten() throws IOException {
+    List<MixedSolution> solutionList = new ArrayList<>() ;
+    for (int i = 0; i < 3; i++) {
+      MixedSolution solution = new MixedSolution(3, 2) ;
+      solution.setVariableValue(0, 0.5 + i);
+      solution.setVariableValue(1, i);
+      solution.setVariableValue(2, Arrays.asList("a", "b" + i));
+      solution.setObjective(0, 10.0 * i);
+      solution.setObjective(1, -1.0 / (i + 1));
+      solutionList.add(solution) ;
+    }
+
+    List<MixedSolution> readSolutionList = readSolutionList(write(solutionList), new MixedProblem(3, 2)) ;
+
+    assertEquals(solutionList.size(), readSolutionList.size()) ;
+    for (int i = 0; i < solutionList.size(); i++) {
+      for (int j = 0; j < 3; j++) {
+        assertEquals(solutionList.get(i).getVariableValue(j), readSolutionList.get(i).getVariableValue(j)) ;
+      }
+      assertEquals(solutionList.get(i).getObjective(0), readSolutionList.get(i).getObjective(0), 0.0) ;
+      assertEquals(solutionList.get(i).getObjective(1), readSolutionList.get(i).getObjective(1), 0.0) ;
+    }
+  }
+
+  @Test
+  public void shouldReadAnEmptySolutionList() throws IOException {
+    assertTrue(readSolutionList(write(new ArrayList<>()), new MixedProblem(1, 1)).isEmpty()) ;
+  }
+
+  @Test
+  public void shouldIgnoreTheObjectivesThatTheProblemDoesNotHave() throws IOException {
+    MixedSolution solution = new MixedSolution(1, 3) ;
+    solution.setVariableValue(0, 1.0);
+    solution.setObjective(0, 1.0);
+    solution.setObjective(1, 2.0);
+    solution.setObjective(2, 3.0);
+
+    List<MixedSolution> readSolutionList = readSolutionList(write(Arrays.asList(solution)), new MixedProblem(1, 2)) ;
+
+    assertEquals(1.0, readSolutionList.get(0).getObjective(0), 0.0) ;
+    assertEquals(2.0, readSolutionList.get(0).getObjective(1), 0.0) ;
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldReadSolutionListFailIfTheNumberOfVariablesIsDifferent() throws IOException {
+    MixedSolution solution = new MixedSolution(2, 1) ;
+    solution.setVariableValue(0, 1.0);
+    solution.setVariableValue(1, 2.0);
+
+    readSolutionList(write(Arrays.asList(solution)), new MixedProblem(3, 1)) ;
+  }
+
+  @Test(expected = IOException.class)
+  public void shouldReadSolutionListFailIfTheVariableTypeIsUnknown() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream() ;
+    DataOutputStream output = new DataOutputStream(bytes) ;
+    output.writeInt(1);
+    output.writeInt(1);
+    output.writeByte(7);
+
+    readSolutionList(bytes.toByteArray(), new MixedProblem(1, 1)) ;
+  }
+
+  private static byte[] write(List<MixedSolution> solutionList) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream() ;
+    try (DataOutputStream output = new DataOutputStream(bytes)) {
+      SolutionListCodec.writeSolutionList(solutionList, output);
+    }
+
+    return bytes.toByteArray() ;
+  }
+
+  private static List<MixedSolution> readSolutionList(byte[] bytes, MixedProblem problem) throws IOException {
+    return SolutionListCodec.readSolutionList(new DataInputStream(new ByteArrayInputStream(bytes)), problem) ;
+  }
+
+  /**
+   * Solution whose variables can be of any type
+   */
+  static class MixedSolution implements Solution<Object> {
+    private final Object[] variables ;
+    private final double[] objectives ;
+    private final Map<Object, Object> attributes ;
+
+    MixedSolution(int numberOfVariables, int numberOfObjectives) {
+      variables = new Object[numberOfVariables] ;
+      objectives = new double[numberOfObjectives] ;
+      attributes = new HashMap<>() ;
+    }
+
+    @Override
+    public void setObjective(int index, double value) {
+      objectives[index] = value ;
+    }
+
+    @Override
+    public double getObjective(int index) {
+      return objectives[index] ;
+    }
+
+    @Override
+    public Object getVariableValue(int index) {
+      return variables[index] ;
+    }
+
+    @Override
+    public void setVariableValue(int index, Object value) {
+      variables[index] = value ;
+    }
+
+    @Override
+    public String getVariableValueString(int index) {
+      return String.valueOf(variables[index]) ;
+    }
+
+    @Override
+    public int getNumberOfVariables() {
+      return variables.length ;
+    }
+
+    @Override
+    public int getNumberOfObjectives() {
+      return objectives.length ;
+    }
+
+    @Override
+    public Solution<Object> copy() {
+      MixedSolution copy = new MixedSolution(variables.length, objectives.length) ;
+      System.arraycopy(variables, 0, copy.variables, 0, variables.length);
+      System.arraycopy(objectives, 0, copy.objectives, 0, objectives.length);
+
+      return copy ;
+    }
+
+    @Override
+    public void setAttribute(Object id, Object value) {
+      attributes.put(id, value) ;
+    }
+
+    @Override
+    public Object getAttribute(Object id) {
+      return attributes.get(id) ;
+    }
+  }
+
+  static class MixedProblem implements Problem<MixedSolution> {
+    private final int numberOfVariables ;
+    private final int numberOfObjectives ;
+
+    MixedProblem(int numberOfVariables, int numberOfObjectives) {
+      this.numberOfVariables = numberOfVariables ;
+      this.numberOfObjectives = numberOfObjectives ;
+    }
+
+    @Override
+    public int getNumberOfVariables() {
+      return numberOfVariables ;
+    }
+
+    @Override
+    public int getNumberOfObjectives() {
+      return numberOfObjectives ;
+    }
+
+    @Override
+    public int getNumberOfConstraints() {
+      return 0 ;
+    }
+
+    @Override
+    public String getName() {
+      return "MixedProblem" ;
+    }
+
+    @Override
+    public void evaluate(MixedSolution solution) {
+    }
+
+    @Override
+    public MixedSolution createSolution() {
+      return new MixedSolution(numberOfVariables, numberOfObjectives) ;
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package org.uma.jmetalsp.util.crowding;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Unit tests for class CrowdingDistanceTruncation. The truncation is compared with an iterative pruning that
+ * recomputes the crowding distances of the remaining points from scratch after each removal
+ */
+public class CrowdingDistanceTruncationTest {
+
+  @Test
+  public void shouldRemoveAllThePointsIfThereAreNotEnough() {
+    BitSet removed = new CrowdingDistanceTruncation().selectPointsToRemove(new double[][] {{0, 1}, {1, 0}}, 3) ;
+
+    assertEquals(2, removed.cardinality()) ;
+  }
+
+  @Test
+  public void shouldRemoveNoPointIfTheNumberOfPointsToRemoveIsNotPositive() {
+    BitSet removed = new CrowdingDistanceTruncation().selectPointsToRemove(new double[][] {{0, 1}, {1, 0}}, 0) ;
+
+    assertEquals(0, removed.cardinality()) ;
+  }
+
+  @Test
+  public void shouldKeepTheExtremePoints() {
+    double[][] points = {{0.0, 1.0}, {0.1, 0.9}, {0.5, 0.5}, {0.55, 0.45}, {1.0, 0.0}} ;
+
+    BitSet removed = new CrowdingDistanceTruncation().selectPointsToRemove(points, 2) ;
+
+    assertEquals(2, removed.cardinality()) ;
+    assertFalse(removed.get(0)) ;
+    assertFalse(removed.get(4)) ;
+  }
+
+  @Test
+  public void shouldMatchTheIterativePruningWithTwoObjectives() {
+    checkAgainstIterativePruning(2, 5) ;
+  }
+
+  @Test
+  public void shouldMatchTheIterativePruningWithThreeObjectives() {
+    checkAgainstIterativePruning(3, 6) ;
+  }
+
+  private void checkAgainstIterativePruning(int numberOfObjectives, long seed) {
+    Random random = new Random(seed) ;
+    for (int run = 0; run < 20; run++) {
+      int numberOfPoints = 10 + random.nextInt(40) ;
+      double[][] points = new double[numberOfPoints][numberOfObjectives] ;
+      for (double[] point : points) {
+        for (int j = 0; j < numberOfObjectives; j++) {
+          point[j] = random.nextDouble() ;
+        }
+      }
+      // The extreme points are kept, so the ranges of the objectives do not change while pruning
+      int numberOfPointsToRemove = 1 + random.nextInt(numberOfPoints - 2 * numberOfObjectives) ;
+
+      BitSet removed = new CrowdingDistanceTruncation().selectPointsToRemove(points, numberOfPointsToRemove) ;
+
+      assertEquals(iterativePruning(points, numberOfPointsToRemove), removed) ;
+    }
+  }
+
+  private static BitSet iterativePruning(double[][] points, int numberOfPointsToRemove) {
+    List<Integer> remaining = new ArrayList<>() ;
+    for (int i = 0; i < points.length; i++) {
+      remaining.add(i) ;
+    }
+
+    BitSet removed = new BitSet() ;
+    for (int k = 0; k < numberOfPointsToRemove; k++) {
+      double[] distances = crowdingDistances(points, remaining) ;
+      int lowest = -1 ;
+      for (int i : remaining) {
+        if ((lowest < 0) || (distances[i] < distances[lowest])) {
+          lowest = i ;
+        }
+      }
+      remaining.remove(Integer.valueOf(lowest)) ;
+      removed.set(lowest);
+    }
+
+    return removed ;
+  }
+
+  private static double[] crowdingDistances(double[][] points, List<Integer> remaining) {
+    double[] distances = new double[points.length] ;
+    for (int objective = 0; objective < points[0].length; objective++) {
+      final int sortingObjective = objective ;
+      List<Integer> order = new ArrayList<>(remaining) ;
+      order.sort(Comparator.comparingDouble(i -> points[i][sortingObjective]));
+
+      double range = points[order.get(order.size() - 1)][objective] - points[order.get(0)][objective] ;
+      distances[order.get(0)] = Double.POSITIVE_INFINITY ;
+      distances[order.get(order.size() - 1)] = Double.POSITIVE_INFINITY ;
+      for (int i = 1; i < order.size() - 1; i++) {
+        distances[order.get(i)] +=
+                (points[order.get(i + 1)][objective] - points[order.get(i - 1)][objective]) / range ;
+      }
+    }
+
+    return distances ;
+  }
+}
@@ -0,0 +1,207 @@
+package org.uma.jmetalsp.util.hypervolume;
+
+import org.junit.Test;
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for class HypervolumeContributionEngine. The contributions and the greedy truncation are compared
+ * with a brute-force hypervolume computed over the grid defined by the coordinates of the points
+ */
+public class HypervolumeContributionEngineTest {
+  private static final double EPSILON = 1e-9 ;
+
+  @Test(expected = JMetalException.class)
+  public void shouldSelectPointsToRemoveFailIfTheNumberOfObjectivesIsNotSupported() {
+    new HypervolumeContributionEngine().selectPointsToRemove(new double[][] {{1, 2, 3}, {3, 2, 1}}, 1) ;
+  }
+
+  @Test
+  public void shouldSupportOnlyTwoObjectives() {
+    assertTrue(HypervolumeContributionEngine.isSupported(2)) ;
+    assertFalse(HypervolumeContributionEngine.isSupported(3)) ;
+  }
+
+  @Test
+  public void shouldComputeTheContributionsOfABiObjectiveFront() {
+    checkContributions(2, 20, 1) ;
+  }
+
+  @Test
+  public void shouldTruncateABiObjectiveFrontGreedily() {
+    Random random = new Random(3) ;
+    for (int run = 0; run < 10; run++) {
+      double[][] points = randomFront(2, 25, random) ;
+      checkTruncation(points, 1 + random.nextInt(points.length - 1)) ;
+    }
+  }
+
+  @Test
+  public void shouldRemoveTheDominatedPointsFirst() {
+    double[][] points = {{0.0, 1.0}, {0.5, 0.5}, {1.0, 0.0}, {0.6, 0.6}, {0.8, 0.9}, {0.5, 0.5}} ;
+
+    BitSet removed = new HypervolumeContributionEngine().selectPointsToRemove(points, 3) ;
+
+    assertEquals(3, removed.cardinality()) ;
+    assertTrue(removed.get(3)) ;
+    assertTrue(removed.get(4)) ;
+    assertTrue(removed.get(5)) ;
+  }
+
+  @Test
+  public void shouldPeelOffTheLastFrontWhenThereAreMoreDominatedPointsThanPointsToRemove() {
+    double[][] points = {{0.0, 0.5}, {0.5, 0.0}, {0.6, 0.7}, {0.7, 0.6}, {0.9, 0.9}} ;
+
+    BitSet removed = new HypervolumeContributionEngine().selectPointsToRemove(points, 1) ;
+
+    assertEquals(1, removed.cardinality()) ;
+    assertTrue(removed.get(4)) ;
+  }
+
+  private void checkContributions(int numberOfObjectives, int numberOfPoints, long seed) {
+    HypervolumeContributionEngine engine = new HypervolumeContributionEngine() ;
+    double[][] front = randomFront(numberOfObjectives, numberOfPoints, new Random(seed)) ;
+    double[] reference = referencePoint(numberOfObjectives) ;
+
+    double[] contributions = engine.computeContributions(front) ;
+
+    List<double[]> allPoints = Arrays.asList(front) ;
+    double hypervolume = hypervolume(allPoints, reference) ;
+    for (int i = 0; i < front.length; i++) {
+      List<double[]> otherPoints = new ArrayList<>(allPoints) ;
+      otherPoints.remove(i) ;
+      assertEquals(hypervolume - hypervolume(otherPoints, reference), contributions[i], EPSILON) ;
+    }
+  }
+
+  private void checkTruncation(double[][] points, int numberOfPointsToRemove) {
+    BitSet removed = new HypervolumeContributionEngine().selectPointsToRemove(points, numberOfPointsToRemove) ;
+
+    double[][] normalizedPoints = normalize(points) ;
+    double[] reference = referencePoint(points[0].length) ;
+    List<Integer> remaining = new ArrayList<>() ;
+    for (int i = 0; i < points.length; i++) {
+      remaining.add(i) ;
+    }
+    BitSet expected = new BitSet() ;
+    for (int k = 0; k < numberOfPointsToRemove; k++) {
+      double hypervolume = hypervolume(select(normalizedPoints, remaining, -1), reference) ;
+      int lowest = -1 ;
+      double lowestContribution = Double.POSITIVE_INFINITY ;
+      for (int i : remaining) {
+        double contribution = hypervolume - hypervolume(select(normalizedPoints, remaining, i), reference) ;
+        if (contribution < lowestContribution) {
+          lowestContribution = contribution ;
+          lowest = i ;
+        }
+      }
+      remaining.remove(Integer.valueOf(lowest)) ;
+      expected.set(lowest);
+    }
+
+    assertEquals(expected, removed) ;
+  }
+
+  /**
+   * Points on the positive part of the unit sphere, which are non-dominated
+   */
+  private static double[][] randomFront(int numberOfObjectives, int numberOfPoints, Random random) {
+    double[][] front = new double[numberOfPoints][numberOfObjectives] ;
+    for (double[] point : front) {
+      double norm = 0 ;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        point[j] = 0.05 + random.nextDouble() ;
+        norm += point[j] * point[j] ;
+      }
+      for (int j = 0; j < numberOfObjectives; j++) {
+        point[j] /= Math.sqrt(norm) ;
+      }
+    }
+    return front ;
+  }
+
+  private static double[] referencePoint(int numberOfObjectives) {
+    double[] reference = new double[numberOfObjectives] ;
+    Arrays.fill(reference, 1.0 + HypervolumeContributionEngine.DEFAULT_OFFSET);
+    return reference ;
+  }
+
+  private static double[][] normalize(double[][] points) {
+    double[][] normalizedPoints = new double[points.length][points[0].length] ;
+    for (int j = 0; j < points[0].length; j++) {
+      double min = Double.POSITIVE_INFINITY ;
+      double max = Double.NEGATIVE_INFINITY ;
+      for (double[] point : points) {
+        min = Math.min(min, point[j]) ;
+        max = Math.max(max, point[j]) ;
+      }
+      for (int i = 0; i < points.length; i++) {
+        normalizedPoints[i][j] = (points[i][j] - min) / (max - min) ;
+      }
+    }
+    return normalizedPoints ;
+  }
+
+  private static List<double[]> select(double[][] points, List<Integer> indices, int excludedIndex) {
+    List<double[]> selection = new ArrayList<>() ;
+    for (int i : indices) {
+      if (i != excludedIndex) {
+        selection.add(points[i]) ;
+      }
+    }
+    return selection ;
+  }
+
+  /**
+   * Sum of the volumes of the cells of the grid defined by the coordinates of the points that are dominated by
+   * any of them
+   */
+  private static double hypervolume(List<double[]> points, double[] reference) {
+    int numberOfObjectives = reference.length ;
+    double[][] coordinates = new double[numberOfObjectives][] ;
+    for (int j = 0; j < numberOfObjectives; j++) {
+      TreeSet<Double> values = new TreeSet<>() ;
+      for (double[] point : points) {
+        values.add(point[j]) ;
+      }
+      values.add(reference[j]) ;
+      coordinates[j] = values.stream().mapToDouble(Double::doubleValue).toArray() ;
+    }
+
+    return cellsVolume(points, coordinates, new double[numberOfObjectives], 0, 1.0) ;
+  }
+
+  private static double cellsVolume(List<double[]> points, double[][] coordinates, double[] corner, int objective,
+                                    double volume) {
+    if (objective == coordinates.length) {
+      for (double[] point : points) {
+        boolean dominates = true ;
+        for (int j = 0; j < corner.length; j++) {
+          dominates &= point[j] <= corner[j] ;
+        }
+        if (dominates) {
+          return volume ;
+        }
+      }
+      return 0 ;
+    }
+
+    double sum = 0 ;
+    for (int i = 0; i < coordinates[objective].length - 1; i++) {
+      corner[objective] = coordinates[objective][i] ;
+      double width = coordinates[objective][i + 1] - coordinates[objective][i] ;
+      sum += cellsVolume(points, coordinates, corner, objective + 1, volume * width) ;
+    }
+    return sum ;
+  }
+}
@@ -0,0 +1,19 @@
+package org.uma.jmetalsp.util.metrics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Unit tests for class Metrics
+ */
+public class MetricsTest {
+
+  @Test
+  public void shouldInstanceNameNumberTheInstancesWithTheSameName() {
+    assertEquals("MetricsTestAlgorithm", Metrics.instanceName("MetricsTestAlgorithm")) ;
+    assertEquals("MetricsTestAlgorithm#2", Metrics.instanceName("MetricsTestAlgorithm")) ;
+    assertEquals("MetricsTestProblem", Metrics.instanceName("MetricsTestProblem")) ;
+    assertEquals("MetricsTestAlgorithm#3", Metrics.instanceName("MetricsTestAlgorithm")) ;
+  }
+}
@@ -0,0 +1,73 @@
+package org.uma.jmetalsp.util.restartstrategy;
+
+import org.junit.Test;
+import org.uma.jmetal.util.JMetalException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for class RestartRateLimiter
+ */
+public class RestartRateLimiterTest {
+
+  @Test(expected = JMetalException.class)
+  public void shouldConstructorFailIfTheMinimumNumberOfGenerationsIsNegative() {
+    new RestartRateLimiter(-1, 0) ;
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldConstructorFailIfTheMinimumTimeIsNegative() {
+    new RestartRateLimiter(0, -1) ;
+  }
+
+  @Test
+  public void shouldAnUnlimitedLimiterAllowEveryRestart() {
+    RestartRateLimiter limiter = RestartRateLimiter.unlimited() ;
+    for (int i = 0; i < 10; i++) {
+      assertTrue(limiter.tryRestart()) ;
+    }
+    assertEquals(0, limiter.getNumberOfDeferredRestarts()) ;
+  }
+
+  @Test
+  public void shouldDeferTheRestartsUntilTheMinimumNumberOfGenerationsHasPassed() {
+    RestartRateLimiter limiter = new RestartRateLimiter(2, 0) ;
+    assertTrue(limiter.tryRestart()) ;
+
+    assertFalse(limiter.tryRestart()) ;
+    limiter.newGeneration();
+    assertFalse(limiter.tryRestart()) ;
+    limiter.newGeneration();
+    assertTrue(limiter.tryRestart()) ;
+
+    assertFalse(limiter.tryRestart()) ;
+    assertEquals(3, limiter.getNumberOfDeferredRestarts()) ;
+  }
+
+  @Test
+  public void shouldDeferTheRestartsUntilTheMinimumTimeHasPassed() throws InterruptedException {
+    RestartRateLimiter limiter = new RestartRateLimiter(0, 50) ;
+    assertTrue(limiter.tryRestart()) ;
+    assertFalse(limiter.tryRestart()) ;
+
+    Thread.sleep(60);
+    assertTrue(limiter.tryRestart()) ;
+    assertEquals(1, limiter.getNumberOfDeferredRestarts()) ;
+  }
+
+  @Test
+  public void shouldCopyHaveTheSamePolicyAndNoState() {
+    RestartRateLimiter limiter = new RestartRateLimiter(5, 1000) ;
+    limiter.tryRestart() ;
+    limiter.tryRestart() ;
+
+    RestartRateLimiter copy = limiter.copy() ;
+
+    assertEquals(5, copy.getMinimumGenerationsBetweenRestarts()) ;
+    assertEquals(1000, copy.getMinimumMillisecondsBetweenRestarts()) ;
+    assertEquals(0, copy.getNumberOfDeferredRestarts()) ;
+    assertTrue(copy.tryRestart()) ;
+  }
+}
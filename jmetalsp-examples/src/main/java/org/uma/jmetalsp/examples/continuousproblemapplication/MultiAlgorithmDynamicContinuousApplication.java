@@ -0,0 +1,81 @@
+package org.uma.jmetalsp.examples.continuousproblemapplication;
+
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetalsp.*;
+import org.uma.jmetalsp.consumer.ChartConsumer;
+import org.uma.jmetalsp.consumer.LocalDirectoryOutputConsumer;
+import org.uma.jmetalsp.examples.streamingdatasource.SimpleStreamingCounterDataSource;
+import org.uma.jmetalsp.impl.DefaultRuntime;
+import org.uma.jmetalsp.observeddata.AlgorithmObservedData;
+import org.uma.jmetalsp.observeddata.ObservedValue;
+import org.uma.jmetalsp.observeddata.util.NonDominatedFrontMerger;
+import org.uma.jmetalsp.problem.fda.FDA2;
+import org.uma.jmetalsp.util.restartstrategy.RestartStrategy;
+import org.uma.jmetalsp.util.restartstrategy.impl.CreateNRandomSolutions;
+import org.uma.jmetalsp.util.restartstrategy.impl.RemoveNRandomSolutions;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Example of jMetalSP application running several algorithms on the same problem.
+ * Features:
+ * - Algorithms: NSGA-II, MOCell and SMPSO, sharing one instance of the problem
+ * - Problem: Any of the FDA familiy
+ * - The fronts of the algorithms are merged into a single non-dominated front
+ * - Default streaming runtime (Spark is not used)
+ *
+ * Steps to compile and run the example:
+ * 1. Compile the project:
+     mvn package
+ * 2. Run the program:
+    java -cp jmetalsp-examples/target/jmetalsp-examples-2.1-SNAPSHOTar-with-dependencies.jar \
+    org.uma.jmetalsp.examples.continuousproblemapplication.MultiAlgorithmDynamicContinuousApplication
+ */
+public class MultiAlgorithmDynamicContinuousApplication {
+
+  public static void main(String[] args) throws IOException, InterruptedException {
+    // STEP 1. Create the problem
+    DynamicProblem<DoubleSolution, ObservedValue<Integer>> problem =
+            new FDA2();
+
+    // STEP 2. Create the application and the algorithms
+    JMetalSPApplication<
+            DoubleSolution,
+            DynamicProblem<DoubleSolution, ObservedValue<Integer>>,
+            DynamicAlgorithm<List<DoubleSolution>, AlgorithmObservedData>> application;
+
+    application = new JMetalSPApplication<>();
+    application.setProblem(problem) ;
+
+    for (String algorithmName : new String[]{"NSGAII", "MOCell", "SMPSO"}) {
+      DynamicAlgorithm<List<DoubleSolution>, AlgorithmObservedData> algorithm =
+              AlgorithmFactory.getAlgorithm(algorithmName, problem) ;
+
+      algorithm.setRestartStrategy(new RestartStrategy<>(
+              new RemoveNRandomSolutions<>(15),
+              new CreateNRandomSolutions<DoubleSolution>()));
+
+      application.addAlgorithm(algorithm) ;
+    }
+
+    // STEP 3. Create the streaming data source (only one in this example)
+    StreamingDataSource<ObservedValue<Integer>> streamingDataSource =
+            new SimpleStreamingCounterDataSource(2000) ;
+
+    // STEP 4. Create the data consumers, which receive the merged front
+    DataConsumer<AlgorithmObservedData> localDirectoryOutputConsumer =
+            new LocalDirectoryOutputConsumer<DoubleSolution>("outputdirectory") ;
+    DataConsumer<AlgorithmObservedData> chartConsumer =
+            new ChartConsumer<DoubleSolution>("NSGAII+MOCell+SMPSO") ;
+
+    // STEP 5. Run the application
+    application
+            .setStreamingRuntime(new DefaultRuntime())
+            .setAlgorithmDataMerger(new NonDominatedFrontMerger())
+            .addStreamingDataSource(streamingDataSource,problem)
+            .addAlgorithmDataConsumer(localDirectoryOutputConsumer)
+            .addAlgorithmDataConsumer(chartConsumer)
+            .run();
+  }
+}
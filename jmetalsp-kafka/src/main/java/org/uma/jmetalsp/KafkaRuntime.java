@@ -12,6 +12,7 @@ public class KafkaRuntime implements StreamingRuntime {
     private StreamsBuilder streamsBuilder;
     private Properties config;
     private String topic;
+    private KafkaStreams streams;
     public KafkaRuntime(String topic){
         config = new Properties();
         config.put(StreamsConfig.APPLICATION_ID_CONFIG,"stream-pipe");
@@ -31,7 +32,7 @@ public class KafkaRuntime implements StreamingRuntime {
         }
 
         //streamingContext.start();
-        KafkaStreams streams= new KafkaStreams(streamsBuilder.build(),config);
+        streams = new KafkaStreams(streamsBuilder.build(),config);
 
         try {
             streams.start();;
@@ -39,4 +40,11 @@ public class KafkaRuntime implements StreamingRuntime {
             e.printStackTrace();
         }
     }
+
+    @Override
+    public void stop() {
+        if (streams != null) {
+            streams.close();
+        }
+    }
 }
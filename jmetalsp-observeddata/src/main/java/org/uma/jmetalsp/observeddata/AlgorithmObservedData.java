@@ -36,6 +36,22 @@ public class AlgorithmObservedData implements ObservedData<Map<String, Object> >
     return algorithmData;
   }
 
+  /**
+   * @return The event time of the oldest problem change taken into account in the published solutions, if any
+   */
+  @Override
+  public long getEventTime() {
+    Object eventTime = algorithmData == null ? null : algorithmData.get("eventTime") ;
+    return eventTime instanceof Number ? ((Number) eventTime).longValue() : 0 ;
+  }
+
+  @Override
+  public void setEventTime(long eventTime) {
+    if (algorithmData != null) {
+      algorithmData.put("eventTime", eventTime) ;
+    }
+  }
+
   @Override
   public String toJson() {
     return JsonWriter.objectToJson(this);
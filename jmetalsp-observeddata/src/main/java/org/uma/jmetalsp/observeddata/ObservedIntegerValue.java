@@ -11,12 +11,25 @@ import org.uma.jmetalsp.ObservedData;
  */
 public class ObservedIntegerValue implements ObservedData<Integer> {
   private Integer value ;
+  private long eventTime ;
 
   public ObservedIntegerValue() {
+    this.eventTime = System.currentTimeMillis() ;
   }
 
   public ObservedIntegerValue(Integer value) {
     this.value = value ;
+    this.eventTime = System.currentTimeMillis() ;
+  }
+
+  @Override
+  public long getEventTime() {
+    return eventTime ;
+  }
+
+  @Override
+  public void setEventTime(long eventTime) {
+    this.eventTime = eventTime ;
   }
 
   public Integer getValue() {
@@ -12,16 +12,21 @@ import org.uma.jmetalsp.ObservedData;
 public class ObservedValue<T> implements ObservedData<T> {
   private T value;
   private String pathAVROFile;
+  private long eventTime;
+
   public ObservedValue() {
+    this.eventTime = System.currentTimeMillis();
   }
 
   public ObservedValue(T value) {
     this.value = value;
+    this.eventTime = System.currentTimeMillis();
   }
   public ObservedValue(T value, String pathAVROFile)
   {
     this.value = value;
     this.pathAVROFile = pathAVROFile;
+    this.eventTime = System.currentTimeMillis();
   }
 
   public T getValue() {
@@ -44,5 +49,15 @@ public class ObservedValue<T> implements ObservedData<T> {
   public T getData() {
     return this.value;
   }
+
+  @Override
+  public long getEventTime() {
+    return eventTime;
+  }
+
+  @Override
+  public void setEventTime(long eventTime) {
+    this.eventTime = eventTime;
+  }
 }
 
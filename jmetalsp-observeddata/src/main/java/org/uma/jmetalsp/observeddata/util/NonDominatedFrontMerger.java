@@ -0,0 +1,149 @@
+package org.uma.jmetalsp.observeddata.util;
+
+import org.uma.jmetalsp.AlgorithmDataMerger;
+import org.uma.jmetalsp.observeddata.AlgorithmObservedData;
+import org.uma.jmetalsp.observeddata.ObservedSolution;
+import org.uma.jmetalsp.observer.Observable;
+import org.uma.jmetalsp.observer.impl.DefaultObservable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Merger of the fronts published by several dynamic algorithms solving the same problem. The last front of each
+ * algorithm is kept and, every time an algorithm publishes a new front, the non-dominated solutions of the union
+ * of the fronts are notified. Fronts computed under an older change epoch of the problem (see the
+ * "changeEpoch" entry of the algorithm data) are discarded, so a stale front does not hide the solutions of the
+ * current version of the problem. Data without a solution list (e.g. reference point updates) are forwarded
+ * unchanged.
+ *
+ * The algorithms are identified by the observable through which they publish their data, so several instances
+ * of the same algorithm can be merged.
+ */
+public class NonDominatedFrontMerger implements AlgorithmDataMerger<AlgorithmObservedData> {
+  private final Observable<AlgorithmObservedData> observable ;
+  private final Map<Observable<AlgorithmObservedData>, PublishedFront> lastFronts ;
+
+  public NonDominatedFrontMerger(Observable<AlgorithmObservedData> observable) {
+    this.observable = observable ;
+    this.lastFronts = new IdentityHashMap<>() ;
+  }
+
+  public NonDominatedFrontMerger() {
+    this(new DefaultObservable<>()) ;
+  }
+
+  @Override
+  public synchronized void update(Observable<AlgorithmObservedData> algorithmObservable, AlgorithmObservedData data) {
+    Map<String, Object> algorithmData = data.getData() ;
+    if (algorithmData.containsKey("referencePoint") || !algorithmData.containsKey("solutionList")) {
+      observable.setChanged();
+      observable.notifyObservers(data);
+      return ;
+    }
+
+    long changeEpoch = getChangeEpoch(algorithmData) ;
+    lastFronts.put(algorithmObservable,
+            new PublishedFront((String) algorithmData.get("algorithmName"), changeEpoch,
+                    (List<ObservedSolution<?, ?>>) algorithmData.get("solutionList"))) ;
+
+    long lastChangeEpoch = 0 ;
+    for (PublishedFront front : lastFronts.values()) {
+      lastChangeEpoch = Math.max(lastChangeEpoch, front.changeEpoch) ;
+    }
+
+    List<ObservedSolution<?, ?>> mergedFront = new ArrayList<>() ;
+    Set<String> algorithmNames = new LinkedHashSet<>() ;
+    Iterator<PublishedFront> iterator = lastFronts.values().iterator() ;
+    while (iterator.hasNext()) {
+      PublishedFront front = iterator.next() ;
+      if (front.changeEpoch < lastChangeEpoch) {
+        iterator.remove();
+      } else {
+        algorithmNames.add(front.algorithmName) ;
+        for (ObservedSolution<?, ?> solution : front.solutionList) {
+          addIfNonDominated(solution, mergedFront);
+        }
+      }
+    }
+
+    Map<String, Object> mergedData = new HashMap<>(algorithmData) ;
+    mergedData.put("algorithmName", String.join("+", algorithmNames)) ;
+    mergedData.put("changeEpoch", lastChangeEpoch) ;
+    mergedData.put("numberOfMergedFronts", algorithmNames.size()) ;
+    mergedData.put("solutionList", mergedFront) ;
+
+    observable.setChanged();
+    observable.notifyObservers(new AlgorithmObservedData(mergedData));
+  }
+
+  @Override
+  public Observable<AlgorithmObservedData> getObservable() {
+    return observable ;
+  }
+
+  private static long getChangeEpoch(Map<String, Object> algorithmData) {
+    Object changeEpoch = algorithmData.get("changeEpoch") ;
+    return changeEpoch instanceof Number ? ((Number) changeEpoch).longValue() : 0 ;
+  }
+
+  /**
+   * Adds a solution to a non-dominated front, removing the solutions of the front dominated by it. Duplicated
+   * solutions (in the objective space) are not added
+   */
+  private static void addIfNonDominated(ObservedSolution<?, ?> solution, List<ObservedSolution<?, ?>> front) {
+    List<Double> objectives = solution.getObjectives() ;
+    Iterator<ObservedSolution<?, ?>> iterator = front.iterator() ;
+    while (iterator.hasNext()) {
+      List<Double> frontObjectives = iterator.next().getObjectives() ;
+      int result = dominanceTest(objectives, frontObjectives) ;
+      if ((result > 0) || ((result == 0) && objectives.equals(frontObjectives))) {
+        return ;
+      } else if (result < 0) {
+        iterator.remove();
+      }
+    }
+    front.add(solution) ;
+  }
+
+  /**
+   * @return -1 if the first vector dominates the second one, 1 if the second one dominates the first one, and 0
+   * otherwise (minimization is assumed)
+   */
+  private static int dominanceTest(List<Double> objectives1, List<Double> objectives2) {
+    boolean firstIsBetter = false ;
+    boolean secondIsBetter = false ;
+    for (int i = 0; i < objectives1.size(); i++) {
+      double value1 = objectives1.get(i) ;
+      double value2 = objectives2.get(i) ;
+      if (value1 < value2) {
+        firstIsBetter = true ;
+      } else if (value2 < value1) {
+        secondIsBetter = true ;
+      }
+    }
+
+    if (firstIsBetter == secondIsBetter) {
+      return 0 ;
+    }
+    return firstIsBetter ? -1 : 1 ;
+  }
+
+  private static class PublishedFront {
+    private final String algorithmName ;
+    private final long changeEpoch ;
+    private final List<ObservedSolution<?, ?>> solutionList ;
+
+    PublishedFront(String algorithmName, long changeEpoch, List<ObservedSolution<?, ?>> solutionList) {
+      this.algorithmName = algorithmName ;
+      this.changeEpoch = changeEpoch ;
+      this.solutionList = solutionList ;
+    }
+  }
+}
@@ -3,10 +3,17 @@ package org.uma.jmetalsp.problem.fda;
 import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
 import org.uma.jmetal.solution.DoubleSolution;
 import org.uma.jmetalsp.DynamicProblem;
+import org.uma.jmetalsp.ProblemChangeListener;
 import org.uma.jmetalsp.observeddata.ObservedValue;
 import org.uma.jmetalsp.observer.Observable;
 import org.uma.jmetalsp.observer.impl.DefaultObservable;
+import org.uma.jmetalsp.util.ChangeEpochTracker;
+import org.uma.jmetalsp.util.StateFingerprint;
+import org.uma.jmetalsp.util.checkpoint.Checkpointable;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.io.Serializable;
 
 /**
@@ -14,16 +21,19 @@ import java.io.Serializable;
  */
 public abstract class FDA
 				extends AbstractDoubleProblem
-				implements DynamicProblem<DoubleSolution, ObservedValue<Integer>>, Serializable {
-	protected double time;
-	protected boolean theProblemHasBeenModified;
+				implements DynamicProblem<DoubleSolution, ObservedValue<Integer>>, Checkpointable, Serializable {
+	protected volatile double time;
 	protected Observable<ObservedValue<Integer>> observable ;
+	private final ChangeEpochTracker changeEpochTracker ;
+	private volatile long changeEpochAtLastReset ;
 
   private int tauT=5;
   private int nT=10;
 
 	public FDA (Observable<ObservedValue<Integer>> observable) {
 		this.observable = observable ;
+		this.changeEpochTracker = new ChangeEpochTracker(getClass().getSimpleName()) ;
+		this.changeEpochAtLastReset = 0 ;
 		observable.register(this);
 	}
 
@@ -33,9 +43,58 @@ public abstract class FDA
 
 	@Override
 	public void update(Observable<ObservedValue<Integer>> observable, ObservedValue<Integer> counter) {
-        time = (1.0d/(double)nT) * Math.floor(counter.getValue()/(double)tauT) ;
-		theProblemHasBeenModified = true ;
+		time = (1.0d/(double)nT) * Math.floor(counter.getValue()/(double)tauT) ;
+		changeEpochTracker.increment(counter.getEventTime()) ;
 	}
 
+	@Override
+	public long getChangeEpoch() {
+		return changeEpochTracker.getChangeEpoch() ;
+	}
+
+	@Override
+	public long getChangeEventTime(long changeEpoch) {
+		return changeEpochTracker.getEventTime(changeEpoch) ;
+	}
+
+	/**
+	 * The state of the problem is given by its time, which takes a discrete set of values
+	 */
+	@Override
+	public long getStateFingerprint() {
+		return StateFingerprint.known(
+						StateFingerprint.mix(getClass().getName().hashCode(), Double.doubleToLongBits(time))) ;
+	}
+
+	@Override
+	public void addChangeListener(ProblemChangeListener listener) {
+		changeEpochTracker.addListener(listener);
+	}
+
+	@Override
+	public void removeChangeListener(ProblemChangeListener listener) {
+		changeEpochTracker.removeListener(listener);
+	}
+
+	@Override
+	public boolean hasTheProblemBeenModified() {
+		return getChangeEpoch() != changeEpochAtLastReset ;
+	}
+
+	@Override
+	public void reset() {
+		changeEpochAtLastReset = getChangeEpoch() ;
+	}
+
+	@Override
+	public void writeCheckpoint(DataOutput output) throws IOException {
+		output.writeDouble(time);
+	}
+
+	@Override
+	public void readCheckpoint(DataInput input) throws IOException {
+		time = input.readDouble() ;
+		changeEpochTracker.increment() ;
+	}
 
 }
@@ -42,18 +42,7 @@ public class FDA1 extends FDA implements Serializable {
     setLowerLimit(lowerLimit);
     setUpperLimit(upperLimit);
     time=1.0d;
-    theProblemHasBeenModified=false;
   }
-  @Override
-  public boolean hasTheProblemBeenModified() {
-    return theProblemHasBeenModified;
-  }
-
-  @Override
-  public void reset() {
-    theProblemHasBeenModified = false ;
-  }
-
   @Override
   public void evaluate(DoubleSolution solution) {
     double[] f = new double[getNumberOfObjectives()];
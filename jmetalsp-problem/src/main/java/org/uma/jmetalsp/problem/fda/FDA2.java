@@ -15,7 +15,6 @@ import java.util.List;
  */
 public class FDA2 extends FDA implements Serializable {
 
-  private boolean theProblemHasBeenModified;
 
   public FDA2(Observable<ObservedValue<Integer>> observable){
     this(31,2, observable);
@@ -44,18 +43,7 @@ public class FDA2 extends FDA implements Serializable {
     setLowerLimit(lowerLimit);
     setUpperLimit(upperLimit);
     time=1.0d;
-    theProblemHasBeenModified=false;
   }
-  @Override
-  public boolean hasTheProblemBeenModified() {
-    return theProblemHasBeenModified;
-  }
-
-  @Override
-  public void reset() {
-    theProblemHasBeenModified = false ;
-  }
-
   @Override
   public void evaluate(DoubleSolution solution) {
     double[] f = new double[getNumberOfObjectives()];
@@ -15,7 +15,6 @@ import java.util.List;
  */
 public class FDA3 extends FDA implements Serializable {
 
-  private boolean theProblemHasBeenModified;
   private final int limitInfI = 0;
   private final int limitSupI = 1;
   private final int limitInfII = 1;
@@ -50,18 +49,7 @@ public class FDA3 extends FDA implements Serializable {
     setLowerLimit(lowerLimit);
     setUpperLimit(upperLimit);
     time=1.0d;
-    theProblemHasBeenModified=false;
   }
-  @Override
-  public boolean hasTheProblemBeenModified() {
-    return theProblemHasBeenModified;
-  }
-
-  @Override
-  public void reset() {
-    theProblemHasBeenModified = false ;
-  }
-
   @Override
   public void evaluate(DoubleSolution solution) {
     double[] f = new double[getNumberOfObjectives()];
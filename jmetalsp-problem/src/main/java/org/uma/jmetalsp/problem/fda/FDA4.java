@@ -15,7 +15,6 @@ import java.util.List;
  */
 public class FDA4 extends FDA implements Serializable {
 
-  private boolean theProblemHasBeenModified;
   private final int M = 3;
 
   public FDA4(Observable<ObservedValue<Integer>> observable){
@@ -43,18 +42,7 @@ public class FDA4 extends FDA implements Serializable {
     setLowerLimit(lowerLimit);
     setUpperLimit(upperLimit);
     time=1.0d;
-    theProblemHasBeenModified=false;
   }
-  @Override
-  public boolean hasTheProblemBeenModified() {
-    return theProblemHasBeenModified;
-  }
-
-  @Override
-  public void reset() {
-    theProblemHasBeenModified = false ;
-  }
-
   @Override
   public void evaluate(DoubleSolution solution) {
     double[] f = new double[getNumberOfObjectives()];
@@ -3,30 +3,59 @@ package org.uma.jmetalsp.problem.tsp;
 import org.uma.jmetal.problem.ConstrainedProblem;
 import org.uma.jmetal.problem.impl.AbstractIntegerPermutationProblem;
 import org.uma.jmetal.solution.PermutationSolution;
+import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.solutionattribute.impl.NumberOfViolatedConstraints;
 import org.uma.jmetal.util.solutionattribute.impl.OverallConstraintViolation;
 import org.uma.jmetalsp.DynamicProblem;
+import org.uma.jmetalsp.IncrementallyEvaluableProblem;
+import org.uma.jmetalsp.ProblemChangeListener;
 import org.uma.jmetalsp.observeddata.ObservedValue;
 import org.uma.jmetalsp.observer.Observable;
 import org.uma.jmetalsp.observer.impl.DefaultObservable;
+import org.uma.jmetalsp.util.ChangeEpochTracker;
+import org.uma.jmetalsp.util.StateFingerprint;
+import org.uma.jmetalsp.util.checkpoint.Checkpointable;
+import org.uma.jmetalsp.util.metrics.Metrics;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Version of the multi-objective TSP aimed at being solving dynamically.
  *
+ * The matrices are kept in immutable snapshots, so solutions are evaluated without locks by any number of threads.
+ * Updates are serialized: every batch of updates (see {@link #newBatch()}) creates a new snapshot, copying only the
+ * rows it modifies, and publishes it atomically; an evaluation uses the snapshot that was current when it started.
+ *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 public class DynamicMultiobjectiveTSP
     extends AbstractIntegerPermutationProblem
     implements ConstrainedProblem<PermutationSolution<Integer>>,
-        DynamicProblem<PermutationSolution<Integer>, ObservedValue<TSPMatrixData>> {
+        DynamicProblem<PermutationSolution<Integer>, ObservedValue<TSPMatrixData>>,
+        IncrementallyEvaluableProblem<PermutationSolution<Integer>>, Checkpointable {
 
   public static final double NON_CONNECTED = Double.POSITIVE_INFINITY ;
-  private int         numberOfCities ;
-  private double [][] distanceMatrix ;
-  private double [][] costMatrix;
+  public static final double DEFAULT_FINGERPRINT_RESOLUTION = 0.05 ;
+  public static final int DEFAULT_CHANGE_LOG_SIZE = 4096 ;
+  private static final int DISTANCE_MATRIX = 0 ;
+  private static final int COST_MATRIX = 1 ;
+
+  private final AtomicReference<Snapshot> snapshot ;
   private Observable<ObservedValue<TSPMatrixData>> observable ;
 
-  private boolean theProblemHasBeenModified;
+  private final ChangeEpochTracker changeEpochTracker ;
+  private final String incrementalEvaluationsCounterName ;
+  private volatile long changeEpochAtLastReset ;
+  private double fingerprintResolution ;
+  private int changeLogSize ;
+  private transient ArrayDeque<EdgeChange> changeLog ;
 
   public OverallConstraintViolation<PermutationSolution<Integer>> overallConstraintViolationDegree ;
   public NumberOfViolatedConstraints<PermutationSolution<Integer>> numberOfViolatedConstraints ;
@@ -35,14 +64,18 @@ public class DynamicMultiobjectiveTSP
                                   double[][] distanceMatrix,
                                   double[][] costMatrix,
                                   Observable<ObservedValue<TSPMatrixData>> observable) {
-    this.numberOfCities = numberOfCities ;
-    this.distanceMatrix = distanceMatrix ;
-    this.costMatrix = costMatrix ;
     this.observable = observable ;
 
-    theProblemHasBeenModified = false ;
+    changeEpochTracker = new ChangeEpochTracker(getClass().getSimpleName()) ;
+    changeEpochAtLastReset = 0 ;
+    fingerprintResolution = DEFAULT_FINGERPRINT_RESOLUTION ;
+    changeLogSize = DEFAULT_CHANGE_LOG_SIZE ;
+    changeLog = new ArrayDeque<>() ;
+    snapshot = new AtomicReference<>(new Snapshot(numberOfCities, distanceMatrix, costMatrix, 0,
+            computeStateFingerprint(distanceMatrix, costMatrix), null)) ;
 
     setName("DMoTSP");
+    incrementalEvaluationsCounterName = "problem." + getName() + ".incrementalEvaluations" ;
     setNumberOfVariables(numberOfCities);
     setNumberOfObjectives(2);
     setNumberOfConstraints(1);
@@ -58,19 +91,31 @@ public class DynamicMultiobjectiveTSP
   }
 
   @Override
-  public synchronized void evaluate(PermutationSolution<Integer> solution) {
+  public void evaluate(PermutationSolution<Integer> solution) {
+    evaluate(solution, snapshot.get());
+  }
+
+  private void evaluate(PermutationSolution<Integer> solution, Snapshot current) {
+    int numberOfCities = current.numberOfCities ;
+    double[][] distanceMatrix = current.distanceMatrix ;
+    double[][] costMatrix = current.costMatrix ;
     double fitness1   ;
     double fitness2   ;
 
     fitness1 = 0.0 ;
     fitness2 = 0.0 ;
 
+    TourEvaluation evaluation = ownEvaluationOf(solution) ;
+    int[] positions = ((evaluation != null) && (evaluation.positions.length == numberOfCities)) ?
+            evaluation.positions : new int[numberOfCities] ;
+    positions[solution.getVariableValue(numberOfCities - 1)] = numberOfCities - 1 ;
     for (int i = 0; i < (numberOfCities - 1); i++) {
       int x ;
       int y ;
 
       x = solution.getVariableValue(i) ;
       y = solution.getVariableValue(i+1) ;
+      positions[x] = i ;
 
       if (distanceMatrix[x][y] != NON_CONNECTED) {
         fitness1 += distanceMatrix[x][y];
@@ -90,9 +135,128 @@ public class DynamicMultiobjectiveTSP
 
     solution.setObjective(0, fitness1);
     solution.setObjective(1, fitness2);
+    if ((evaluation != null) && (evaluation.positions == positions)) {
+      evaluation.version = current.version ;
+    } else {
+      solution.setAttribute(TourEvaluation.class, new TourEvaluation(solution, current.version, positions));
+    }
+  }
+
+  /**
+   * Applies to the objectives of a solution the changes of the matrices made since it was evaluated, in O(1) per
+   * change: only the changed edges used by the tour modify the objectives. The solution is evaluated again if the
+   * change log does not go back to its evaluation, or if one of its edges has been connected or disconnected
+   */
+  @Override
+  public void reevaluate(PermutationSolution<Integer> solution) {
+    Snapshot current = snapshot.get() ;
+    Object attribute = solution.getAttribute(TourEvaluation.class) ;
+    if (!(attribute instanceof TourEvaluation) || (((TourEvaluation) attribute).version > current.version)) {
+      evaluateAgain(solution, current);
+      return ;
+    }
+
+    TourEvaluation evaluation = (TourEvaluation) attribute ;
+    double fitness1 = solution.getObjective(0) ;
+    double fitness2 = solution.getObjective(1) ;
+    EdgeChange change = current.lastChange ;
+    for (long changeVersion = current.version; changeVersion > evaluation.version; changeVersion--) {
+      if ((change == null) || (change.version != changeVersion)) {
+        evaluateAgain(solution, current);
+        return ;
+      }
+
+      int occurrences = numberOfOccurrences(solution, current.numberOfCities, evaluation.positions, change.row,
+              change.col) ;
+      if (occurrences > 0) {
+        if (Double.isInfinite(change.oldValue) || Double.isInfinite(change.newValue)) {
+          evaluateAgain(solution, current);
+          return ;
+        }
+
+        if (change.matrix == DISTANCE_MATRIX) {
+          fitness1 += occurrences * (change.newValue - change.oldValue) ;
+        } else if (current.distanceMatrix[change.row][change.col] != NON_CONNECTED) {
+          fitness2 += occurrences * (change.newValue - change.oldValue) ;
+        }
+      }
+      change = change.previous ;
+    }
+
+    solution.setObjective(0, fitness1);
+    solution.setObjective(1, fitness2);
+    if (evaluation.owner == solution) {
+      evaluation.version = current.version ;
+    } else {
+      solution.setAttribute(TourEvaluation.class,
+              new TourEvaluation(solution, current.version, evaluation.positions.clone()));
+    }
+    Metrics.counter(incrementalEvaluationsCounterName).increment();
+  }
+
+  private void evaluateAgain(PermutationSolution<Integer> solution, Snapshot current) {
+    evaluate(solution, current);
+    evaluateConstraints(solution, current);
+  }
+
+  /**
+   * Returns how many times the tour goes from city x to city y, taking into account that the last edge evaluated
+   * goes from the first city to the last one
+   */
+  private static int numberOfOccurrences(PermutationSolution<Integer> solution, int numberOfCities, int[] positions,
+                                         int x, int y) {
+    if ((x >= positions.length) || (y >= positions.length)) {
+      return 0 ;
+    }
+
+    int position = positions[x] ;
+    int occurrences = 0 ;
+    if ((position < numberOfCities - 1) && (solution.getVariableValue(position + 1) == y)) {
+      occurrences ++ ;
+    }
+    if ((position == 0) && (solution.getVariableValue(numberOfCities - 1) == y)) {
+      occurrences ++ ;
+    }
+
+    return occurrences ;
+  }
+
+  /**
+   * Returns the evaluation stored in a solution if it has been created for that solution, or null. The copies of
+   * a solution share its attributes, so they must not modify the evaluation of the original
+   */
+  private static TourEvaluation ownEvaluationOf(PermutationSolution<Integer> solution) {
+    Object attribute = solution.getAttribute(TourEvaluation.class) ;
+    if ((attribute instanceof TourEvaluation) && (((TourEvaluation) attribute).owner == solution)) {
+      return (TourEvaluation) attribute ;
+    }
+
+    return null ;
+  }
+
+  /**
+   * Version of the problem for which a tour was evaluated, and the position of every city in it. The solution
+   * owning the evaluation updates it in place when it is evaluated again
+   */
+  private static class TourEvaluation implements Serializable {
+    private final transient PermutationSolution<Integer> owner ;
+    private long version ;
+    private final int[] positions ;
+
+    private TourEvaluation(PermutationSolution<Integer> owner, long version, int[] positions) {
+      this.owner = owner ;
+      this.version = version ;
+      this.positions = positions ;
+    }
   }
 
-  public synchronized void evaluateConstraints(PermutationSolution<Integer> solution) {
+  public void evaluateConstraints(PermutationSolution<Integer> solution) {
+    evaluateConstraints(solution, snapshot.get());
+  }
+
+  private void evaluateConstraints(PermutationSolution<Integer> solution, Snapshot current) {
+    int numberOfCities = current.numberOfCities ;
+    double[][] distanceMatrix = current.distanceMatrix ;
     int nonConnectedLinks = 0 ;
     int connectedLinks = 0;
     for (int i = 0; i < (numberOfCities - 1); i++) {
@@ -130,54 +294,305 @@ public class DynamicMultiobjectiveTSP
 
   @Override
   public int getPermutationLength() {
-    return numberOfCities;
+    return snapshot.get().numberOfCities;
   }
 
-  public synchronized void updateCostValue(int row, int col, double newValue) {
-    try {
-      if (costMatrix.length < row && costMatrix[row].length < col) {
-        costMatrix[row][col] = newValue;
-        theProblemHasBeenModified = true;
-      }
-    }catch(Exception ex){
+  public void updateCostValue(int row, int col, double newValue) {
+    updateCostValue(row, col, newValue, 0) ;
+  }
 
-      }
+  /**
+   * Updates a value of the cost matrix
+   * @param eventTime Event time of the data containing the new value, or 0 if it is unknown
+   */
+  public void updateCostValue(int row, int col, double newValue, long eventTime) {
+    newBatch().updateCostValue(row, col, newValue).publish(eventTime);
     //JMetalLogger.logger.info("Updated cost: " + row + ", " + col + ": " + newValue) ;
   }
 
-  public synchronized void updateDistanceValue(int row, int col, double newValue) {
-    try {
-      if (distanceMatrix.length < row && distanceMatrix[row].length < col) {
-        distanceMatrix[row][col] = newValue;
-        theProblemHasBeenModified = true;
+  public void updateDistanceValue(int row, int col, double newValue) {
+    updateDistanceValue(row, col, newValue, 0) ;
+  }
+
+  /**
+   * Updates a value of the distance matrix
+   * @param eventTime Event time of the data containing the new value, or 0 if it is unknown
+   */
+  public void updateDistanceValue(int row, int col, double newValue, long eventTime) {
+    newBatch().updateDistanceValue(row, col, newValue).publish(eventTime);
+  }
+
+  /**
+   * Creates a batch of updates of the matrices, which are published together in a single snapshot, counting as a
+   * single change of the problem
+   */
+  public Batch newBatch() {
+    return new Batch() ;
+  }
+
+  /**
+   * Creates a new snapshot with the updates of a batch, copying every modified row once, and publishes it
+   * @return true if any value has been updated
+   */
+  private synchronized boolean publish(Batch batch) {
+    Snapshot current = snapshot.get() ;
+    double[][] distanceMatrix = current.distanceMatrix ;
+    double[][] costMatrix = current.costMatrix ;
+    BitSet copiedDistanceRows = null ;
+    BitSet copiedCostRows = null ;
+    long version = current.version ;
+    long stateFingerprint = current.stateFingerprint ;
+    EdgeChange lastChange = current.lastChange ;
+
+    for (int i = 0; i < batch.size(); i++) {
+      int matrix = batch.matrices[i] ;
+      int row = batch.rows[i] ;
+      int col = batch.cols[i] ;
+      double newValue = batch.values[i] ;
+
+      double[][] values ;
+      if (matrix == DISTANCE_MATRIX) {
+        if (!isInTheMatrix(distanceMatrix, row, col)) {
+          continue ;
+        }
+        if (copiedDistanceRows == null) {
+          distanceMatrix = distanceMatrix.clone() ;
+          copiedDistanceRows = new BitSet(distanceMatrix.length) ;
+        }
+        values = copyOnWrite(distanceMatrix, row, copiedDistanceRows) ;
+      } else {
+        if (!isInTheMatrix(costMatrix, row, col)) {
+          continue ;
+        }
+        if (copiedCostRows == null) {
+          costMatrix = costMatrix.clone() ;
+          copiedCostRows = new BitSet(costMatrix.length) ;
+        }
+        values = copyOnWrite(costMatrix, row, copiedCostRows) ;
       }
-    }catch (Exception ex){
 
+      double oldValue = values[row][col] ;
+      values[row][col] = newValue ;
+      stateFingerprint ^= valueFingerprint(matrix, row, col, oldValue) ^ valueFingerprint(matrix, row, col, newValue) ;
+      lastChange = new EdgeChange(++version, matrix, row, col, oldValue, newValue, lastChange) ;
+      logChange(lastChange);
+    }
+
+    if (version == current.version) {
+      return false ;
+    }
+    snapshot.set(new Snapshot(current.numberOfCities, distanceMatrix, costMatrix, version, stateFingerprint,
+            lastChange));
+
+    return true ;
+  }
+
+  private static double[][] copyOnWrite(double[][] matrix, int row, BitSet copiedRows) {
+    if (!copiedRows.get(row)) {
+      matrix[row] = matrix[row].clone() ;
+      copiedRows.set(row);
+    }
+
+    return matrix ;
+  }
+
+  /**
+   * Keeps the last changes reachable from the snapshots, unlinking the older ones so they can be collected
+   */
+  private void logChange(EdgeChange change) {
+    if (changeLog == null) {
+      changeLog = new ArrayDeque<>() ;
+    }
+    changeLog.addLast(change);
+    trimChangeLog();
+  }
+
+  private void trimChangeLog() {
+    while (changeLog.size() > changeLogSize) {
+      changeLog.removeFirst() ;
+      changeLog.peekFirst().previous = null ;
+    }
+  }
+
+  private static boolean isInTheMatrix(double[][] matrix, int row, int col) {
+    return (row >= 0) && (row < matrix.length) && (col >= 0) && (col < matrix[row].length) ;
+  }
+
+  /**
+   * @return A counter that is incremented every time a value of a matrix changes
+   */
+  public long getVersion() {
+    return snapshot.get().version ;
+  }
+
+  /**
+   * Sets the number of changes of the matrices that are remembered to re-evaluate the solutions incrementally (see
+   * {@link #reevaluate(PermutationSolution)})
+   */
+  public synchronized void setChangeLogSize(int changeLogSize) {
+    if (changeLogSize <= 0) {
+      throw new JMetalException("The size of the change log must be positive: " + changeLogSize) ;
+    }
+    this.changeLogSize = changeLogSize ;
+    if (changeLog != null) {
+      trimChangeLog();
+    }
+  }
+
+  /**
+   * The fingerprint combines the hashes of all the values of the matrices rounded to the fingerprint resolution, and
+   * it is updated incrementally when a value changes
+   */
+  @Override
+  public long getStateFingerprint() {
+    return StateFingerprint.known(snapshot.get().stateFingerprint) ;
+  }
+
+  /**
+   * Sets the relative difference below which two values of a matrix are usually considered the same when computing
+   * the fingerprint of the state (see {@link StateFingerprint#ofValue(double, double)})
+   */
+  public synchronized void setFingerprintResolution(double fingerprintResolution) {
+    if (fingerprintResolution <= 0) {
+      throw new JMetalException("The fingerprint resolution must be positive: " + fingerprintResolution) ;
     }
+    this.fingerprintResolution = fingerprintResolution ;
+    Snapshot current = snapshot.get() ;
+    snapshot.set(new Snapshot(current.numberOfCities, current.distanceMatrix, current.costMatrix, current.version,
+            computeStateFingerprint(current.distanceMatrix, current.costMatrix), current.lastChange));
   }
 
-  public synchronized double[][] getDistanceMatrix() {
-    return distanceMatrix;
+  private long computeStateFingerprint(double[][] distanceMatrix, double[][] costMatrix) {
+    long fingerprint = 0 ;
+    for (int row = 0; row < distanceMatrix.length; row++) {
+      for (int col = 0; col < distanceMatrix[row].length; col++) {
+        fingerprint ^= valueFingerprint(DISTANCE_MATRIX, row, col, distanceMatrix[row][col]) ;
+      }
+    }
+    for (int row = 0; row < costMatrix.length; row++) {
+      for (int col = 0; col < costMatrix[row].length; col++) {
+        fingerprint ^= valueFingerprint(COST_MATRIX, row, col, costMatrix[row][col]) ;
+      }
+    }
+
+    return fingerprint ;
   }
 
-  public synchronized double[][] getCostMatrix() {
-    return costMatrix;
+  private long valueFingerprint(int matrix, int row, int col, double value) {
+    long position = ((long) matrix << 62) ^ ((long) row << 31) ^ col ;
+    return StateFingerprint.mix(position, StateFingerprint.ofValue(value, fingerprintResolution)) ;
   }
 
+  /**
+   * @return The distance matrix of the current snapshot, which must not be modified
+   */
+  public double[][] getDistanceMatrix() {
+    return snapshot.get().distanceMatrix;
+  }
+
+  /**
+   * @return The cost matrix of the current snapshot, which must not be modified
+   */
+  public double[][] getCostMatrix() {
+    return snapshot.get().costMatrix;
+  }
+
+  /**
+   * Changes the number of cities of the tours. The solutions evaluated before cannot be re-evaluated incrementally
+   */
   public synchronized void setNumberOfCities(int numberOfCities) {
-    this.numberOfCities = numberOfCities ;
+    Snapshot current = snapshot.get() ;
+    snapshot.set(new Snapshot(numberOfCities, current.distanceMatrix, current.costMatrix, current.version + 1,
+            current.stateFingerprint, null));
+  }
+
+  @Override
+  public boolean hasTheProblemBeenModified() {
+    return getChangeEpoch() != changeEpochAtLastReset ;
+  }
+
+  @Override
+  public void reset() {
+    changeEpochAtLastReset = getChangeEpoch() ;
+  }
+
+  @Override
+  public long getChangeEpoch() {
+    return changeEpochTracker.getChangeEpoch() ;
   }
 
-  public synchronized boolean hasTheProblemBeenModified() {
-    return theProblemHasBeenModified;
+  @Override
+  public long getChangeEventTime(long changeEpoch) {
+    return changeEpochTracker.getEventTime(changeEpoch) ;
+  }
+
+  @Override
+  public void addChangeListener(ProblemChangeListener listener) {
+    changeEpochTracker.addListener(listener);
   }
 
   @Override
-  public synchronized void reset() {
-    theProblemHasBeenModified = false ;
+  public void removeChangeListener(ProblemChangeListener listener) {
+    changeEpochTracker.removeListener(listener);
+  }
+
+  /**
+   * Writes the number of cities and the distance and cost matrices
+   */
+  @Override
+  public void writeCheckpoint(DataOutput output) throws IOException {
+    Snapshot current = snapshot.get() ;
+    output.writeInt(current.numberOfCities);
+    writeMatrix(current.distanceMatrix, output);
+    writeMatrix(current.costMatrix, output);
+  }
+
+  @Override
+  public void readCheckpoint(DataInput input) throws IOException {
+    synchronized (this) {
+      Snapshot current = snapshot.get() ;
+      int checkpointedNumberOfCities = input.readInt() ;
+      if (checkpointedNumberOfCities != current.numberOfCities) {
+        throw new JMetalException("The checkpoint has " + checkpointedNumberOfCities + " cities, but the problem " +
+                "has " + current.numberOfCities) ;
+      }
+      double[][] distanceMatrix = readMatrix(input) ;
+      double[][] costMatrix = readMatrix(input) ;
+      snapshot.set(new Snapshot(current.numberOfCities, distanceMatrix, costMatrix, current.version + 1,
+              computeStateFingerprint(distanceMatrix, costMatrix), null));
+      if (changeLog != null) {
+        changeLog.clear();
+      }
+    }
+    changeEpochTracker.increment() ;
+  }
+
+  private static void writeMatrix(double[][] matrix, DataOutput output) throws IOException {
+    output.writeInt(matrix.length);
+    for (double[] row : matrix) {
+      output.writeInt(row.length);
+      for (double value : row) {
+        output.writeDouble(value);
+      }
+    }
+  }
+
+  private static double[][] readMatrix(DataInput input) throws IOException {
+    double[][] matrix = new double[input.readInt()][] ;
+    for (int i = 0; i < matrix.length; i++) {
+      matrix[i] = new double[input.readInt()] ;
+      for (int j = 0; j < matrix[i].length; j++) {
+        matrix[i][j] = input.readDouble() ;
+      }
+    }
+
+    return matrix ;
   }
 
   public String toString() {
+    Snapshot current = snapshot.get() ;
+    int numberOfCities = current.numberOfCities ;
+    double[][] distanceMatrix = current.distanceMatrix ;
     String result = "" ;
     for (int i = 0; i < numberOfCities; i++) {
       for (int j = 0; j < numberOfCities; j++) {
@@ -191,10 +606,112 @@ public class DynamicMultiobjectiveTSP
 
   @Override
   public void update(Observable<ObservedValue<TSPMatrixData>> observable, ObservedValue<TSPMatrixData> data) {
-    if (data!=null && data.getValue().getMatrixIdentifier() == "COST") {
-      updateCostValue(data.getValue().getX(),data.getValue().getY(),data.getValue().getValue());
-    } else if(data!=null && data.getValue().getMatrixIdentifier() == "VALUE"){
-      updateDistanceValue(data.getValue().getX(),data.getValue().getY(),data.getValue().getValue());
+    if (data!=null && "COST".equals(String.valueOf(data.getValue().getMatrixIdentifier()))) {
+      updateCostValue(data.getValue().getX(),data.getValue().getY(),data.getValue().getValue(),data.getEventTime());
+    } else if(data!=null && "VALUE".equals(String.valueOf(data.getValue().getMatrixIdentifier()))){
+      updateDistanceValue(data.getValue().getX(),data.getValue().getY(),data.getValue().getValue(),data.getEventTime());
+    }
+  }
+
+  /**
+   * Batch of updates of the matrices, published with {@link #publish(long)}
+   */
+  public class Batch {
+    private static final int INITIAL_CAPACITY = 8 ;
+
+    private int[] matrices = new int[INITIAL_CAPACITY] ;
+    private int[] rows = new int[INITIAL_CAPACITY] ;
+    private int[] cols = new int[INITIAL_CAPACITY] ;
+    private double[] values = new double[INITIAL_CAPACITY] ;
+    private int size = 0 ;
+
+    private Batch() {
+    }
+
+    public Batch updateDistanceValue(int row, int col, double newValue) {
+      return add(DISTANCE_MATRIX, row, col, newValue) ;
+    }
+
+    public Batch updateCostValue(int row, int col, double newValue) {
+      return add(COST_MATRIX, row, col, newValue) ;
+    }
+
+    /**
+     * Publishes the updates in a new snapshot of the matrices. The updates out of the matrices are ignored
+     * @param eventTime Event time of the data containing the new values, or 0 if it is unknown
+     */
+    public void publish(long eventTime) {
+      if (DynamicMultiobjectiveTSP.this.publish(this)) {
+        changeEpochTracker.increment(eventTime) ;
+      }
+    }
+
+    public int size() {
+      return size ;
+    }
+
+    private Batch add(int matrix, int row, int col, double newValue) {
+      if (size == matrices.length) {
+        int capacity = 2 * size ;
+        matrices = Arrays.copyOf(matrices, capacity) ;
+        rows = Arrays.copyOf(rows, capacity) ;
+        cols = Arrays.copyOf(cols, capacity) ;
+        values = Arrays.copyOf(values, capacity) ;
+      }
+      matrices[size] = matrix ;
+      rows[size] = row ;
+      cols[size] = col ;
+      values[size] = newValue ;
+      size++ ;
+
+      return this ;
+    }
+  }
+
+  /**
+   * Immutable state of the matrices. Snapshots share the rows that have not been modified between them
+   */
+  private static class Snapshot implements Serializable {
+    private final int numberOfCities ;
+    private final double[][] distanceMatrix ;
+    private final double[][] costMatrix ;
+    private final long version ;
+    private final long stateFingerprint ;
+    private final transient EdgeChange lastChange ;
+
+    private Snapshot(int numberOfCities, double[][] distanceMatrix, double[][] costMatrix, long version,
+                     long stateFingerprint, EdgeChange lastChange) {
+      this.numberOfCities = numberOfCities ;
+      this.distanceMatrix = distanceMatrix ;
+      this.costMatrix = costMatrix ;
+      this.version = version ;
+      this.stateFingerprint = stateFingerprint ;
+      this.lastChange = lastChange ;
+    }
+  }
+
+  /**
+   * Change of a value of a matrix, which makes the problem reach a version. The changes are linked from the newest
+   * one to the oldest one kept in the change log
+   */
+  private static class EdgeChange {
+    private final long version ;
+    private final int matrix ;
+    private final int row ;
+    private final int col ;
+    private final double oldValue ;
+    private final double newValue ;
+    private volatile EdgeChange previous ;
+
+    private EdgeChange(long version, int matrix, int row, int col, double oldValue, double newValue,
+                       EdgeChange previous) {
+      this.version = version ;
+      this.matrix = matrix ;
+      this.row = row ;
+      this.col = col ;
+      this.oldValue = oldValue ;
+      this.newValue = newValue ;
+      this.previous = previous ;
     }
   }
 }
@@ -0,0 +1,237 @@
+package org.uma.jmetalsp.problem.tsp;
+
+import org.junit.Test;
+import org.uma.jmetal.solution.PermutationSolution;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+/**
+ * Unit tests for class DynamicMultiobjectiveTSP. The incremental re-evaluation of the tours is compared with a
+ * full evaluation of a copy of them
+ */
+public class DynamicMultiobjectiveTSPTest {
+  private static final int NUMBER_OF_CITIES = 12 ;
+  private static final double EPSILON = 1e-6 ;
+
+  @Test
+  public void shouldReevaluateLikeAFullEvaluationAfterSingleChanges() {
+    Random random = new Random(1) ;
+    DynamicMultiobjectiveTSP problem = createProblem(random) ;
+    List<PermutationSolution<Integer>> solutions = createSolutions(problem, 20) ;
+
+    for (int step = 0; step < 300; step++) {
+      int row = random.nextInt(NUMBER_OF_CITIES) ;
+      int col = random.nextInt(NUMBER_OF_CITIES) ;
+      if (random.nextBoolean()) {
+        problem.updateDistanceValue(row, col, randomValue(random));
+      } else {
+        problem.updateCostValue(row, col, randomValue(random));
+      }
+
+      reevaluateSome(problem, solutions, random) ;
+    }
+  }
+
+  @Test
+  public void shouldReevaluateLikeAFullEvaluationAfterBatchesOfChanges() {
+    Random random = new Random(2) ;
+    DynamicMultiobjectiveTSP problem = createProblem(random) ;
+    List<PermutationSolution<Integer>> solutions = createSolutions(problem, 20) ;
+
+    for (int step = 0; step < 100; step++) {
+      DynamicMultiobjectiveTSP.Batch batch = problem.newBatch() ;
+      int numberOfUpdates = 1 + random.nextInt(6) ;
+      for (int i = 0; i < numberOfUpdates; i++) {
+        int row = random.nextInt(NUMBER_OF_CITIES) ;
+        int col = random.nextInt(NUMBER_OF_CITIES) ;
+        if (random.nextBoolean()) {
+          batch.updateDistanceValue(row, col, randomValue(random)) ;
+        } else {
+          batch.updateCostValue(row, col, randomValue(random)) ;
+        }
+      }
+      batch.publish(0);
+
+      reevaluateSome(problem, solutions, random) ;
+    }
+  }
+
+  @Test
+  public void shouldPublishABatchLargerThanItsInitialCapacity() {
+    Random random = new Random(9) ;
+    DynamicMultiobjectiveTSP problem = createProblem(random) ;
+    List<PermutationSolution<Integer>> solutions = createSolutions(problem, 5) ;
+
+    DynamicMultiobjectiveTSP.Batch batch = problem.newBatch() ;
+    for (int i = 0; i < 100; i++) {
+      batch.updateCostValue(random.nextInt(NUMBER_OF_CITIES), random.nextInt(NUMBER_OF_CITIES), randomValue(random)) ;
+    }
+    assertEquals(100, batch.size()) ;
+    batch.publish(0);
+
+    for (PermutationSolution<Integer> solution : solutions) {
+      problem.reevaluate(solution);
+      assertSameObjectivesAsAFullEvaluation(problem, solution) ;
+    }
+  }
+
+  @Test
+  public void shouldEvaluateAgainIfTheChangeLogHasBeenTrimmed() {
+    Random random = new Random(3) ;
+    DynamicMultiobjectiveTSP problem = createProblem(random) ;
+    problem.setChangeLogSize(2);
+    PermutationSolution<Integer> solution = createSolutions(problem, 1).get(0) ;
+    double distance = solution.getObjective(0) ;
+
+    for (int i = 0; i < 10; i++) {
+      int position = random.nextInt(NUMBER_OF_CITIES - 1) ;
+      problem.updateDistanceValue(solution.getVariableValue(position), solution.getVariableValue(position + 1),
+              1 + random.nextDouble());
+    }
+    problem.reevaluate(solution);
+
+    assertNotEquals(distance, solution.getObjective(0), EPSILON) ;
+    assertSameObjectivesAsAFullEvaluation(problem, solution) ;
+  }
+
+  @Test
+  public void shouldKeepTheObjectivesIfTheChangedEdgesAreNotInTheTour() {
+    Random random = new Random(4) ;
+    DynamicMultiobjectiveTSP problem = createProblem(random) ;
+    PermutationSolution<Integer> solution = createSolutions(problem, 1).get(0) ;
+    double distance = solution.getObjective(0) ;
+    double cost = solution.getObjective(1) ;
+
+    int first = solution.getVariableValue(0) ;
+    int third = solution.getVariableValue(2) ;
+    long version = problem.getVersion() ;
+    problem.updateDistanceValue(first, third, 1000.0);
+    problem.updateCostValue(third, first, 1000.0);
+    problem.reevaluate(solution);
+
+    assertEquals(version + 2, problem.getVersion()) ;
+    assertEquals(distance, solution.getObjective(0), EPSILON) ;
+    assertEquals(cost, solution.getObjective(1), EPSILON) ;
+  }
+
+  @Test
+  public void shouldReevaluateASolutionThatHasNotBeenEvaluated() {
+    DynamicMultiobjectiveTSP problem = createProblem(new Random(5)) ;
+    PermutationSolution<Integer> solution = problem.createSolution() ;
+
+    problem.reevaluate(solution);
+
+    assertSameObjectivesAsAFullEvaluation(problem, solution) ;
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldNotShareTheEvaluationOfATourWithItsCopies() {
+    Random random = new Random(8) ;
+    DynamicMultiobjectiveTSP problem = createProblem(random) ;
+    PermutationSolution<Integer> solution = createSolutions(problem, 1).get(0) ;
+    problem.evaluate(solution);
+
+    PermutationSolution<Integer> copy = (PermutationSolution<Integer>) solution.copy() ;
+    Integer first = copy.getVariableValue(0) ;
+    copy.setVariableValue(0, copy.getVariableValue(NUMBER_OF_CITIES / 2));
+    copy.setVariableValue(NUMBER_OF_CITIES / 2, first);
+    problem.evaluate(copy);
+
+    for (int i = 0; i < NUMBER_OF_CITIES - 1; i++) {
+      problem.updateDistanceValue(solution.getVariableValue(i), solution.getVariableValue(i + 1),
+              1 + random.nextDouble());
+    }
+    problem.reevaluate(solution);
+    problem.reevaluate(copy);
+
+    assertSameObjectivesAsAFullEvaluation(problem, solution) ;
+    assertSameObjectivesAsAFullEvaluation(problem, copy) ;
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldRestoreTheMatricesFromACheckpoint() throws IOException {
+    DynamicMultiobjectiveTSP problem = createProblem(new Random(6)) ;
+    problem.updateDistanceValue(0, 1, 12.5);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream() ;
+    try (DataOutputStream output = new DataOutputStream(bytes)) {
+      problem.writeCheckpoint(output);
+    }
+
+    DynamicMultiobjectiveTSP restoredProblem = createProblem(new Random(7)) ;
+    PermutationSolution<Integer> solution = createSolutions(restoredProblem, 1).get(0) ;
+    restoredProblem.readCheckpoint(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    restoredProblem.reevaluate(solution);
+
+    PermutationSolution<Integer> reference = (PermutationSolution<Integer>) solution.copy() ;
+    problem.evaluate(reference);
+    assertEquals(reference.getObjective(0), solution.getObjective(0), EPSILON) ;
+    assertEquals(reference.getObjective(1), solution.getObjective(1), EPSILON) ;
+  }
+
+  private static DynamicMultiobjectiveTSP createProblem(Random random) {
+    double[][] distanceMatrix = new double[NUMBER_OF_CITIES][NUMBER_OF_CITIES] ;
+    double[][] costMatrix = new double[NUMBER_OF_CITIES][NUMBER_OF_CITIES] ;
+    for (int i = 0; i < NUMBER_OF_CITIES; i++) {
+      for (int j = 0; j < NUMBER_OF_CITIES; j++) {
+        distanceMatrix[i][j] = randomValue(random) ;
+        costMatrix[i][j] = randomValue(random) ;
+      }
+    }
+
+    return new DynamicMultiobjectiveTSP(NUMBER_OF_CITIES, distanceMatrix, costMatrix) ;
+  }
+
+  /**
+   * A random value of a matrix; some of the edges are not connected
+   */
+  private static double randomValue(Random random) {
+    return random.nextInt(10) == 0 ? DynamicMultiobjectiveTSP.NON_CONNECTED : 1 + 99 * random.nextDouble() ;
+  }
+
+  private static List<PermutationSolution<Integer>> createSolutions(DynamicMultiobjectiveTSP problem,
+                                                                    int numberOfSolutions) {
+    List<PermutationSolution<Integer>> solutions = new ArrayList<>() ;
+    for (int i = 0; i < numberOfSolutions; i++) {
+      PermutationSolution<Integer> solution = problem.createSolution() ;
+      problem.evaluate(solution);
+      solutions.add(solution) ;
+    }
+
+    return solutions ;
+  }
+
+  /**
+   * Re-evaluates a random half of the solutions, so the others accumulate several changes before being re-evaluated
+   */
+  private static void reevaluateSome(DynamicMultiobjectiveTSP problem, List<PermutationSolution<Integer>> solutions,
+                                     Random random) {
+    for (PermutationSolution<Integer> solution : solutions) {
+      if (random.nextBoolean()) {
+        problem.reevaluate(solution);
+        assertSameObjectivesAsAFullEvaluation(problem, solution) ;
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void assertSameObjectivesAsAFullEvaluation(DynamicMultiobjectiveTSP problem,
+                                                            PermutationSolution<Integer> solution) {
+    PermutationSolution<Integer> reference = (PermutationSolution<Integer>) solution.copy() ;
+    problem.evaluate(reference);
+
+    assertEquals(reference.getObjective(0), solution.getObjective(0), EPSILON) ;
+    assertEquals(reference.getObjective(1), solution.getObjective(1), EPSILON) ;
+  }
+}
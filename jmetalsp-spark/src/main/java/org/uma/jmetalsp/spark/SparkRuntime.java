@@ -50,4 +50,13 @@ public class SparkRuntime implements StreamingRuntime {
       e.printStackTrace();
     }
   }
+
+  /**
+   * Stops the streaming context gracefully, waiting for the received data to be processed. The Spark context
+   * is not stopped, so it can be reused
+   */
+  @Override
+  public void stop() {
+    streamingContext.stop(false, true);
+  }
 }
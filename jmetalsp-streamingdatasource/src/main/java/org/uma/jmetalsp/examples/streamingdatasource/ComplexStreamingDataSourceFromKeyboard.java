@@ -17,6 +17,7 @@ import java.util.Scanner;
 public class ComplexStreamingDataSourceFromKeyboard implements
         StreamingDataSource<ObservedValue<List<Double>>> {
   private Observable<ObservedValue<List<Double>>> observable;
+  private volatile boolean stopped = false ;
 
   /**
    * @param observable
@@ -35,7 +36,7 @@ public class ComplexStreamingDataSourceFromKeyboard implements
     Scanner scanner = new Scanner(System.in);
 
 
-    while (true) {
+    while (!stopped) {
       List<Double> values = new ArrayList<>();
       System.out.println("Introduce the new reference point(between commas):");
       String s = scanner.nextLine() ;
@@ -63,6 +64,14 @@ public class ComplexStreamingDataSourceFromKeyboard implements
     }
   }
 
+  /**
+   * Stops reading from the keyboard. The source finishes after the next line is read
+   */
+  @Override
+  public void stop() {
+    stopped = true ;
+  }
+
   @Override
   public Observable<ObservedValue<List<Double>>> getObservable() {
     return observable;
@@ -5,14 +5,21 @@ import org.uma.jmetalsp.observeddata.ObservedValue;
 import org.uma.jmetalsp.observer.Observable;
 import org.uma.jmetalsp.observer.impl.DefaultObservable;
 import org.uma.jmetalsp.observer.impl.KafkaObservable;
+import org.uma.jmetalsp.util.checkpoint.Checkpointable;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 
 /**
  * This class emits the value of a counter periodically after a given delay (in milliseconds)
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 public class SimpleStreamingCounterDataSource
-		implements StreamingDataSource<ObservedValue<Integer>> {
+		implements StreamingDataSource<ObservedValue<Integer>>, Checkpointable {
 	private Observable<ObservedValue<Integer>> observable;
+	private volatile boolean stopped = false ;
+	private volatile int counter = 0 ;
 	private int dataDelay ;
 
 	/**
@@ -35,12 +42,12 @@ public class SimpleStreamingCounterDataSource
 
 	@Override
 	public void run() {
-		int counter = 0 ;
-		while (true) {
+		while (!stopped) {
 			try {
 				Thread.sleep(dataDelay);
 			} catch (InterruptedException e) {
-				e.printStackTrace();
+				Thread.currentThread().interrupt();
+				break ;
 			}
 
 			observable.setChanged(); ;
@@ -49,11 +56,29 @@ public class SimpleStreamingCounterDataSource
 		}
 	}
 
+	@Override
+	public void stop() {
+		stopped = true ;
+	}
+
 	@Override
 	public Observable<ObservedValue<Integer>> getObservable() {
 		return this.observable;
 	}
 
+	/**
+	 * Writes the next value of the counter, so the source resumes from it after a restore
+	 */
+	@Override
+	public void writeCheckpoint(DataOutput output) throws IOException {
+		output.writeInt(counter);
+	}
+
+	@Override
+	public void readCheckpoint(DataInput input) throws IOException {
+		counter = input.readInt() ;
+	}
+
 
 	/**
 	 * main() method to run the streaming por
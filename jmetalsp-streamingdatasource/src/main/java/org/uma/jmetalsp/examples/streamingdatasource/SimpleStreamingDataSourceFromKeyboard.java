@@ -17,6 +17,7 @@ import java.util.Scanner;
 public class SimpleStreamingDataSourceFromKeyboard implements
         StreamingDataSource<ObservedValue<List<Double>>> {
   private Observable<ObservedValue<List<Double>>> observable;
+  private volatile boolean stopped = false ;
 
   /**
    * @param observable
@@ -37,7 +38,7 @@ public class SimpleStreamingDataSourceFromKeyboard implements
     double v1 ;
     double v2 ;
 
-    while (true) {
+    while (!stopped) {
       System.out.println("Introduce the new reference point(between commas):");
       String s = scanner.nextLine() ;
       Scanner sl= new Scanner(s);
@@ -57,6 +58,14 @@ public class SimpleStreamingDataSourceFromKeyboard implements
     }
   }
 
+  /**
+   * Stops reading from the keyboard. The source finishes after the next line is read
+   */
+  @Override
+  public void stop() {
+    stopped = true ;
+  }
+
   @Override
   public Observable<ObservedValue<List<Double>>> getObservable() {
     return observable;
@@ -16,6 +16,7 @@ import java.util.Scanner;
 public class SimpleStreamingTSPDataSourceFromKeyboard
 		implements StreamingDataSource<ObservedValue<TSPMatrixData>> {
 	private Observable<ObservedValue<TSPMatrixData>> observable;
+	private volatile boolean stopped = false ;
 	private int dataDelay ;
 
 	/**
@@ -41,7 +42,7 @@ public class SimpleStreamingTSPDataSourceFromKeyboard
 		Scanner scanner = new Scanner(System.in);
 
 
-		while (true) {
+		while (!stopped) {
 			System.out.println("Introduce the new TSPMatrix [Type, X, Y, Value] (between commas):");
 			String s = scanner.nextLine() ;
 			Scanner sl= new Scanner(s);
@@ -67,6 +68,14 @@ public class SimpleStreamingTSPDataSourceFromKeyboard
 		}
 	}
 
+	/**
+	 * Stops reading from the keyboard. The source finishes after the next line is read
+	 */
+	@Override
+	public void stop() {
+		stopped = true ;
+	}
+
 	@Override
 	public Observable<ObservedValue<TSPMatrixData>> getObservable() {
 		return this.observable;